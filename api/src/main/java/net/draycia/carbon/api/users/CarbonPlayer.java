@@ -193,6 +193,23 @@ public interface CarbonPlayer extends Audience, Identified {
      */
     void muted(boolean muted);
 
+    /**
+     * Mutes the player until the given time.
+     *
+     * @param muted if the player is now muted
+     * @param expiration when the mute ends in epoch milliseconds, or -1 if it never ends
+     * @since 2.1.0
+     */
+    void muted(boolean muted, long expiration);
+
+    /**
+     * Returns when the player's mute ends.
+     *
+     * @return the end of the mute in epoch milliseconds, or -1 if the mute never ends or the player isn't muted
+     * @since 2.1.0
+     */
+    long muteExpiration();
+
     /**
      * Checks if the other player is being ignored by this player.
      *
@@ -114,6 +114,16 @@ class EmptyCarbonPlayer implements CarbonPlayer {
 
     }
 
+    @Override
+    public void muted(final boolean muted, final long expiration) {
+
+    }
+
+    @Override
+    public long muteExpiration() {
+        return -1;
+    }
+
     @Override
     public boolean ignoring(final UUID player) {
         return false;
@@ -0,0 +1,41 @@
+plugins {
+  id("carbon.base-conventions")
+  id("me.champeau.jmh")
+}
+
+dependencies {
+  jmhImplementation(projects.carbonchatCommon)
+
+  // Provided by the platform at runtime
+  jmhImplementation(libs.adventureApi)
+  jmhImplementation(libs.adventureTextSerializerPlain)
+  jmhImplementation(libs.adventureTextSerializerLegacy)
+  jmhImplementation(libs.adventureTextSerializerGson)
+  jmhImplementation(libs.minimessage)
+  jmhImplementation(libs.gson)
+  jmhImplementation(libs.log4jApi)
+  jmhImplementation(libs.luckPermsApi)
+
+  // Storage load generator
+  jmhImplementation(libs.embeddedPostgres)
+  jmhImplementation(libs.mariaDB4j)
+}
+
+jmh {
+  jmhVersion.set(libs.versions.jmh)
+  fork.set(1)
+  warmupIterations.set(3)
+  iterations.set(5)
+}
+
+tasks.register<JavaExec>("storageLoad") {
+  description = "Drives a UserManager with a join, quit and setter mix and reports latency percentiles."
+  group = "benchmark"
+  classpath = sourceSets["jmh"].runtimeClasspath
+  mainClass.set("net.draycia.carbon.benchmarks.storage.StorageLoadGenerator")
+}
+
+// Benchmarks are run locally, never published
+tasks.withType<AbstractPublishToMaven>().configureEach {
+  enabled = false
+}
@@ -0,0 +1,140 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.CarbonChatProvider;
+import net.draycia.carbon.api.channels.ChannelRegistry;
+import net.draycia.carbon.api.events.CarbonEventHandler;
+import net.draycia.carbon.api.util.RenderedMessage;
+import net.draycia.carbon.common.channels.ConfigChatChannel;
+import net.draycia.carbon.common.listeners.RadiusListener;
+import net.draycia.carbon.common.util.ListenerUtils;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.moonshine.message.IMessageRenderer;
+import ninja.egg82.messenger.services.PacketService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Headless {@link CarbonChat} wired through {@link net.draycia.carbon.common.CarbonCommonModule}
+ * with the standard chat listeners registered, shared by every benchmark in the fork.
+ */
+@DefaultQualifier(NonNull.class)
+public final class BenchmarkCarbonChat implements CarbonChat {
+
+    private static @MonotonicNonNull BenchmarkCarbonChat instance;
+
+    private final UUID serverId = UUID.randomUUID();
+    private final Logger logger = LogManager.getLogger("CarbonChat");
+    private final CarbonEventHandler eventHandler = new CarbonEventHandler();
+    private final Path dataDirectory;
+    private final BenchmarkServer server = new BenchmarkServer();
+    private final Injector injector;
+    private final ConfigChatChannel channel;
+
+    private BenchmarkCarbonChat() {
+        CarbonChatProvider.register(this);
+
+        try {
+            this.dataDirectory = Files.createTempDirectory("carbon-benchmarks");
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        this.injector = Guice.createInjector(new BenchmarkModule(this, this.server, this.logger, this.dataDirectory));
+
+        ListenerUtils.registerCommonListeners(this.injector);
+        this.injector.getInstance(RadiusListener.class);
+
+        // Registered directly, loadConfigChannels would also register channel commands
+        this.channel = this.injector.getInstance(ConfigChatChannel.class);
+        this.channelRegistry().register(this.channel.key(), this.channel);
+    }
+
+    public static synchronized BenchmarkCarbonChat instance() {
+        if (instance == null) {
+            instance = new BenchmarkCarbonChat();
+        }
+
+        return instance;
+    }
+
+    public Injector injector() {
+        return this.injector;
+    }
+
+    public ConfigChatChannel channel() {
+        return this.channel;
+    }
+
+    @Override
+    public UUID serverId() {
+        return this.serverId;
+    }
+
+    @Override
+    public Logger logger() {
+        return this.logger;
+    }
+
+    @Override
+    public @Nullable PacketService packetService() {
+        return null;
+    }
+
+    @Override
+    public Path dataDirectory() {
+        return this.dataDirectory;
+    }
+
+    @Override
+    public CarbonEventHandler eventHandler() {
+        return this.eventHandler;
+    }
+
+    @Override
+    public BenchmarkServer server() {
+        return this.server;
+    }
+
+    @Override
+    public ChannelRegistry channelRegistry() {
+        return this.injector.getInstance(ChannelRegistry.class);
+    }
+
+    @Override
+    public IMessageRenderer<Audience, String, RenderedMessage, Component> messageRenderer() {
+        return this.injector.getInstance(BenchmarkMessageRenderer.class);
+    }
+
+}
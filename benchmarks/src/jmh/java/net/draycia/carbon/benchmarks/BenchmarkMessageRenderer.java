@@ -0,0 +1,55 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks;
+
+import com.google.inject.Inject;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Map;
+import net.draycia.carbon.api.util.RenderedMessage;
+import net.draycia.carbon.common.messages.CarbonMessageRenderer;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.moonshine.message.IMessageRenderer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+public final class BenchmarkMessageRenderer<T extends Audience> implements IMessageRenderer<T, String, RenderedMessage, Component> {
+
+    private final CarbonMessageRenderer delegate;
+
+    @Inject
+    public BenchmarkMessageRenderer(final CarbonMessageRenderer delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public RenderedMessage render(
+        final T receiver,
+        final String intermediateMessage,
+        final Map<String, ? extends Component> resolvedPlaceholders,
+        final Method method,
+        final Type owner
+    ) {
+        return this.delegate.render(receiver, intermediateMessage, resolvedPlaceholders, method, owner);
+    }
+
+}
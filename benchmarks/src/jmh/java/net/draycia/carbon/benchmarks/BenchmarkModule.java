@@ -0,0 +1,85 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import java.nio.file.Path;
+import java.util.List;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.CarbonServer;
+import net.draycia.carbon.api.util.RenderedMessage;
+import net.draycia.carbon.api.util.SourcedAudience;
+import net.draycia.carbon.common.CarbonCommonModule;
+import net.draycia.carbon.common.ForCarbon;
+import net.draycia.carbon.common.command.argument.PlayerSuggestions;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.moonshine.message.IMessageRenderer;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+final class BenchmarkModule extends AbstractModule {
+
+    private final BenchmarkCarbonChat carbonChat;
+    private final BenchmarkServer server;
+    private final Logger logger;
+    private final Path dataDirectory;
+
+    BenchmarkModule(
+        final BenchmarkCarbonChat carbonChat,
+        final BenchmarkServer server,
+        final Logger logger,
+        final Path dataDirectory
+    ) {
+        this.carbonChat = carbonChat;
+        this.server = server;
+        this.logger = logger;
+        this.dataDirectory = dataDirectory;
+    }
+
+    @Provides
+    @Singleton
+    public IMessageRenderer<Audience, String, RenderedMessage, Component> messageRenderer(final Injector injector) {
+        return injector.getInstance(BenchmarkMessageRenderer.class);
+    }
+
+    @Provides
+    @Singleton
+    public IMessageRenderer<SourcedAudience, String, RenderedMessage, Component> sourcedRenderer(final Injector injector) {
+        return injector.getInstance(BenchmarkMessageRenderer.class);
+    }
+
+    @Override
+    public void configure() {
+        this.install(new CarbonCommonModule());
+
+        this.bind(CarbonChat.class).toInstance(this.carbonChat);
+        this.bind(Logger.class).toInstance(this.logger);
+        this.bind(Path.class).annotatedWith(ForCarbon.class).toInstance(this.dataDirectory);
+        this.bind(CarbonServer.class).toInstance(this.server);
+        this.bind(PlayerSuggestions.class).toInstance((context, input) -> List.of());
+    }
+
+}
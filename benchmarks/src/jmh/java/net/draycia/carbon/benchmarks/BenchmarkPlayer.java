@@ -0,0 +1,48 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks;
+
+import java.util.Set;
+import java.util.UUID;
+import net.draycia.carbon.common.users.CarbonPlayerCommon;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+public final class BenchmarkPlayer extends CarbonPlayerCommon {
+
+    private final Set<String> permissions;
+
+    public BenchmarkPlayer(final String username, final UUID uuid, final Set<String> permissions) {
+        super(username, uuid);
+        this.permissions = permissions;
+    }
+
+    @Override
+    public boolean hasPermission(final String permission) {
+        return this.permissions.contains(permission);
+    }
+
+    @Override
+    public boolean online() {
+        return true;
+    }
+
+}
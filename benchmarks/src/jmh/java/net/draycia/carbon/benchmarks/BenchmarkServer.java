@@ -0,0 +1,114 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks;
+
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import net.draycia.carbon.api.CarbonServer;
+import net.draycia.carbon.api.users.UserManager;
+import net.draycia.carbon.common.users.CarbonPlayerCommon;
+import net.kyori.adventure.audience.Audience;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+public final class BenchmarkServer implements CarbonServer {
+
+    private volatile List<BenchmarkPlayer> players = List.of();
+    private volatile @Nullable UserManager<CarbonPlayerCommon> userManager = null;
+
+    /**
+     * Replaces the online players with {@code count} synthetic players, every
+     * other one of which is allowed to use message tags.
+     *
+     * @param count the number of online players
+     * @param channelPermission the permission of the channel the players speak and listen in
+     * @return the new online players
+     */
+    public List<BenchmarkPlayer> populate(final int count, final String channelPermission) {
+        final List<BenchmarkPlayer> players = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            final Set<String> permissions = i % 2 == 0
+                ? Set.of(channelPermission + ".see", channelPermission + ".speak", "carbon.messagetags", "carbon.messagetags.color")
+                : Set.of(channelPermission + ".see", channelPermission + ".speak");
+
+            players.add(new BenchmarkPlayer("Player" + i, UUID.randomUUID(), permissions));
+        }
+
+        this.players = List.copyOf(players);
+        return this.players;
+    }
+
+    @Override
+    public Audience console() {
+        return Audience.empty();
+    }
+
+    @Override
+    public List<BenchmarkPlayer> players() {
+        return this.players;
+    }
+
+    @Override
+    public UserManager<CarbonPlayerCommon> userManager() {
+        final @Nullable UserManager<CarbonPlayerCommon> userManager = this.userManager;
+
+        if (userManager != null) {
+            return userManager;
+        }
+
+        return BenchmarkCarbonChat.instance().injector().getInstance(Key.get(new TypeLiteral<UserManager<CarbonPlayerCommon>>() {}));
+    }
+
+    public void userManager(final UserManager<CarbonPlayerCommon> userManager) {
+        this.userManager = userManager;
+    }
+
+    @Override
+    public CompletableFuture<@Nullable UUID> resolveUUID(final String username) {
+        for (final BenchmarkPlayer player : this.players) {
+            if (player.username().equalsIgnoreCase(username)) {
+                return CompletableFuture.completedFuture(player.uuid());
+            }
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<@Nullable String> resolveName(final UUID uuid) {
+        for (final BenchmarkPlayer player : this.players) {
+            if (player.uuid().equals(uuid)) {
+                return CompletableFuture.completedFuture(player.username());
+            }
+        }
+
+        // Stands in for a profile lookup so storage can create users that were never online
+        return CompletableFuture.completedFuture("Player-" + uuid.toString().substring(0, 8));
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import net.draycia.carbon.api.events.CarbonChatEvent;
+import net.draycia.carbon.api.util.KeyedRenderer;
+import net.draycia.carbon.api.util.RenderedMessage;
+import net.kyori.adventure.key.Key;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@DefaultQualifier(NonNull.class)
+public class ChatEventBenchmark {
+
+    private static final Key PING_RENDERER = Key.key("carbon", "pings");
+
+    private @MonotonicNonNull KeyedRenderer pingRenderer;
+
+    @Setup(Level.Trial)
+    public void setup(final ChatState state) {
+        final CarbonChatEvent event = this.event(state);
+        state.carbonChat.eventHandler().emit(event);
+
+        for (final KeyedRenderer renderer : event.renderers()) {
+            if (renderer.key().equals(PING_RENDERER)) {
+                this.pingRenderer = renderer;
+            }
+        }
+
+        if (this.pingRenderer == null) {
+            throw new IllegalStateException("PingHandler did not add its renderer");
+        }
+    }
+
+    @Benchmark
+    public CarbonChatEvent emit(final ChatState state) {
+        final CarbonChatEvent event = this.event(state);
+        state.carbonChat.eventHandler().emit(event);
+        return event;
+    }
+
+    @Benchmark
+    public RenderedMessage pingRender(final ChatState state) {
+        return this.pingRenderer.render(state.sender, state.recipient, state.message, state.message);
+    }
+
+    private CarbonChatEvent event(final ChatState state) {
+        return new CarbonChatEvent(state.sender, state.message, state.recipients, new ArrayList<>(), state.channel, false);
+    }
+
+}
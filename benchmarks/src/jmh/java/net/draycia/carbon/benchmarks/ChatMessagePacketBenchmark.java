@@ -0,0 +1,90 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.draycia.carbon.common.messaging.packets.ChatMessagePacket;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@DefaultQualifier(NonNull.class)
+public class ChatMessagePacketBenchmark {
+
+    private @MonotonicNonNull ChatMessagePacket packet;
+    private @MonotonicNonNull ByteBuf buffer;
+    private @MonotonicNonNull ByteBuf encoded;
+
+    @Setup(Level.Trial)
+    public void setup(final ChatState state) {
+        this.packet = new ChatMessagePacket(
+            state.carbonChat.serverId(),
+            state.sender.uuid(),
+            state.channel.permission(),
+            state.channel.key(),
+            state.sender.username(),
+            "<display_name>: <message>",
+            Map.of("display_name", "<white>" + state.sender.username(), "message", state.plainMessage),
+            Map.of("<mainhand>", Component.text("[Diamond Sword]", NamedTextColor.AQUA))
+        );
+        this.buffer = Unpooled.buffer();
+        this.encoded = Unpooled.buffer();
+        this.packet.write(this.encoded);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.buffer.release();
+        this.encoded.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() {
+        this.buffer.clear();
+        this.packet.write(this.buffer);
+        return this.buffer;
+    }
+
+    @Benchmark
+    public ChatMessagePacket decode() {
+        this.encoded.readerIndex(0);
+        final ChatMessagePacket decoded = new ChatMessagePacket();
+        decoded.read(this.encoded);
+        return decoded;
+    }
+
+}
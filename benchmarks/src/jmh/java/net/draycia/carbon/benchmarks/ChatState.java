@@ -0,0 +1,72 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks;
+
+import java.util.List;
+import net.draycia.carbon.common.channels.ConfigChatChannel;
+import net.draycia.carbon.common.util.MessageTagParsers;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A channel with {@link #onlinePlayers} synthetic players online, half of which may use message tags.
+ */
+@State(Scope.Benchmark)
+@DefaultQualifier(NonNull.class)
+public class ChatState {
+
+    @Param({"10", "100", "1000"})
+    public int onlinePlayers;
+
+    public String plainMessage = "hey Player1, have you seen the new build at spawn? https://example.com/spawn";
+    public String taggedMessage = "<red>hey <bold>Player1</bold></red>, <rainbow>have you seen the new build at spawn?</rainbow>";
+
+    public @MonotonicNonNull BenchmarkCarbonChat carbonChat;
+    public @MonotonicNonNull ConfigChatChannel channel;
+    public @MonotonicNonNull MessageTagParsers messageTagParsers;
+    public @MonotonicNonNull List<BenchmarkPlayer> players;
+    public @MonotonicNonNull BenchmarkPlayer sender;
+    public @MonotonicNonNull BenchmarkPlayer untaggedSender;
+    public @MonotonicNonNull BenchmarkPlayer recipient;
+    public @MonotonicNonNull List<Audience> recipients;
+    public @MonotonicNonNull Component message;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.carbonChat = BenchmarkCarbonChat.instance();
+        this.channel = this.carbonChat.channel();
+        this.messageTagParsers = this.carbonChat.injector().getInstance(MessageTagParsers.class);
+        this.players = this.carbonChat.server().populate(this.onlinePlayers, this.channel.permission());
+        this.sender = this.players.get(0);
+        this.untaggedSender = this.players.get(1);
+        this.recipient = this.players.get(1);
+        this.recipients = this.channel.recipients(this.sender);
+        this.message = this.messageTagParsers.parse(this.sender, this.plainMessage);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.draycia.carbon.api.util.RenderedMessage;
+import net.draycia.carbon.common.messages.CarbonMessageRenderer;
+import net.draycia.carbon.common.messages.CarbonMessages;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@DefaultQualifier(NonNull.class)
+public class MessageRendererBenchmark {
+
+    private @MonotonicNonNull CarbonMessageRenderer renderer;
+    private @MonotonicNonNull Method method;
+    private @MonotonicNonNull Map<String, Component> placeholders;
+
+    @Setup(Level.Trial)
+    public void setup(final ChatState state) throws NoSuchMethodException {
+        this.renderer = state.carbonChat.injector().getInstance(CarbonMessageRenderer.class);
+        this.method = CarbonMessages.class.getMethod("basicChatFormat",
+            Audience.class, UUID.class, Component.class, String.class, Component.class);
+        this.placeholders = Map.of(
+            "display_name", Component.text(state.sender.username()),
+            "message", state.message
+        );
+    }
+
+    @Benchmark
+    public RenderedMessage render(final ChatState state) {
+        return this.renderer.render(state.recipient, "<display_name>: <message>", this.placeholders, this.method, CarbonMessages.class);
+    }
+
+}
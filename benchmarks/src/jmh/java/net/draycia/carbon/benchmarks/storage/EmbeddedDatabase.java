@@ -0,0 +1,82 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks.storage;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import net.draycia.carbon.common.config.DatabaseSettings;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * A throwaway local database process, so storage runs don't need a database server installed.
+ */
+@DefaultQualifier(NonNull.class)
+interface EmbeddedDatabase extends AutoCloseable {
+
+    DatabaseSettings settings();
+
+    @Override
+    void close() throws Exception;
+
+    static EmbeddedDatabase postgres() throws IOException {
+        final EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        final DatabaseSettings settings = new DatabaseSettings(postgres.getJdbcUrl("postgres", "postgres"), "postgres", "");
+
+        return new EmbeddedDatabase() {
+            @Override
+            public DatabaseSettings settings() {
+                return settings;
+            }
+
+            @Override
+            public void close() throws IOException {
+                postgres.close();
+            }
+        };
+    }
+
+    static EmbeddedDatabase mariadb() throws ManagedProcessException {
+        final DBConfigurationBuilder configuration = DBConfigurationBuilder.newBuilder();
+        configuration.setPort(0);
+
+        final DB database = DB.newEmbeddedDB(configuration.build());
+        database.start();
+        database.createDB("carbon");
+
+        final DatabaseSettings settings = new DatabaseSettings(configuration.getURL("carbon"), "root", "");
+
+        return new EmbeddedDatabase() {
+            @Override
+            public DatabaseSettings settings() {
+                return settings;
+            }
+
+            @Override
+            public void close() throws ManagedProcessException {
+                database.stop();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks.storage;
+
+import java.util.Arrays;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Collects raw latency samples of a single worker, merged into one recorder once the run is over.
+ */
+@DefaultQualifier(NonNull.class)
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size = 0;
+    private boolean sorted = true;
+
+    void record(final long nanos) {
+        if (this.size == this.samples.length) {
+            this.samples = Arrays.copyOf(this.samples, this.size * 2);
+        }
+
+        this.samples[this.size++] = nanos;
+        this.sorted = false;
+    }
+
+    void merge(final LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            this.record(other.samples[i]);
+        }
+    }
+
+    int count() {
+        return this.size;
+    }
+
+    long percentile(final double percentile) {
+        if (this.size == 0) {
+            return 0;
+        }
+
+        if (!this.sorted) {
+            Arrays.sort(this.samples, 0, this.size);
+            this.sorted = true;
+        }
+
+        final int index = (int) Math.ceil(percentile / 100.0 * this.size) - 1;
+        return this.samples[Math.max(0, Math.min(index, this.size - 1))];
+    }
+
+}
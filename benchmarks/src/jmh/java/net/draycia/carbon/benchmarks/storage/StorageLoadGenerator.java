@@ -0,0 +1,273 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.benchmarks.storage;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import net.draycia.carbon.api.users.UserManager;
+import net.draycia.carbon.benchmarks.BenchmarkCarbonChat;
+import net.draycia.carbon.common.config.DatabaseSettings;
+import net.draycia.carbon.common.config.PrimaryConfig;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import net.draycia.carbon.common.users.CarbonPlayerCommon;
+import net.draycia.carbon.common.users.ProxiedCachingUserManager;
+import net.draycia.carbon.common.users.db.mysql.MySQLUserManager;
+import net.draycia.carbon.common.users.db.postgresql.PostgreSQLUserManager;
+import net.draycia.carbon.common.users.json.JSONUserManager;
+import net.draycia.carbon.common.util.IoExecutor;
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Drives a {@link UserManager} with a mix of joins, quits and setters from several threads
+ * and reports p50/p99 latency per operation and overall throughput.
+ *
+ * <p>Options are passed as {@code --name=value}:</p>
+ * <ul>
+ *     <li>{@code storage}: json, mysql or psql (default json)</li>
+ *     <li>{@code url}, {@code username}, {@code password}: an existing database to use instead of an embedded one</li>
+ *     <li>{@code proxied}: wrap the storage in {@link ProxiedCachingUserManager}, as on velocity (default false)</li>
+ *     <li>{@code players}: distinct players (default 500)</li>
+ *     <li>{@code operations}: operations per thread (default 5000)</li>
+ *     <li>{@code threads}: concurrent workers (default 8)</li>
+ *     <li>{@code quit}: percentage of operations on online players that are quits (default 10)</li>
+ * </ul>
+ */
+@DefaultQualifier(NonNull.class)
+public final class StorageLoadGenerator {
+
+    private enum Operation {
+        JOIN,
+        QUIT,
+        SETTER
+    }
+
+    private StorageLoadGenerator() {
+
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = parseOptions(args);
+        final PrimaryConfig.StorageType storageType = PrimaryConfig.StorageType.valueOf(
+            options.getOrDefault("storage", "json").toUpperCase(Locale.ROOT));
+        final boolean proxied = Boolean.parseBoolean(options.getOrDefault("proxied", "false"));
+        final int playerCount = Integer.parseInt(options.getOrDefault("players", "500"));
+        final int operations = Integer.parseInt(options.getOrDefault("operations", "5000"));
+        final int threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+        final int quitPercent = Integer.parseInt(options.getOrDefault("quit", "10"));
+
+        final BenchmarkCarbonChat carbonChat = BenchmarkCarbonChat.instance();
+        @Nullable EmbeddedDatabase embeddedDatabase = null;
+
+        try {
+            final UserManager<CarbonPlayerCommon> storage;
+
+            if (storageType == PrimaryConfig.StorageType.JSON) {
+                storage = carbonChat.injector().getInstance(JSONUserManager.class);
+            } else {
+                final DatabaseSettings settings;
+
+                if (options.containsKey("url")) {
+                    settings = new DatabaseSettings(options.get("url"), options.get("username"), options.get("password"));
+                } else {
+                    embeddedDatabase = storageType == PrimaryConfig.StorageType.PSQL
+                        ? EmbeddedDatabase.postgres()
+                        : EmbeddedDatabase.mariadb();
+                    settings = embeddedDatabase.settings();
+                }
+
+                final MetricsRegistry metrics = carbonChat.injector().getInstance(MetricsRegistry.class);
+                final IoExecutor ioExecutor = carbonChat.injector().getInstance(IoExecutor.class);
+
+                storage = storageType == PrimaryConfig.StorageType.PSQL
+                    ? PostgreSQLUserManager.manager(settings, metrics, ioExecutor)
+                    : MySQLUserManager.manager(settings, metrics, ioExecutor);
+            }
+
+            final UserManager<CarbonPlayerCommon> userManager = proxied
+                ? new ProxiedCachingUserManager(storage, carbonChat)
+                : storage;
+
+            carbonChat.server().userManager(userManager);
+
+            final List<UUID> uuids = new ArrayList<>(playerCount);
+
+            for (int i = 0; i < playerCount; i++) {
+                uuids.add(UUID.randomUUID());
+            }
+
+            run(userManager, uuids, threads, operations, quitPercent,
+                storageType + (proxied ? " (proxied caching)" : ""));
+        } finally {
+            if (embeddedDatabase != null) {
+                embeddedDatabase.close();
+            }
+        }
+
+        System.exit(0);
+    }
+
+    private static void run(
+        final UserManager<CarbonPlayerCommon> userManager,
+        final List<UUID> uuids,
+        final int threads,
+        final int operations,
+        final int quitPercent,
+        final String description
+    ) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>(threads);
+        final long start = System.nanoTime();
+
+        for (int thread = 0; thread < threads; thread++) {
+            // Every worker owns its own slice of players, so a player is never joined twice at once
+            final List<UUID> partition = new ArrayList<>();
+
+            for (int i = thread; i < uuids.size(); i += threads) {
+                partition.add(uuids.get(i));
+            }
+
+            futures.add(executor.submit(() -> work(userManager, partition, operations, quitPercent)));
+        }
+
+        final Map<Operation, LatencyRecorder> results = recorders();
+
+        for (final Future<Map<Operation, LatencyRecorder>> future : futures) {
+            for (final Map.Entry<Operation, LatencyRecorder> entry : future.get().entrySet()) {
+                results.get(entry.getKey()).merge(entry.getValue());
+            }
+        }
+
+        final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        executor.shutdown();
+
+        int total = 0;
+
+        for (final LatencyRecorder recorder : results.values()) {
+            total += recorder.count();
+        }
+
+        System.out.printf(Locale.ROOT, "%s: %d threads, %d players, %d operations in %.2fs (%.1f ops/s)%n",
+            description, threads, uuids.size(), total, seconds, total / seconds);
+        System.out.printf(Locale.ROOT, "%-8s %10s %12s %12s%n", "op", "count", "p50 (ms)", "p99 (ms)");
+
+        for (final Map.Entry<Operation, LatencyRecorder> entry : results.entrySet()) {
+            final LatencyRecorder recorder = entry.getValue();
+
+            System.out.printf(Locale.ROOT, "%-8s %10d %12.3f %12.3f%n",
+                entry.getKey().name().toLowerCase(Locale.ROOT),
+                recorder.count(),
+                recorder.percentile(50) / 1_000_000.0,
+                recorder.percentile(99) / 1_000_000.0);
+        }
+    }
+
+    private static Map<Operation, LatencyRecorder> work(
+        final UserManager<CarbonPlayerCommon> userManager,
+        final List<UUID> uuids,
+        final int operations,
+        final int quitPercent
+    ) {
+        final Map<Operation, LatencyRecorder> recorders = recorders();
+        final @Nullable CarbonPlayerCommon[] online = new CarbonPlayerCommon[uuids.size()];
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < operations; i++) {
+            final int index = random.nextInt(uuids.size());
+            final @Nullable CarbonPlayerCommon player = online[index];
+            final Operation operation;
+            final long start = System.nanoTime();
+
+            if (player == null) {
+                operation = Operation.JOIN;
+                online[index] = userManager.carbonPlayer(uuids.get(index)).join().player();
+            } else if (random.nextInt(100) < quitPercent) {
+                operation = Operation.QUIT;
+                userManager.saveAndInvalidatePlayer(player).join();
+                online[index] = null;
+            } else {
+                operation = Operation.SETTER;
+                applySetter(player, uuids.get(random.nextInt(uuids.size())), random);
+            }
+
+            recorders.get(operation).record(System.nanoTime() - start);
+        }
+
+        for (final @Nullable CarbonPlayerCommon player : online) {
+            if (player != null) {
+                userManager.saveAndInvalidatePlayer(player).join();
+            }
+        }
+
+        return recorders;
+    }
+
+    private static void applySetter(final CarbonPlayerCommon player, final UUID other, final ThreadLocalRandom random) {
+        switch (random.nextInt(5)) {
+            case 0 -> player.muted(random.nextBoolean());
+            case 1 -> player.deafened(random.nextBoolean());
+            case 2 -> player.spying(random.nextBoolean());
+            case 3 -> player.displayName(Component.text(player.username() + random.nextInt(100)));
+            default -> player.ignoring(other, random.nextBoolean());
+        }
+    }
+
+    private static Map<Operation, LatencyRecorder> recorders() {
+        final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+
+        for (final Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+
+        return recorders;
+    }
+
+    private static Map<String, String> parseOptions(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+
+        for (final String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument [" + arg + "], expected --name=value");
+            }
+
+            final int separator = arg.indexOf('=');
+
+            if (separator == -1) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        return options;
+    }
+
+}
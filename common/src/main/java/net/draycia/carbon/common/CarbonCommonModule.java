@@ -31,6 +31,7 @@ import net.draycia.carbon.api.users.UserManager;
 import net.draycia.carbon.api.util.RenderedMessage;
 import net.draycia.carbon.common.channels.CarbonChannelRegistry;
 import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.config.DataDirectoryWatcher;
 import net.draycia.carbon.common.messages.CarbonMessageSender;
 import net.draycia.carbon.common.messages.CarbonMessageSource;
 import net.draycia.carbon.common.messages.CarbonMessages;
@@ -41,10 +42,15 @@ import net.draycia.carbon.common.messages.placeholders.ComponentPlaceholderResol
 import net.draycia.carbon.common.messages.placeholders.KeyPlaceholderResolver;
 import net.draycia.carbon.common.messages.placeholders.StringPlaceholderResolver;
 import net.draycia.carbon.common.messages.placeholders.UUIDPlaceholderResolver;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import net.draycia.carbon.common.metrics.PrometheusEndpoint;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
 import net.draycia.carbon.common.users.db.mysql.MySQLUserManager;
 import net.draycia.carbon.common.users.db.postgresql.PostgreSQLUserManager;
 import net.draycia.carbon.common.users.json.JSONUserManager;
+import net.draycia.carbon.common.users.profiles.MojangProfileLookup;
+import net.draycia.carbon.common.users.profiles.ProfileLookup;
+import net.draycia.carbon.common.util.IoExecutor;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
@@ -61,11 +67,13 @@ public final class CarbonCommonModule extends AbstractModule {
     @Singleton
     public UserManager<CarbonPlayerCommon> userManager(
         final ConfigFactory configFactory,
+        final MetricsRegistry metrics,
+        final IoExecutor ioExecutor,
         final Injector injector
     ) {
         return switch (Objects.requireNonNull(configFactory.primaryConfig()).storageType()) {
-            case MYSQL -> MySQLUserManager.manager(configFactory.primaryConfig().databaseSettings());
-            case PSQL -> PostgreSQLUserManager.manager(configFactory.primaryConfig().databaseSettings());
+            case MYSQL -> MySQLUserManager.manager(configFactory.primaryConfig().databaseSettings(), metrics, ioExecutor);
+            case PSQL -> PostgreSQLUserManager.manager(configFactory.primaryConfig().databaseSettings(), metrics, ioExecutor);
             default -> injector.getInstance(JSONUserManager.class);
         };
     }
@@ -100,6 +108,11 @@ public final class CarbonCommonModule extends AbstractModule {
     @Override
     protected void configure() {
         this.bind(ChannelRegistry.class).to(CarbonChannelRegistry.class);
+        this.bind(ProfileLookup.class).to(MojangProfileLookup.class);
+
+        // Services that only run in the background, nothing else asks for them
+        this.bind(PrometheusEndpoint.class).asEagerSingleton();
+        this.bind(DataDirectoryWatcher.class).asEagerSingleton();
     }
 
 }
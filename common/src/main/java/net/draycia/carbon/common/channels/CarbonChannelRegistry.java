@@ -34,12 +34,17 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.CarbonChatProvider;
@@ -55,8 +60,17 @@ import net.draycia.carbon.common.command.PlayerCommander;
 import net.draycia.carbon.common.config.ConfigFactory;
 import net.draycia.carbon.common.events.CarbonReloadEvent;
 import net.draycia.carbon.common.events.ChannelRegisterEvent;
+import net.draycia.carbon.common.filter.WordFilter;
+import net.draycia.carbon.common.jfr.ChatMessageEvent;
+import net.draycia.carbon.common.jfr.ChatPacketPublishEvent;
+import net.draycia.carbon.common.listeners.ItemLinkHandler;
 import net.draycia.carbon.common.messages.CarbonMessages;
 import net.draycia.carbon.common.messaging.packets.ChatMessagePacket;
+import net.draycia.carbon.common.metrics.ChatTrace;
+import net.draycia.carbon.common.metrics.ChatTracer;
+import net.draycia.carbon.common.metrics.Counter;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import net.draycia.carbon.common.util.IoExecutor;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
@@ -104,6 +118,11 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
     private final CarbonChat carbonChat;
 
     private final BiMap<Key, ChatChannel> channelMap = Maps.synchronizedBiMap(HashBiMap.create());
+    private final Map<Path, ChannelFileFingerprint> channelFiles = new ConcurrentHashMap<>();
+    private volatile @Nullable QuickPrefixTrie quickPrefixes = null;
+    private final Counter packetsPublished;
+    private final ChatTracer tracer;
+    private final IoExecutor ioExecutor;
 
     @Inject
     public CarbonChannelRegistry(
@@ -113,7 +132,10 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
         final ConfigFactory configFactory,
         final CarbonMessages carbonMessages,
         //final BasicChatChannel basicChannel,
-        final CarbonChat carbonChat
+        final CarbonChat carbonChat,
+        final MetricsRegistry metrics,
+        final ChatTracer tracer,
+        final IoExecutor ioExecutor
     ) {
         this.configChannelDir = dataDirectory.resolve("channels");
         this.injector = injector;
@@ -122,6 +144,10 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
         this.carbonMessages = carbonMessages;
         //this.basicChannel = basicChannel;
         this.carbonChat = carbonChat;
+        this.packetsPublished = metrics.counter("carbon_packets_total", "Chat packets sent and received between servers.",
+            "direction", "published");
+        this.tracer = tracer;
+        this.ioExecutor = ioExecutor;
 
         carbonChat.eventHandler().subscribe(CarbonReloadEvent.class, event -> {
             this.reloadRegisteredConfigChannels();
@@ -171,32 +197,107 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
         return node;
     }
 
+    /**
+     * Reloads the channel files that changed since they were last loaded, replacing
+     * the changed channels all at once. Unchanged channels are kept as they are.
+     */
     public void reloadRegisteredConfigChannels() {
         try (final Stream<Path> paths = Files.walk(this.configChannelDir)) {
-            paths.forEach(path -> {
-                final String fileName = path.getFileName().toString();
+            this.reloadChannelFiles(paths.filter(path -> path.getFileName().toString().endsWith(".conf")).toList());
+        } catch (final IOException exception) {
+            exception.printStackTrace();
+        }
+    }
 
-                if (!fileName.endsWith(".conf")) {
-                    return;
-                }
+    /**
+     * Reloads the given channel files if they changed since they were last loaded.
+     *
+     * @param channelFiles the channel files
+     */
+    public void reloadChannelFiles(final Collection<Path> channelFiles) {
+        final Map<Key, ChatChannel> changed = new LinkedHashMap<>();
+
+        for (final Path channelFile : channelFiles) {
+            // Deleted channels stay registered until the next restart, like before
+            if (!Files.isRegularFile(channelFile)) {
+                this.channelFiles.remove(channelFile);
+                continue;
+            }
 
-                final @Nullable ChatChannel chatChannel = this.registerChannelFromPath(path);
+            final @Nullable ChatChannel chatChannel = this.reloadChannelIfChanged(channelFile);
 
-                if (chatChannel == null) {
-                    return;
+            if (chatChannel != null) {
+                changed.put(chatChannel.key(), chatChannel);
+            }
+        }
+
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        final List<ChatChannel> added = new ArrayList<>();
+
+        synchronized (this.channelMap) {
+            for (final ChatChannel chatChannel : changed.values()) {
+                if (!this.channelMap.containsKey(chatChannel.key())) {
+                    added.add(chatChannel);
                 }
+            }
+
+            this.channelMap.putAll(changed);
+            this.quickPrefixes = null;
+        }
 
-                final @Nullable ChatChannel existingChannel = this.get(chatChannel.key());
+        final List<String> channelList = new ArrayList<>();
 
-                if (existingChannel == null) {
-                    return;
+        for (final Key key : changed.keySet()) {
+            channelList.add(key.asString());
+        }
+
+        this.logger.info("Reloaded channels: [" + String.join(", ", channelList) + "]");
+        this.loadMessagesAhead(changed.values());
+        this.carbonChat.eventHandler().emit(new ChannelRegisterEvent(changed.values(), this));
+
+        // Channels that were already registered keep their commands, which look the channel up by key
+        for (final ChatChannel chatChannel : added) {
+            if (!chatChannel.shouldRegisterCommands()) {
+                continue;
+            }
+
+            try {
+                this.registerChannelCommands(chatChannel);
+            } catch (final IllegalStateException exception) {
+                // Most platforms lock command registration once the server has started
+                this.logger.warn("Channel [" + chatChannel.key().asString() + "] was added while running, "
+                    + "its command will be registered after a restart.");
+            }
+        }
+    }
+
+    private @Nullable ChatChannel reloadChannelIfChanged(final Path channelFile) {
+        final @Nullable ChannelFileFingerprint previous = this.channelFiles.get(channelFile);
+
+        if (previous != null) {
+            try {
+                final @Nullable ChannelFileFingerprint unchanged = previous.unchanged(channelFile);
+
+                if (unchanged != null) {
+                    this.channelFiles.put(channelFile, unchanged);
+                    return null;
                 }
+            } catch (final IOException exception) {
+                exception.printStackTrace();
+                return null;
+            }
+        }
 
-                this.register(chatChannel.key(), chatChannel);
-            });
-        } catch (final IOException exception) {
-            exception.printStackTrace();
+        final @Nullable ChatChannel chatChannel = this.loadChannel(channelFile);
+
+        if (chatChannel == null) {
+            this.logger.warn("Failed to reload channel from file [" + channelFile.getFileName() + "]");
         }
+
+        return chatChannel;
     }
 
     public void loadConfigChannels(final CarbonMessages carbonMessages) {
@@ -214,24 +315,25 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
 
         // otherwise, register all channels found
         try (final Stream<Path> paths = Files.walk(this.configChannelDir)) {
-            paths.forEach(path -> {
-                final String fileName = path.getFileName().toString();
+            final List<Path> channelFiles = paths.filter(path -> path.getFileName().toString().endsWith(".conf")).toList();
 
-                if (!fileName.endsWith(".conf")) {
-                    return;
-                }
+            // Files are parsed in parallel, then registered in order
+            final List<Optional<ChatChannel>> loadedChannels = channelFiles.parallelStream()
+                .map(path -> Optional.ofNullable(this.loadChannel(path)))
+                .toList();
 
-                final @Nullable ChatChannel chatChannel = this.registerChannelFromPath(path);
+            for (int i = 0; i < channelFiles.size(); i++) {
+                final @Nullable ChatChannel chatChannel = this.registerChannel(loadedChannels.get(i).orElse(null));
 
                 if (chatChannel == null) {
-                    this.logger.warn("Failed to load channel from file [" + fileName + "]");
-                    return;
+                    this.logger.warn("Failed to load channel from file [" + channelFiles.get(i).getFileName() + "]");
+                    continue;
                 }
 
                 if (chatChannel.shouldRegisterCommands()) {
                     this.registerChannelCommands(chatChannel);
                 }
-            });
+            }
 
             if (!this.channelMap.containsKey(this.defaultKey)) {
                 this.logger.warn("No default channel found! Default channel key: [" + this.defaultKey().asString() + "]");
@@ -250,16 +352,39 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
             exception.printStackTrace();
         }
 
+        this.loadMessagesAhead(List.copyOf(this.channelMap.values()));
         this.carbonChat.eventHandler().emit(new ChannelRegisterEvent(this.channelMap.values(), this));
     }
 
+    private void loadMessagesAhead(final Collection<ChatChannel> channels) {
+        for (final ChatChannel channel : channels) {
+            if (channel instanceof ConfigChatChannel configChannel) {
+                CompletableFuture.runAsync(configChannel::loadMessagesAhead, this.ioExecutor).exceptionally(throwable -> {
+                    this.logger.error("Failed to load the messages of channel [" + channel.key().asString() + "]", throwable);
+                    return null;
+                });
+            }
+        }
+    }
+
     public @Nullable ChatChannel loadChannel(final Path channelFile) {
         final ConfigurationLoader<?> loader = this.configFactory.configurationLoader(channelFile);
 
         try {
-            final var loaded = updateNode(loader.load());
-            loader.save(loaded);
-            return MAPPER.load(loaded);
+            final var loaded = loader.load();
+            final var transformation = versioned();
+            final int startVersion = transformation.version(loaded);
+            updateNode(loaded);
+
+            // Only write the file back when a migration changed it
+            if (transformation.version(loaded) != startVersion) {
+                loader.save(loaded);
+            }
+
+            final ChatChannel channel = MAPPER.load(loaded);
+            this.fingerprint(channelFile);
+
+            return channel;
         } catch (final ConfigurateException exception) {
             exception.printStackTrace();
         }
@@ -267,6 +392,15 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
         return null;
     }
 
+    private void fingerprint(final Path channelFile) {
+        try {
+            this.channelFiles.put(channelFile, ChannelFileFingerprint.read(channelFile));
+        } catch (final IOException exception) {
+            // Can't tell whether it changed, so it'll be loaded again on the next reload
+            this.channelFiles.remove(channelFile);
+        }
+    }
+
     private void registerDefaultChannel() {
         try {
             Files.createDirectories(this.configChannelDir);
@@ -280,6 +414,7 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
 
             node.set(ConfigChatChannel.class, configChannel);
             loader.save(node);
+            this.fingerprint(configFile);
 
             this.register(configChannel.key(), configChannel);
         } catch (final IOException exception) {
@@ -287,9 +422,7 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
         }
     }
 
-    private @Nullable ChatChannel registerChannelFromPath(final Path channelPath) {
-        final @Nullable ChatChannel channel = this.loadChannel(channelPath);
-
+    private @Nullable ChatChannel registerChannel(final @Nullable ChatChannel channel) {
         if (channel == null) {
             return null;
         }
@@ -315,20 +448,79 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
             return;
         }
 
+        this.sendMessageInChannel(sender, channel, Component.text(plainMessage), plainMessage);
+    }
+
+    public void sendMessageInChannel(
+        final CarbonPlayer sender,
+        final ChatChannel channel,
+        final Component message,
+        final String plainMessage
+    ) {
+        this.sendMessageInChannel(sender, channel, message, plainMessage, this.tracer.start(sender.username(), "channel"));
+    }
+
+    /**
+     * Sends an already parsed message to the channel, finishing its trace.
+     *
+     * @param sender the player sending the message
+     * @param channel the channel the message is sent in
+     * @param message the parsed message
+     * @param plainMessage the message as typed by the player
+     * @param trace the trace of the message
+     */
+    public void sendMessageInChannel(
+        final CarbonPlayer sender,
+        final ChatChannel channel,
+        final Component message,
+        final String plainMessage,
+        final ChatTrace trace
+    ) {
+        final ChatMessageEvent messageEvent = new ChatMessageEvent();
+        messageEvent.begin();
+
+        try {
+            this.sendTracedMessage(sender, channel, message, plainMessage, trace, messageEvent);
+        } finally {
+            this.tracer.finish(trace);
+            messageEvent.end();
+
+            if (messageEvent.shouldCommit()) {
+                messageEvent.sender = sender.username();
+                messageEvent.channel = channel.key().asString();
+                messageEvent.messageLength = plainMessage.length();
+                messageEvent.commit();
+            }
+        }
+    }
+
+    private void sendTracedMessage(
+        final CarbonPlayer sender,
+        final ChatChannel channel,
+        final Component message,
+        final String plainMessage,
+        final ChatTrace trace,
+        final ChatMessageEvent messageEvent
+    ) {
         final var recipients = channel.recipients(sender);
+        trace.mark(ChatTrace.Stage.RECIPIENTS);
+        messageEvent.recipients = recipients.size();
 
         final var renderers = new ArrayList<KeyedRenderer>();
         renderers.add(keyedRenderer(Key.key("carbon", "default"), channel));
 
         // TODO: add previewing when cloud/adventure support it
-        final var chatEvent = new CarbonChatEvent(sender, Component.text(plainMessage), recipients, renderers, channel, false);
+        final var chatEvent = new CarbonChatEvent(sender, message, recipients, renderers, channel, false);
         final var result = this.carbonChat.eventHandler().emit(chatEvent);
+        trace.mark(ChatTrace.Stage.EVENT);
+
+        messageEvent.cancelled = chatEvent.result().cancelled();
 
         if (!result.wasSuccessful()) {
-            final var message = chatEvent.result().reason();
+            final var reason = chatEvent.result().reason();
 
-            if (!message.equals(empty())) {
-                sender.sendMessage(message);
+            if (!reason.equals(empty())) {
+                sender.sendMessage(reason);
             }
 
             return;
@@ -340,22 +532,41 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
             renderedMessage = renderer.render(sender, sender, renderedMessage.component(), chatEvent.message());
         }
 
+        trace.mark(ChatTrace.Stage.RENDER);
+
         final Identity identity = sender.hasPermission("carbon.hideidentity") ? Identity.nil() : sender.identity();
 
         for (final Audience recipient : chatEvent.recipients()) {
             recipient.sendMessage(identity, renderedMessage.component(), renderedMessage.messageType());
         }
 
+        trace.mark(ChatTrace.Stage.SEND);
+
         final @Nullable PacketService packetService = this.carbonChat.packetService();
 
         if (packetService != null) {
             if (channel instanceof ConfigChatChannel configChatChannel) {
                 final @Nullable String format = configChatChannel.messageFormat(sender);
 
-                packetService.queuePacket(new ChatMessagePacket(this.carbonChat.serverId(), sender.uuid(),
+                final ChatPacketPublishEvent publishEvent = new ChatPacketPublishEvent();
+                publishEvent.begin();
+
+                final var packet = new ChatMessagePacket(this.carbonChat.serverId(), sender.uuid(),
                     configChatChannel.permission(), channel.key(), sender.username(), format,
-                    Map.of("username", sender.username(), "message", plainMessage)));
+                    Map.of("username", sender.username(), "message", plainMessage),
+                    this.injector.getInstance(ItemLinkHandler.class).resolvedItems(chatEvent));
+                packetService.queuePacket(packet);
                 packetService.flushQueue();
+                this.packetsPublished.increment();
+
+                publishEvent.end();
+
+                if (publishEvent.shouldCommit()) {
+                    publishEvent.packet(packet);
+                    publishEvent.commit();
+                }
+
+                trace.mark(ChatTrace.Stage.PUBLISH);
             }
         }
     }
@@ -391,6 +602,8 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
         }
 
         final Key channelKey = channel.key();
+        final SpamFilter spamFilter = this.injector.getInstance(SpamFilter.class);
+        final WordFilter wordFilter = this.injector.getInstance(WordFilter.class);
 
         final var command = builder.senderType(PlayerCommander.class)
             .handler(handler -> {
@@ -405,8 +618,19 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
                 if (handler.contains("message")) {
                     final String message = handler.get("message");
 
+                    if (!spamFilter.allow(sender, message)) {
+                        return;
+                    }
+
+                    final WordFilter.Result filtered = wordFilter.filter(sender, chatChannel, message);
+
+                    if (filtered.blocked()) {
+                        this.carbonMessages.filterBlocked(sender);
+                        return;
+                    }
+
                     // TODO: trigger platform events related to chat
-                    this.sendMessageInChannelAsPlayer(sender, chatChannel, message);
+                    this.sendMessageInChannelAsPlayer(sender, chatChannel, filtered.message());
                 } else {
                     sender.selectedChannel(chatChannel);
                     this.carbonMessages.changedChannels(sender, channelKey.value());
@@ -426,10 +650,27 @@ public class CarbonChannelRegistry implements ChannelRegistry, DefaultedRegistry
 
     @Override
     public @NonNull ChatChannel register(final @NonNull Key key, final @NonNull ChatChannel value) {
-        this.channelMap.put(key, value);
+        synchronized (this.channelMap) {
+            this.channelMap.put(key, value);
+            this.quickPrefixes = null;
+        }
+
         return value;
     }
 
+    public QuickPrefixTrie quickPrefixes() {
+        @Nullable QuickPrefixTrie quickPrefixes = this.quickPrefixes;
+
+        if (quickPrefixes == null) {
+            synchronized (this.channelMap) {
+                quickPrefixes = new QuickPrefixTrie(this.channelMap.values());
+                this.quickPrefixes = quickPrefixes;
+            }
+        }
+
+        return quickPrefixes;
+    }
+
     @Override
     public @Nullable ChatChannel get(final @NonNull Key key) {
         return this.channelMap.get(key);
@@ -0,0 +1,80 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.channels;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Identifies the contents of a channel file, so reloads can skip files that haven't changed.
+ *
+ * <p>The modification time and size are checked first, the file is only hashed
+ * when they differ.</p>
+ */
+@DefaultQualifier(NonNull.class)
+record ChannelFileFingerprint(FileTime modified, long size, String hash) {
+
+    static ChannelFileFingerprint read(final Path file) throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+        return new ChannelFileFingerprint(attributes.lastModifiedTime(), attributes.size(), hash(file));
+    }
+
+    /**
+     * Checks whether the file still has the contents this fingerprint was taken from.
+     *
+     * @param file the file
+     * @return the up to date fingerprint if the contents are unchanged, otherwise null
+     * @throws IOException if the file couldn't be read
+     */
+    @Nullable ChannelFileFingerprint unchanged(final Path file) throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+        if (attributes.lastModifiedTime().equals(this.modified) && attributes.size() == this.size) {
+            return this;
+        }
+
+        // Touched but possibly not edited, only the hash can tell
+        if (attributes.size() == this.size && hash(file).equals(this.hash)) {
+            return new ChannelFileFingerprint(attributes.lastModifiedTime(), this.size, this.hash);
+        }
+
+        return null;
+    }
+
+    private static String hash(final Path file) throws IOException {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file)));
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+}
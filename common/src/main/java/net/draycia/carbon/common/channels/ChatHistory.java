@@ -0,0 +1,247 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.channels;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.channels.ChatChannel;
+import net.draycia.carbon.api.events.CarbonChatEvent;
+import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.api.util.KeyedRenderer;
+import net.draycia.carbon.api.util.RenderedMessage;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.config.HistorySettings;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.MessageType;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Keeps the most recent messages of each channel in memory, bounded by both
+ * message count and size. Messages are stored as serialized component bytes,
+ * along with the renderers they were sent with, so they're rendered for each
+ * viewer when shown again.
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class ChatHistory {
+
+    private final CarbonChat carbonChat;
+    private final ConfigFactory configFactory;
+    private final Map<Key, ChannelHistory> channels = new ConcurrentHashMap<>();
+
+    @Inject
+    public ChatHistory(
+        final CarbonChat carbonChat,
+        final ConfigFactory configFactory
+    ) {
+        this.carbonChat = carbonChat;
+        this.configFactory = configFactory;
+
+        // Runs after every other listener has changed the message, recipients and renderers
+        carbonChat.eventHandler().subscribe(CarbonChatEvent.class, 1000, false, event -> {
+            final @Nullable ChatChannel channel = event.chatChannel();
+
+            // Radius channels are left out, replaying them would reach players who were out of range
+            if (event.previewing() || channel == null || channel.radius() >= 0 || event.sender().muted()) {
+                return;
+            }
+
+            this.record(channel.key(), event.sender(), event.message(), event.renderers());
+        });
+    }
+
+    /**
+     * Records a message sent in a channel.
+     *
+     * @param channel the channel's key
+     * @param sender the player who sent the message
+     * @param message the message, before rendering
+     * @param renderers the renderers the message was sent with
+     */
+    public void record(
+        final Key channel,
+        final CarbonPlayer sender,
+        final Component message,
+        final List<KeyedRenderer> renderers
+    ) {
+        final HistorySettings settings = this.configFactory.primaryConfig().historySettings();
+
+        if (!settings.enabled() || settings.messagesPerChannel() == 0) {
+            return;
+        }
+
+        final byte[] bytes = GsonComponentSerializer.gson().serialize(message).getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer payload;
+
+        if (settings.offHeap()) {
+            payload = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        } else {
+            payload = ByteBuffer.wrap(bytes);
+        }
+
+        this.channels.computeIfAbsent(channel, key -> new ChannelHistory())
+            .add(new Entry(channel, sender, System.currentTimeMillis(), payload, List.copyOf(renderers)), settings);
+    }
+
+    /**
+     * Returns the most recent messages in the channels, oldest first.
+     *
+     * @param channels which channels to include
+     * @param filter which messages to include
+     * @param limit the most messages returned
+     * @return the messages
+     */
+    public List<Entry> recent(final Predicate<Key> channels, final Predicate<Entry> filter, final int limit) {
+        final List<Entry> entries = new ArrayList<>();
+
+        for (final Map.Entry<Key, ChannelHistory> channel : this.channels.entrySet()) {
+            if (channels.test(channel.getKey())) {
+                channel.getValue().collect(filter, limit, entries);
+            }
+        }
+
+        entries.sort(Comparator.comparingLong(Entry::timestamp));
+        return entries.subList(Math.max(0, entries.size() - limit), entries.size());
+    }
+
+    /**
+     * Shows the player the recent messages they would have received, rendered for them.
+     *
+     * @param player the player
+     */
+    public void replay(final CarbonPlayer player) {
+        final int limit = this.configFactory.primaryConfig().historySettings().replayMessages();
+
+        if (limit == 0 || this.channels.isEmpty() || player.deafened()) {
+            return;
+        }
+
+        final List<Entry> entries = this.recent(key -> {
+            final @Nullable ChatChannel channel = this.carbonChat.channelRegistry().get(key);
+            return channel != null && channel.hearingPermitted(player).permitted();
+        }, entry -> !player.ignoring(entry.sender().uuid()) && this.wouldReceive(player, entry), limit);
+
+        for (final Entry entry : entries) {
+            player.sendMessage(Identity.identity(entry.sender().uuid()), entry.render(player), MessageType.CHAT);
+        }
+    }
+
+    // Applies the channel's own recipient filtering, as when the message was sent
+    private boolean wouldReceive(final CarbonPlayer player, final Entry entry) {
+        final @Nullable ChatChannel channel = this.carbonChat.channelRegistry().get(entry.channel());
+
+        if (channel == null) {
+            return false;
+        }
+
+        final Set<CarbonPlayer> recipients = new HashSet<>();
+        recipients.add(player);
+
+        return channel.filterRecipients(entry.sender(), recipients).contains(player);
+    }
+
+    /**
+     * A message kept in the history.
+     *
+     * @param channel the channel the message was sent in
+     * @param sender the player who sent the message
+     * @param timestamp when the message was sent, in epoch milliseconds
+     * @param payload the serialized message, before rendering
+     * @param renderers the renderers the message was sent with
+     */
+    public record Entry(Key channel, CarbonPlayer sender, long timestamp, ByteBuffer payload, List<KeyedRenderer> renderers) {
+
+        /**
+         * Renders the message as the viewer would have seen it.
+         *
+         * @param viewer the audience the message is shown to
+         * @return the rendered message
+         */
+        public Component render(final Audience viewer) {
+            final Component message = this.message();
+            RenderedMessage rendered = new RenderedMessage(message, MessageType.CHAT);
+
+            for (final KeyedRenderer renderer : this.renderers) {
+                rendered = renderer.render(this.sender, viewer, rendered.component(), message);
+            }
+
+            return rendered.component();
+        }
+
+        public Component message() {
+            final ByteBuffer payload = this.payload.duplicate();
+            final byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+
+            return GsonComponentSerializer.gson().deserialize(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+    }
+
+    private static final class ChannelHistory {
+
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private long bytes = 0;
+
+        synchronized void add(final Entry entry, final HistorySettings settings) {
+            this.entries.addLast(entry);
+            this.bytes += entry.payload().capacity();
+
+            while (!this.entries.isEmpty()
+                && (this.entries.size() > settings.messagesPerChannel() || this.bytes > settings.bytesPerChannel())) {
+                this.bytes -= this.entries.removeFirst().payload().capacity();
+            }
+        }
+
+        synchronized void collect(final Predicate<Entry> filter, final int limit, final List<Entry> into) {
+            int collected = 0;
+            final var iterator = this.entries.descendingIterator();
+
+            while (collected < limit && iterator.hasNext()) {
+                final Entry entry = iterator.next();
+
+                if (filter.test(entry)) {
+                    into.add(entry);
+                    collected++;
+                }
+            }
+        }
+
+    }
+
+}
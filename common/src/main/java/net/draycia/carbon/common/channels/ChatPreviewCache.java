@@ -0,0 +1,116 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.channels;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.common.events.CarbonReloadEvent;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import net.kyori.adventure.key.Key;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Holds messages processed for chat previews so the final send can reuse them
+ * instead of parsing the same message again.
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class ChatPreviewCache {
+
+    // Only a player's latest preview is kept, the message they send is the last one they previewed
+    private final Cache<UUID, Preview> previews = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(10))
+        .maximumSize(1024)
+        .build();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+
+    @Inject
+    public ChatPreviewCache(final CarbonChat carbonChat, final MetricsRegistry metrics) {
+        carbonChat.eventHandler().subscribe(CarbonReloadEvent.class, event -> this.previews.invalidateAll());
+
+        metrics.gauge("carbon_cache_hit_ratio", "Hit ratio of Carbon's caches.",
+            this::hitRate, "cache", "chat_preview");
+    }
+
+    /**
+     * Gets the processed state of a message, processing it if it wasn't the sender's latest preview.
+     *
+     * @param sender the player sending the message
+     * @param rawMessage the message as typed by the player
+     * @param processor processes the message on a cache miss
+     * @return the processed message
+     */
+    public ProcessedMessage processed(
+        final CarbonPlayer sender,
+        final String rawMessage,
+        final Supplier<ProcessedMessage> processor
+    ) {
+        final @Nullable Key selectedChannel = selectedChannelKey(sender);
+        final @Nullable Preview preview = this.previews.getIfPresent(sender.uuid());
+        this.requests.increment();
+
+        if (preview != null && preview.matches(selectedChannel, rawMessage)) {
+            this.hits.increment();
+            return preview.processed();
+        }
+
+        final ProcessedMessage processed = processor.get();
+        this.previews.put(sender.uuid(), new Preview(selectedChannel, rawMessage, processed));
+
+        return processed;
+    }
+
+    public void invalidate(final UUID player) {
+        this.previews.invalidate(player);
+    }
+
+    private double hitRate() {
+        final long requests = this.requests.sum();
+
+        return requests == 0 ? 1.0 : (double) this.hits.sum() / requests;
+    }
+
+    private static @Nullable Key selectedChannelKey(final CarbonPlayer sender) {
+        final var channel = sender.selectedChannel();
+
+        return channel == null ? null : channel.key();
+    }
+
+    private record Preview(@Nullable Key selectedChannel, String message, ProcessedMessage processed) {
+
+        boolean matches(final @Nullable Key selectedChannel, final String message) {
+            return Objects.equals(this.selectedChannel, selectedChannel) && this.message.equals(message);
+        }
+
+    }
+
+}
@@ -44,8 +44,6 @@ import net.draycia.carbon.common.messages.placeholders.UUIDPlaceholderResolver;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.TextDecoration;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
 import net.kyori.moonshine.Moonshine;
@@ -101,7 +99,7 @@ public final class ConfigChatChannel implements ChatChannel {
     private @Nullable
     List<String> commandAliases = Collections.emptyList();
 
-    private transient @Nullable ConfigChannelMessages carbonMessages = null;
+    private transient volatile @Nullable ConfigChannelMessages carbonMessages = null;
 
     @Comment("""
         The distance players must be within to see each other's messages.
@@ -110,6 +108,12 @@ public final class ConfigChatChannel implements ChatChannel {
         """)
     private int radius = -1;
 
+    @Comment("""
+        The word filter rule sets checked for messages in this channel, from word-filter.conf.
+        Channels without this setting use the default rule sets.
+        """)
+    private @Nullable List<String> filterRuleSets = null;
+
     private transient @Nullable ConfigChannelMessages messageService = null;
 
     @Override
@@ -170,32 +174,6 @@ public final class ConfigChatChannel implements ChatChannel {
         Map.entry("newline", StandardTags.newline())
     );
 
-    public static Component parseMessageTags(final CarbonPlayer sender, final String message) {
-        if (!sender.hasPermission("carbon.messagetags")) {
-            return Component.text(message);
-        }
-
-        final TagResolver.Builder resolver = TagResolver.builder();
-
-        for (final Map.Entry<String, TagResolver> entry : DEFAULT_TAGS.entrySet()) {
-            if (sender.hasPermission("carbon.messagetags." + entry.getKey())) {
-                resolver.resolver(entry.getValue());
-            }
-        }
-
-        for (final TextDecoration decoration : TextDecoration.values()) {
-            if (!sender.hasPermission("carbon.messagetags." + decoration.name())) {
-                continue;
-            }
-
-            resolver.resolver(StandardTags.decorations(decoration));
-        }
-
-        final MiniMessage miniMessage = MiniMessage.builder().tags(resolver.build()).build();
-
-        return miniMessage.deserialize(message);
-    }
-
     @Override
     public ChannelPermissionResult speechPermitted(final CarbonPlayer carbonPlayer) {
         return ChannelPermissionResult.allowedIf(text("Insufficient permissions!"), () ->
@@ -273,11 +251,28 @@ public final class ConfigChatChannel implements ChatChannel {
     }
 
     private ConfigChannelMessages carbonMessages() {
-        if (this.carbonMessages == null) {
-            this.carbonMessages = this.loadMessages();
+        @Nullable ConfigChannelMessages carbonMessages = this.carbonMessages;
+
+        if (carbonMessages == null) {
+            synchronized (this) {
+                carbonMessages = this.carbonMessages;
+
+                if (carbonMessages == null) {
+                    carbonMessages = this.loadMessages();
+                    this.carbonMessages = carbonMessages;
+                }
+            }
         }
 
-        return requireNonNull(this.carbonMessages, "Channel message service must not be null!");
+        return requireNonNull(carbonMessages, "Channel message service must not be null!");
+    }
+
+    /**
+     * Generates the channel's message service now, so the first message sent in the
+     * channel doesn't have to.
+     */
+    void loadMessagesAhead() {
+        this.carbonMessages();
     }
 
     @Override
@@ -290,6 +285,10 @@ public final class ConfigChatChannel implements ChatChannel {
         return this.radius;
     }
 
+    public @Nullable List<String> filterRuleSets() {
+        return this.filterRuleSets;
+    }
+
     @Override
     public boolean equals(final Object other) {
         if (!(other instanceof BasicChatChannel otherChannel)) return false;
@@ -0,0 +1,175 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.channels;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.draycia.carbon.api.channels.ChatChannel;
+import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.common.filter.WordFilter;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
+import static net.kyori.adventure.text.Component.empty;
+import static net.kyori.adventure.text.Component.text;
+
+/**
+ * Resolves quick prefixes, filters words and adds chat links for messages sent by players.
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class MessagePreprocessor {
+
+    public static final Pattern DEFAULT_URL_PATTERN = Pattern.compile("(?:(https?)://)?([-\\w_.]+\\.\\w{2,})(/\\S*)?");
+
+    private static final TextReplacementConfig LINK_REPLACEMENT = TextReplacementConfig.builder()
+        .match(DEFAULT_URL_PATTERN)
+        .replacement(builder -> builder.clickEvent(ClickEvent.openUrl(builder.content())))
+        .build();
+
+    private final CarbonChannelRegistry registry;
+    private final WordFilter wordFilter;
+
+    @Inject
+    public MessagePreprocessor(final CarbonChannelRegistry registry, final WordFilter wordFilter) {
+        this.registry = registry;
+        this.wordFilter = wordFilter;
+    }
+
+    /**
+     * Processes a message that is sent as plain text.
+     *
+     * @param sender the player sending the message
+     * @param rawMessage the message as typed by the player
+     * @return the processed message
+     */
+    public ProcessedMessage process(final CarbonPlayer sender, final String rawMessage) {
+        return this.process(sender, rawMessage, null);
+    }
+
+    /**
+     * Processes a message, parsing it into a component once its quick prefix has been removed.
+     *
+     * @param sender the player sending the message
+     * @param rawMessage the message as typed by the player
+     * @param parser parses the message, or null if the message is plain text
+     * @return the processed message
+     */
+    public ProcessedMessage process(
+        final CarbonPlayer sender,
+        final String rawMessage,
+        final @Nullable Function<String, Component> parser
+    ) {
+        ChatChannel channel = requireNonNullElse(sender.selectedChannel(), this.registry.defaultValue());
+        String content = rawMessage;
+
+        for (final ChatChannel candidate : this.registry.quickPrefixes().matches(rawMessage)) {
+            if (candidate.speechPermitted(sender).permitted()) {
+                channel = candidate;
+                content = rawMessage.substring(requireNonNull(candidate.quickPrefix()).length());
+                break;
+            }
+        }
+
+        final WordFilter.Result filtered = this.wordFilter.filter(sender, channel, content);
+
+        if (filtered.blocked()) {
+            return new ProcessedMessage(channel, text(content), true);
+        }
+
+        content = filtered.message();
+
+        if (!sender.hasPermission("carbon.chatlinks")) {
+            return new ProcessedMessage(channel, parser == null ? text(content) : parser.apply(content));
+        }
+
+        if (parser != null) {
+            return new ProcessedMessage(channel, parser.apply(content).replaceText(LINK_REPLACEMENT));
+        }
+
+        return new ProcessedMessage(channel, linked(content, DEFAULT_URL_PATTERN.matcher(content)));
+    }
+
+    /**
+     * Processes a message that was already sent as a component, keeping its formatting
+     * unless the word filter changed its text.
+     *
+     * @param sender the player sending the message
+     * @param message the message as sent by the player
+     * @return the processed message
+     */
+    public ProcessedMessage process(final CarbonPlayer sender, final Component message) {
+        final String rawMessage = PlainTextComponentSerializer.plainText().serialize(message);
+
+        return this.process(sender, rawMessage, content -> original(message, rawMessage, content));
+    }
+
+    private static Component original(final Component message, final String rawMessage, final String content) {
+        if (content.equals(rawMessage)) {
+            return message;
+        }
+
+        // Only the quick prefix was cut off the front
+        if (rawMessage.endsWith(content)) {
+            final String quickPrefix = rawMessage.substring(0, rawMessage.length() - content.length());
+
+            return message.replaceText(builder -> builder.matchLiteral(quickPrefix).once().replacement(empty()));
+        }
+
+        return text(content);
+    }
+
+    private static Component linked(final String content, final Matcher matcher) {
+        final TextComponent.Builder builder = text();
+        int start = 0;
+
+        while (matcher.find()) {
+            if (matcher.start() > start) {
+                builder.append(text(content.substring(start, matcher.start())));
+            }
+
+            final String url = matcher.group();
+            builder.append(text(url).clickEvent(ClickEvent.openUrl(url)));
+            start = matcher.end();
+        }
+
+        if (start == 0) {
+            return text(content);
+        }
+
+        if (start < content.length()) {
+            builder.append(text(content.substring(start)));
+        }
+
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.channels;
+
+import net.draycia.carbon.api.channels.ChatChannel;
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * A chat message after tags, links, quick prefixes and the word filter have been processed.
+ *
+ * @param channel the channel the message will be sent in
+ * @param message the processed message
+ * @param blocked whether the word filter blocked the message
+ */
+@DefaultQualifier(NonNull.class)
+public record ProcessedMessage(ChatChannel channel, Component message, boolean blocked) {
+
+    public ProcessedMessage(final ChatChannel channel, final Component message) {
+        this(channel, message, false);
+    }
+
+}
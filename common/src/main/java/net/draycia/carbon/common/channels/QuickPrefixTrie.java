@@ -0,0 +1,93 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.channels;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.draycia.carbon.api.channels.ChatChannel;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * A prefix trie of channel quick prefixes, finds every channel whose quick prefix
+ * starts a message in a single walk over the message.
+ */
+@DefaultQualifier(NonNull.class)
+public final class QuickPrefixTrie {
+
+    private final Node root = new Node();
+
+    public QuickPrefixTrie(final Iterable<? extends ChatChannel> channels) {
+        for (final ChatChannel channel : channels) {
+            final @Nullable String quickPrefix = channel.quickPrefix();
+
+            if (quickPrefix == null) {
+                continue;
+            }
+
+            Node node = this.root;
+
+            for (int i = 0; i < quickPrefix.length(); i++) {
+                node = node.children.computeIfAbsent(quickPrefix.charAt(i), character -> new Node());
+            }
+
+            node.channels.add(channel);
+        }
+    }
+
+    /**
+     * Gets the channels whose quick prefix the message starts with.
+     *
+     * @param message the raw message
+     * @return the matching channels, longest quick prefix first
+     */
+    public List<ChatChannel> matches(final String message) {
+        if (this.root.children.isEmpty() && this.root.channels.isEmpty()) {
+            return List.of();
+        }
+
+        // An empty quick prefix matches every message
+        final List<ChatChannel> matches = new ArrayList<>(this.root.channels);
+        Node node = this.root;
+
+        for (int i = 0; i < message.length(); i++) {
+            node = node.children.get(message.charAt(i));
+
+            if (node == null) {
+                break;
+            }
+
+            matches.addAll(0, node.channels);
+        }
+
+        return matches;
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<ChatChannel> channels = new ArrayList<>();
+
+    }
+
+}
@@ -0,0 +1,358 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.channels;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.config.SpamSettings;
+import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.metrics.Counter;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Blocks chat messages that are sent too quickly or repeated, before they're processed.
+ *
+ * <p>Each player has a token bucket, kept as the time their next message is
+ * allowed at (GCRA), and a small ring of hashes of their recent messages.
+ * Both are updated without locks, so checking a message costs a few atomic
+ * operations and no allocations.</p>
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class SpamFilter {
+
+    // Shorter messages, like "gg" or "ok", are often repeated without being spam
+    private static final int MIN_REPEAT_LENGTH = 4;
+
+    private final ConfigFactory configFactory;
+    private final CarbonMessages carbonMessages;
+    private final Counter rateLimited;
+    private final Counter repeated;
+    private final Cache<UUID, PlayerState> players = Caffeine.newBuilder()
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+
+    @Inject
+    public SpamFilter(
+        final ConfigFactory configFactory,
+        final CarbonMessages carbonMessages,
+        final MetricsRegistry metrics
+    ) {
+        this.configFactory = configFactory;
+        this.carbonMessages = carbonMessages;
+
+        final String help = "Chat messages blocked as spam.";
+        this.rateLimited = metrics.counter("carbon_chat_spam_blocked_total", help, "reason", "rate_limited");
+        this.repeated = metrics.counter("carbon_chat_spam_blocked_total", help, "reason", "repeated");
+    }
+
+    /**
+     * Checks if the player may send the message, telling them why not if they can't.
+     *
+     * @param sender the player sending the message
+     * @param message the message, as typed
+     * @return whether the message may be sent
+     */
+    public boolean allow(final CarbonPlayer sender, final String message) {
+        final SpamSettings settings = this.configFactory.primaryConfig().spamSettings();
+
+        if (!settings.enabled()) {
+            return true;
+        }
+
+        final PlayerState state = this.state(sender, settings);
+        final long now = System.nanoTime();
+
+        if (!state.acquire(now, settings)) {
+            // Permissions are only checked once a message would be blocked, keeping the common case cheap
+            if (sender.hasPermission("carbon.spam.exempt")) {
+                return true;
+            }
+
+            state.rateLimited.incrementAndGet();
+            state.blocked(sender.username(), now);
+            this.rateLimited.increment();
+            this.carbonMessages.spamRateLimited(sender);
+            return false;
+        }
+
+        if (!state.remember(hash(message), now, settings)) {
+            if (sender.hasPermission("carbon.spam.exempt")) {
+                return true;
+            }
+
+            state.repeated.incrementAndGet();
+            state.blocked(sender.username(), now);
+            this.repeated.increment();
+            this.carbonMessages.spamRepeated(sender);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if the player may send the message without taking a token or remembering it,
+     * for work done before the message is actually sent, like decorating a chat preview.
+     *
+     * @param sender the player sending the message
+     * @param message the message, as typed
+     * @return whether {@link #allow} would currently allow the message
+     */
+    public boolean wouldAllow(final CarbonPlayer sender, final String message) {
+        final SpamSettings settings = this.configFactory.primaryConfig().spamSettings();
+
+        if (!settings.enabled()) {
+            return true;
+        }
+
+        final PlayerState state = this.state(sender, settings);
+        final long now = System.nanoTime();
+
+        if (state.canAcquire(now, settings) && !state.recent(hash(message), now, settings)) {
+            return true;
+        }
+
+        return sender.hasPermission("carbon.spam.exempt");
+    }
+
+    private PlayerState state(final CarbonPlayer sender, final SpamSettings settings) {
+        final PlayerState state = this.players.get(sender.uuid(), uuid -> new PlayerState(settings.rememberedMessages()));
+
+        // Applies a remembered-messages change from a reload to players that are already tracked
+        state.resize(settings.rememberedMessages());
+        return state;
+    }
+
+    /**
+     * Gets the players who had messages blocked in the past hour, most blocked first.
+     *
+     * @return the players
+     */
+    public List<Offender> offenders() {
+        final long now = System.nanoTime();
+        final List<Offender> offenders = new ArrayList<>();
+
+        this.players.asMap().forEach((uuid, state) -> {
+            final int rateLimited = state.rateLimited.get();
+            final int repeated = state.repeated.get();
+
+            if (rateLimited + repeated > 0) {
+                offenders.add(new Offender(uuid, state.username, rateLimited, repeated,
+                    Duration.ofNanos(now - state.lastBlocked)));
+            }
+        });
+
+        offenders.sort(Comparator.comparingInt((Offender offender) -> offender.rateLimited() + offender.repeated()).reversed());
+        return offenders;
+    }
+
+    /**
+     * Hashes the message ignoring case, anything that isn't a letter or digit, and repeated characters,
+     * so small changes like "hello!!" and "Helllo" hash the same.
+     *
+     * @param message the message
+     * @return the hash, or 0 if the message is too short to be compared
+     */
+    static long hash(final String message) {
+        long hash = 0;
+        int length = 0;
+        int previous = -1;
+
+        for (int i = 0; i < message.length(); ) {
+            final int codePoint = Character.toLowerCase(message.codePointAt(i));
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint) || codePoint == previous) {
+                continue;
+            }
+
+            hash = hash * 1_000_003L + codePoint;
+            previous = codePoint;
+            length++;
+        }
+
+        return length < MIN_REPEAT_LENGTH ? 0 : hash | 1;
+    }
+
+    /**
+     * A player who had messages blocked.
+     *
+     * @param uuid the player's UUID
+     * @param username the player's username
+     * @param rateLimited how many messages were blocked for being sent too quickly
+     * @param repeated how many messages were blocked for being repeated
+     * @param sinceLastBlocked how long ago the last message was blocked
+     */
+    public record Offender(UUID uuid, String username, int rateLimited, int repeated, Duration sinceLastBlocked) {
+
+    }
+
+    private static final class PlayerState {
+
+        private final AtomicLong allowedAt = new AtomicLong(System.nanoTime());
+        private final AtomicInteger rateLimited = new AtomicInteger();
+        private final AtomicInteger repeated = new AtomicInteger();
+        private volatile Ring ring;
+        private volatile String username = "";
+        private volatile long lastBlocked;
+
+        PlayerState(final int rememberedMessages) {
+            this.ring = new Ring(rememberedMessages);
+        }
+
+        /**
+         * Replaces the ring if its size changed, keeping the most recent messages that still fit.
+         */
+        void resize(final int rememberedMessages) {
+            if (this.ring.hashes.length() == rememberedMessages) {
+                return;
+            }
+
+            synchronized (this) {
+                final Ring previous = this.ring;
+                final int previousSize = previous.hashes.length();
+
+                if (previousSize == rememberedMessages) {
+                    return;
+                }
+
+                final Ring resized = new Ring(rememberedMessages);
+                final int kept = Math.min(previousSize, rememberedMessages);
+                final int cursor = previous.cursor.get();
+
+                for (int i = 0; i < kept; i++) {
+                    final int from = Math.floorMod(cursor - 1 - i, previousSize);
+                    resized.hashes.set(kept - 1 - i, previous.hashes.get(from));
+                    resized.times.set(kept - 1 - i, previous.times.get(from));
+                }
+
+                resized.cursor.set(kept);
+                this.ring = resized;
+            }
+        }
+
+        /**
+         * Checks if a token could be taken, without taking it.
+         */
+        boolean canAcquire(final long now, final SpamSettings settings) {
+            final long interval = settings.messageIntervalNanos();
+
+            return Math.max(this.allowedAt.get(), now) - now <= interval * (settings.burst() - 1);
+        }
+
+        /**
+         * Takes a token from the bucket. Instead of counting tokens, the bucket stores when the
+         * next message is allowed, and a message is allowed as long as that's at most
+         * burst - 1 intervals ahead of now.
+         */
+        boolean acquire(final long now, final SpamSettings settings) {
+            final long interval = settings.messageIntervalNanos();
+            final long tolerance = interval * (settings.burst() - 1);
+
+            while (true) {
+                final long allowedAt = this.allowedAt.get();
+                final long next = Math.max(allowedAt, now);
+
+                if (next - now > tolerance) {
+                    return false;
+                }
+
+                if (this.allowedAt.compareAndSet(allowedAt, next + interval)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Remembers the message, unless it repeats a recent one.
+         */
+        boolean remember(final long hash, final long now, final SpamSettings settings) {
+            final Ring ring = this.ring;
+            final int size = ring.hashes.length();
+
+            if (hash == 0 || size == 0) {
+                return true;
+            }
+
+            if (recent(ring, hash, now, settings)) {
+                return false;
+            }
+
+            final int slot = Math.floorMod(ring.cursor.getAndIncrement(), size);
+            ring.times.set(slot, now);
+            ring.hashes.set(slot, hash);
+            return true;
+        }
+
+        /**
+         * Checks if the message repeats a recent one, without remembering it.
+         */
+        boolean recent(final long hash, final long now, final SpamSettings settings) {
+            return hash != 0 && recent(this.ring, hash, now, settings);
+        }
+
+        private static boolean recent(final Ring ring, final long hash, final long now, final SpamSettings settings) {
+            final long window = settings.repeatWindowNanos();
+
+            for (int i = 0; i < ring.hashes.length(); i++) {
+                if (ring.hashes.get(i) == hash && now - ring.times.get(i) <= window) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        void blocked(final String username, final long now) {
+            this.username = username;
+            this.lastBlocked = now;
+        }
+
+    }
+
+    private static final class Ring {
+
+        private final AtomicLongArray hashes;
+        private final AtomicLongArray times;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        Ring(final int size) {
+            this.hashes = new AtomicLongArray(size);
+            this.times = new AtomicLongArray(size);
+        }
+
+    }
+
+}
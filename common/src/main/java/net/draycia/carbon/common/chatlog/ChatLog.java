@@ -0,0 +1,438 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.chatlog;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.channels.ChatChannel;
+import net.draycia.carbon.api.events.CarbonChatEvent;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
+import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.common.ForCarbon;
+import net.draycia.carbon.common.config.ChatLogSettings;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Writes chat and whisper messages to an append-only log on disk, and searches it.
+ *
+ * <p>A new {@link ChatLogSegment} is started every day and every time the server
+ * starts. Segments left open by a previous run are indexed and compressed the
+ * first time the log is written to. All file access happens on a single thread,
+ * so writing never blocks the threads sending messages. Lines are flushed as soon
+ * as no more are waiting to be written, so a burst of messages costs a single write.</p>
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class ChatLog {
+
+    private static final String WHISPER_CHANNEL = "whisper:";
+
+    private final ConfigFactory configFactory;
+    private final Logger logger;
+    private final Path directory;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+        .setNameFormat("Carbon Chat Log")
+        .setDaemon(true)
+        .build());
+
+    // Only used on the executor's thread
+    private @Nullable ChatLogSegment segment;
+    private @MonotonicNonNull LocalDate segmentDay;
+    private boolean leftoversClosed = false;
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    @Inject
+    public ChatLog(
+        final CarbonChat carbonChat,
+        final ConfigFactory configFactory,
+        final Logger logger,
+        @ForCarbon final Path dataDirectory
+    ) {
+        this.configFactory = configFactory;
+        this.logger = logger;
+        this.directory = dataDirectory.resolve("chat-logs");
+
+        // Runs after every other listener has had the chance to cancel the message
+        carbonChat.eventHandler().subscribe(CarbonChatEvent.class, 1000, false, event -> {
+            final @Nullable ChatChannel channel = event.chatChannel();
+
+            if (event.previewing() || channel == null) {
+                return;
+            }
+
+            this.log(event.sender(), channel.key().asString(), PlainTextComponentSerializer.plainText().serialize(event.message()));
+        });
+
+        this.executor.scheduleWithFixedDelay(this::tick, 1, 1, TimeUnit.SECONDS);
+        carbonChat.eventHandler().subscribe(CarbonShutdownEvent.class, 0, false, event -> this.shutdown());
+    }
+
+    /**
+     * Logs a whisper.
+     *
+     * @param sender the player who sent the whisper
+     * @param recipient the player who received the whisper
+     * @param message the whisper
+     */
+    public void whisper(final CarbonPlayer sender, final CarbonPlayer recipient, final String message) {
+        this.log(sender, WHISPER_CHANNEL + recipient.username(), message);
+    }
+
+    /**
+     * Finds the most recent lines a player sent in a time range.
+     * Only the index entries of the days in the range are read, and only the
+     * blocks containing lines from the player.
+     *
+     * @param sender the player's UUID
+     * @param from the start of the range
+     * @param to the end of the range
+     * @param limit the most lines returned
+     * @return the lines, oldest first
+     */
+    public CompletableFuture<List<Line>> search(final UUID sender, final Instant from, final Instant to, final int limit) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.find(sender, from.toEpochMilli(), to.toEpochMilli(), limit);
+            } catch (final IOException exception) {
+                throw new CompletionException(exception);
+            }
+        }, this.executor);
+    }
+
+    private void log(final CarbonPlayer sender, final String channel, final String message) {
+        if (!this.settings().enabled()) {
+            return;
+        }
+
+        final long timestamp = System.currentTimeMillis();
+        final Line line = new Line(timestamp, sender.uuid(), sender.username(), channel, message);
+        final byte[] bytes = line.serialize().getBytes(StandardCharsets.UTF_8);
+
+        this.pending.incrementAndGet();
+
+        try {
+            this.executor.execute(() -> this.append(timestamp, line.sender(), bytes));
+        } catch (final RejectedExecutionException ignored) {
+            // Shutting down
+            this.pending.decrementAndGet();
+        }
+    }
+
+    private void append(final long timestamp, final UUID sender, final byte[] line) {
+        try {
+            this.segment(timestamp).append(timestamp, sender, line);
+        } catch (final IOException exception) {
+            this.logger.error("Failed to write to the chat log", exception);
+        } finally {
+            // The last line of a batch, nothing else is waiting to be written
+            if (this.pending.decrementAndGet() == 0) {
+                this.flush();
+            }
+        }
+    }
+
+    private void flush() {
+        final @Nullable ChatLogSegment segment = this.segment;
+
+        if (segment == null) {
+            return;
+        }
+
+        try {
+            segment.flush();
+        } catch (final IOException exception) {
+            this.logger.error("Failed to flush the chat log", exception);
+        }
+    }
+
+    private ChatLogSegment segment(final long timestamp) throws IOException {
+        final LocalDate day = day(timestamp);
+
+        if (this.segment != null && day.equals(this.segmentDay)) {
+            return this.segment;
+        }
+
+        this.closeSegment();
+
+        if (!this.leftoversClosed) {
+            Files.createDirectories(this.directory);
+            this.closeLeftovers();
+            this.leftoversClosed = true;
+        }
+
+        this.deleteExpired(day);
+
+        int sequence = 0;
+
+        while (Files.exists(this.directory.resolve(day + "-" + sequence + ChatLogSegment.INDEX_SUFFIX))) {
+            sequence++;
+        }
+
+        this.segment = ChatLogSegment.create(this.directory, day + "-" + sequence, this.settings().blockBytes());
+        this.segmentDay = day;
+
+        return this.segment;
+    }
+
+    private void tick() {
+        if (this.segment != null && !day(System.currentTimeMillis()).equals(this.segmentDay)) {
+            this.closeSegment();
+        }
+    }
+
+    private void closeSegment() {
+        final @Nullable ChatLogSegment segment = this.segment;
+
+        if (segment == null) {
+            return;
+        }
+
+        this.segment = null;
+
+        try {
+            segment.close();
+
+            if (this.settings().compressClosedLogs()) {
+                ChatLogSegment.compress(segment.log());
+            }
+        } catch (final IOException exception) {
+            this.logger.error("Failed to close chat log [" + segment.log().getFileName() + "]", exception);
+        }
+    }
+
+    private void closeLeftovers() throws IOException {
+        try (final DirectoryStream<Path> logs = Files.newDirectoryStream(this.directory, "*" + ChatLogSegment.LOG_SUFFIX)) {
+            for (final Path log : logs) {
+                try {
+                    ChatLogSegment.recover(log, this.settings().blockBytes());
+
+                    if (this.settings().compressClosedLogs()) {
+                        ChatLogSegment.compress(log);
+                    }
+                } catch (final IOException exception) {
+                    this.logger.warn("Failed to close chat log [" + log.getFileName() + "]", exception);
+                }
+            }
+        }
+    }
+
+    private void deleteExpired(final LocalDate today) throws IOException {
+        final int retentionDays = this.settings().retentionDays();
+
+        if (retentionDays == 0) {
+            return;
+        }
+
+        final LocalDate oldest = today.minusDays(retentionDays);
+
+        for (final Path indexFile : this.segments(LocalDate.MIN, oldest.minusDays(1))) {
+            Files.deleteIfExists(ChatLogSegment.sibling(indexFile, ChatLogSegment.LOG_SUFFIX));
+            Files.deleteIfExists(ChatLogSegment.sibling(indexFile, ChatLogSegment.COMPRESSED_SUFFIX));
+            Files.deleteIfExists(indexFile);
+        }
+    }
+
+    private List<Line> find(final UUID sender, final long from, final long to, final int limit) throws IOException {
+        final ArrayDeque<Line> found = new ArrayDeque<>();
+
+        if (!Files.isDirectory(this.directory) || limit <= 0 || from > to) {
+            return List.of();
+        }
+
+        final @Nullable Path openIndex = this.segment == null ? null : ChatLogSegment.sibling(this.segment.log(), ChatLogSegment.INDEX_SUFFIX);
+        final int retentionDays = this.settings().retentionDays();
+
+        // Older logs have been deleted, or will be
+        final LocalDate oldest = retentionDays == 0 ? LocalDate.MIN : LocalDate.now().minusDays(retentionDays);
+        final LocalDate fromDay = day(from).isBefore(oldest) ? oldest : day(from);
+
+        for (final Path indexFile : this.segments(fromDay, day(to))) {
+            final List<ChatLogSegment.Block> blocks;
+            final boolean compressed;
+
+            if (this.segment != null && indexFile.equals(openIndex)) {
+                blocks = this.segment.blocks();
+                compressed = false;
+            } else {
+                final ChatLogSegment.Index index = ChatLogSegment.readIndex(indexFile);
+                blocks = index.blocks();
+                compressed = index.compressed();
+            }
+
+            for (final ChatLogSegment.Block block : blocks) {
+                if (!block.overlaps(from, to) || !block.senders().contains(sender)) {
+                    continue;
+                }
+
+                for (final String serialized : ChatLogSegment.readBlock(indexFile, compressed, block)) {
+                    final @Nullable Line line = Line.parse(serialized);
+
+                    if (line == null || !line.sender().equals(sender) || line.timestamp() < from || line.timestamp() > to) {
+                        continue;
+                    }
+
+                    found.addLast(line);
+
+                    if (found.size() > limit) {
+                        found.removeFirst();
+                    }
+                }
+            }
+        }
+
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Lists the segments of the days in a range, oldest first, reading the directory once.
+     */
+    private List<Path> segments(final LocalDate from, final LocalDate to) throws IOException {
+        final List<Path> segments = new ArrayList<>();
+
+        try (final DirectoryStream<Path> indexes = Files.newDirectoryStream(this.directory, "*" + ChatLogSegment.INDEX_SUFFIX)) {
+            for (final Path indexFile : indexes) {
+                final @Nullable LocalDate day = segmentDay(indexFile);
+
+                if (day != null && !day.isBefore(from) && !day.isAfter(to)) {
+                    segments.add(indexFile);
+                }
+            }
+        }
+
+        segments.sort(Comparator.comparing(ChatLog::segmentDay, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingInt(ChatLog::sequence));
+        return segments;
+    }
+
+    private void shutdown() {
+        this.executor.shutdown();
+
+        try {
+            if (!this.executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                this.logger.warn("Timed out waiting for the chat log to be written");
+                this.executor.shutdownNow();
+                return;
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        // The executor has stopped, so the segment can be closed from this thread
+        this.closeSegment();
+    }
+
+    private ChatLogSettings settings() {
+        return this.configFactory.primaryConfig().chatLogSettings();
+    }
+
+    private static LocalDate day(final long timestamp) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+    }
+
+    private static @Nullable LocalDate segmentDay(final Path indexFile) {
+        final String name = indexFile.getFileName().toString();
+        final int separator = name.lastIndexOf('-');
+
+        if (separator < 0) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(name.substring(0, separator));
+        } catch (final DateTimeParseException exception) {
+            return null;
+        }
+    }
+
+    private static int sequence(final Path indexFile) {
+        final String name = indexFile.getFileName().toString();
+        final String sequence = name.substring(name.lastIndexOf('-') + 1, name.length() - ChatLogSegment.INDEX_SUFFIX.length());
+
+        try {
+            return Integer.parseInt(sequence);
+        } catch (final NumberFormatException exception) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * A line of the chat log.
+     *
+     * @param timestamp when the message was sent, in epoch milliseconds
+     * @param sender the UUID of the player who sent the message
+     * @param username the player's username when they sent the message
+     * @param channel the key of the channel the message was sent in, or {@code whisper:<recipient>}
+     * @param message the message, as plain text
+     */
+    public record Line(long timestamp, UUID sender, String username, String channel, String message) {
+
+        String serialize() {
+            return Instant.ofEpochMilli(this.timestamp) + "\t" + this.sender + "\t" + this.username + "\t"
+                + this.channel + "\t" + this.message.replace('\t', ' ').replace('\r', ' ').replace('\n', ' ') + "\n";
+        }
+
+        static @Nullable Line parse(final String line) {
+            final String[] parts = line.split("\t", 5);
+
+            if (parts.length != 5) {
+                return null;
+            }
+
+            try {
+                return new Line(Instant.parse(parts[0]).toEpochMilli(), UUID.fromString(parts[1]), parts[2], parts[3], parts[4]);
+            } catch (final DateTimeParseException | IllegalArgumentException exception) {
+                return null;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,470 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.chatlog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * A single append-only chat log file and its sparse index.
+ *
+ * <p>Lines are grouped into blocks of roughly equal size. The index holds one
+ * entry per block with its time range, position and the senders in it, so a
+ * search only reads the blocks that can contain matching lines. Compressed
+ * logs store each block as its own gzip member, which keeps them seekable
+ * while the whole file still reads as a regular gzip file.</p>
+ *
+ * <p>Not thread safe, segments are only used from the chat log's thread.</p>
+ */
+@DefaultQualifier(NonNull.class)
+final class ChatLogSegment {
+
+    static final String LOG_SUFFIX = ".log";
+    static final String COMPRESSED_SUFFIX = ".log.gz";
+    static final String INDEX_SUFFIX = ".idx";
+
+    private static final int INDEX_MAGIC = 0x434C4958; // CLIX
+    private static final byte INDEX_VERSION = 1;
+    private static final int HEADER_LENGTH = Integer.BYTES + 2;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path log;
+    private final FileChannel logChannel;
+    private final FileChannel indexChannel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final int blockBytes;
+    private final List<Block> blocks = new ArrayList<>();
+    private final Set<UUID> blockSenders = new HashSet<>();
+
+    private long size;
+    private long blockOffset;
+    private long blockFirst = -1;
+    private long blockLast;
+
+    private ChatLogSegment(final Path log, final Path index, final int blockBytes) throws IOException {
+        this.log = log;
+        this.blockBytes = blockBytes;
+        this.logChannel = FileChannel.open(log, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.indexChannel = FileChannel.open(index, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        writeFully(this.indexChannel, header(false));
+    }
+
+    /**
+     * Creates a new, empty segment.
+     *
+     * @param directory the chat log directory
+     * @param name the segment's name, without suffix
+     * @param blockBytes the size at which blocks are sealed
+     * @return the segment
+     * @throws IOException if the files couldn't be created
+     */
+    static ChatLogSegment create(final Path directory, final String name, final int blockBytes) throws IOException {
+        return new ChatLogSegment(directory.resolve(name + LOG_SUFFIX), directory.resolve(name + INDEX_SUFFIX), blockBytes);
+    }
+
+    Path log() {
+        return this.log;
+    }
+
+    void append(final long timestamp, final UUID sender, final byte[] line) throws IOException {
+        if (this.blockFirst == -1) {
+            this.blockFirst = timestamp;
+            this.blockOffset = this.size;
+        }
+
+        if (line.length > this.buffer.remaining()) {
+            this.flush();
+        }
+
+        if (line.length > this.buffer.capacity()) {
+            writeFully(this.logChannel, ByteBuffer.wrap(line));
+        } else {
+            this.buffer.put(line);
+        }
+
+        this.size += line.length;
+        this.blockLast = timestamp;
+        this.blockSenders.add(sender);
+
+        if (this.size - this.blockOffset >= this.blockBytes) {
+            this.seal();
+        }
+    }
+
+    /**
+     * Writes the buffered lines to the log file.
+     *
+     * @throws IOException if writing failed
+     */
+    void flush() throws IOException {
+        this.buffer.flip();
+        writeFully(this.logChannel, this.buffer);
+        this.buffer.clear();
+    }
+
+    /**
+     * Gets the sealed blocks, and the block still being written to.
+     * Buffered lines are flushed so every returned block can be read.
+     *
+     * @return the blocks
+     * @throws IOException if flushing failed
+     */
+    List<Block> blocks() throws IOException {
+        this.flush();
+
+        if (this.blockFirst == -1) {
+            return List.copyOf(this.blocks);
+        }
+
+        final List<Block> blocks = new ArrayList<>(this.blocks);
+        blocks.add(new Block(this.blockFirst, this.blockLast, this.blockOffset,
+            (int) (this.size - this.blockOffset), Set.copyOf(this.blockSenders)));
+        return blocks;
+    }
+
+    void close() throws IOException {
+        try {
+            this.seal();
+        } finally {
+            this.logChannel.close();
+            this.indexChannel.close();
+        }
+    }
+
+    private void seal() throws IOException {
+        if (this.blockFirst == -1) {
+            return;
+        }
+
+        this.flush();
+
+        final Block block = new Block(this.blockFirst, this.blockLast, this.blockOffset,
+            (int) (this.size - this.blockOffset), Set.copyOf(this.blockSenders));
+
+        writeFully(this.indexChannel, ByteBuffer.wrap(encode(block)));
+        this.blocks.add(block);
+
+        this.blockFirst = -1;
+        this.blockSenders.clear();
+    }
+
+    /**
+     * Indexes the lines a segment has past its last index entry. These are
+     * left behind when the server stops without closing the segment.
+     * A partially written last line is removed.
+     *
+     * @param log the segment's uncompressed log file
+     * @param blockBytes the size at which blocks are sealed
+     * @throws IOException if the files couldn't be read or written
+     */
+    static void recover(final Path log, final int blockBytes) throws IOException {
+        final Path indexFile = sibling(log, INDEX_SUFFIX);
+        final @Nullable Index index = Files.exists(indexFile) ? readIndex(indexFile) : null;
+
+        if (index != null && index.compressed()) {
+            return;
+        }
+
+        long offset = 0;
+
+        if (index != null && !index.blocks().isEmpty()) {
+            final Block last = index.blocks().get(index.blocks().size() - 1);
+            offset = last.offset() + last.length();
+        }
+
+        final List<Block> recovered = new ArrayList<>();
+
+        try (final FileChannel channel = FileChannel.open(log, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final byte[] tail = read(channel, offset, (int) Math.min(Integer.MAX_VALUE, channel.size() - offset));
+            int complete = tail.length;
+
+            while (complete > 0 && tail[complete - 1] != '\n') {
+                complete--;
+            }
+
+            channel.truncate(offset + complete);
+
+            long blockFirst = -1;
+            long blockLast = 0;
+            int blockStart = 0;
+            final Set<UUID> senders = new HashSet<>();
+
+            for (int start = 0, end; start < complete; start = end + 1) {
+                end = indexOf(tail, (byte) '\n', start);
+                final ChatLog.@Nullable Line line = ChatLog.Line.parse(new String(tail, start, end - start, StandardCharsets.UTF_8));
+
+                if (line != null) {
+                    if (blockFirst == -1) {
+                        blockFirst = line.timestamp();
+                    }
+
+                    blockLast = line.timestamp();
+                    senders.add(line.sender());
+                }
+
+                if (blockFirst != -1 && (end + 1 - blockStart >= blockBytes || end + 1 == complete)) {
+                    recovered.add(new Block(blockFirst, blockLast, offset + blockStart, end + 1 - blockStart, Set.copyOf(senders)));
+                    blockFirst = -1;
+                    blockStart = end + 1;
+                    senders.clear();
+                }
+            }
+        }
+
+        final List<Block> blocks = new ArrayList<>();
+
+        if (index != null) {
+            blocks.addAll(index.blocks());
+        }
+
+        blocks.addAll(recovered);
+        writeIndex(indexFile, false, blocks);
+    }
+
+    /**
+     * Compresses a closed segment, then deletes its uncompressed log file.
+     *
+     * @param log the segment's uncompressed log file
+     * @throws IOException if the files couldn't be read or written
+     */
+    static void compress(final Path log) throws IOException {
+        final Path indexFile = sibling(log, INDEX_SUFFIX);
+        final Path compressed = sibling(log, COMPRESSED_SUFFIX);
+        final Path compressedTemp = sibling(log, COMPRESSED_SUFFIX + ".tmp");
+        final Path indexTemp = sibling(log, INDEX_SUFFIX + ".tmp");
+        final Index index = readIndex(indexFile);
+
+        if (index.compressed()) {
+            Files.deleteIfExists(log);
+            return;
+        }
+
+        final List<Block> blocks = new ArrayList<>(index.blocks().size());
+
+        try (final FileChannel in = FileChannel.open(log, StandardOpenOption.READ);
+             final FileChannel out = FileChannel.open(compressedTemp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long offset = 0;
+
+            for (final Block block : index.blocks()) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream(block.length() / 4);
+
+                try (final GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                    gzip.write(read(in, block.offset(), block.length()));
+                }
+
+                writeFully(out, ByteBuffer.wrap(bytes.toByteArray()));
+                blocks.add(new Block(block.first(), block.last(), offset, bytes.size(), block.senders()));
+                offset += bytes.size();
+            }
+
+            out.force(true);
+        }
+
+        writeIndex(indexTemp, true, blocks);
+
+        // The index is replaced last, until then it still describes the uncompressed log
+        Files.move(compressedTemp, compressed, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(indexTemp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.delete(log);
+    }
+
+    /**
+     * Reads the lines of a block.
+     *
+     * @param indexFile the segment's index file
+     * @param compressed whether the segment is compressed
+     * @param block the block
+     * @return the block's lines
+     * @throws IOException if the log couldn't be read
+     */
+    static List<String> readBlock(final Path indexFile, final boolean compressed, final Block block) throws IOException {
+        final Path log = sibling(indexFile, compressed ? COMPRESSED_SUFFIX : LOG_SUFFIX);
+        byte[] bytes;
+
+        try (final FileChannel channel = FileChannel.open(log, StandardOpenOption.READ)) {
+            bytes = read(channel, block.offset(), block.length());
+        }
+
+        if (compressed) {
+            try (final InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = gzip.readAllBytes();
+            }
+        }
+
+        final List<String> lines = new ArrayList<>();
+
+        for (int start = 0, end; start < bytes.length; start = end + 1) {
+            end = indexOf(bytes, (byte) '\n', start);
+            lines.add(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+        }
+
+        return lines;
+    }
+
+    static Index readIndex(final Path indexFile) throws IOException {
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(indexFile)))) {
+            if (in.available() < HEADER_LENGTH || in.readInt() != INDEX_MAGIC || in.readByte() != INDEX_VERSION) {
+                throw new IOException("Not a chat log index: " + indexFile);
+            }
+
+            final boolean compressed = in.readBoolean();
+            final List<Block> blocks = new ArrayList<>();
+
+            // A block written while the server stopped may be cut short, it's indexed again on recovery
+            while (in.available() >= Long.BYTES * 3 + Integer.BYTES * 2) {
+                final long first = in.readLong();
+                final long last = in.readLong();
+                final long offset = in.readLong();
+                final int length = in.readInt();
+                final int senderCount = in.readInt();
+
+                if (in.available() < senderCount * Long.BYTES * 2) {
+                    break;
+                }
+
+                final Set<UUID> senders = new HashSet<>(senderCount);
+
+                for (int i = 0; i < senderCount; i++) {
+                    senders.add(new UUID(in.readLong(), in.readLong()));
+                }
+
+                blocks.add(new Block(first, last, offset, length, Collections.unmodifiableSet(senders)));
+            }
+
+            return new Index(compressed, blocks);
+        }
+    }
+
+    static Path sibling(final Path file, final String suffix) {
+        final String name = file.getFileName().toString();
+        return file.resolveSibling(name.substring(0, name.indexOf('.')) + suffix);
+    }
+
+    private static void writeIndex(final Path indexFile, final boolean compressed, final List<Block> blocks) throws IOException {
+        try (final FileChannel out = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(out, header(compressed));
+
+            for (final Block block : blocks) {
+                writeFully(out, ByteBuffer.wrap(encode(block)));
+            }
+
+            out.force(true);
+        }
+    }
+
+    private static ByteBuffer header(final boolean compressed) {
+        return ByteBuffer.allocate(HEADER_LENGTH)
+            .putInt(INDEX_MAGIC)
+            .put(INDEX_VERSION)
+            .put((byte) (compressed ? 1 : 0))
+            .flip();
+    }
+
+    private static byte[] encode(final Block block) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(block.first());
+            out.writeLong(block.last());
+            out.writeLong(block.offset());
+            out.writeInt(block.length());
+            out.writeInt(block.senders().size());
+
+            for (final UUID sender : block.senders()) {
+                out.writeLong(sender.getMostSignificantBits());
+                out.writeLong(sender.getLeastSignificantBits());
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static byte[] read(final FileChannel channel, final long offset, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) == -1) {
+                throw new IOException("Unexpected end of chat log");
+            }
+        }
+
+        return buffer.array();
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static int indexOf(final byte[] bytes, final byte value, final int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+
+        return bytes.length;
+    }
+
+    /**
+     * An index entry.
+     *
+     * @param first the timestamp of the block's first line
+     * @param last the timestamp of the block's last line
+     * @param offset the position of the block in the log file
+     * @param length the length of the block in the log file
+     * @param senders the senders of the lines in the block
+     */
+    record Block(long first, long last, long offset, int length, Set<UUID> senders) {
+
+        boolean overlaps(final long from, final long to) {
+            return this.first <= to && this.last >= from;
+        }
+
+    }
+
+    record Index(boolean compressed, List<Block> blocks) {
+
+    }
+
+}
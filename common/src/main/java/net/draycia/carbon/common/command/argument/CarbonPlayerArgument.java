@@ -32,11 +32,18 @@ import cloud.commandframework.captions.CaptionVariable;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.ParserException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import net.draycia.carbon.api.CarbonChatProvider;
+import net.draycia.carbon.api.CarbonServer;
 import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.common.command.Commander;
 import net.draycia.carbon.common.messages.CarbonMessages;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -144,6 +151,9 @@ public final class CarbonPlayerArgument extends CommandArgument<Commander, Carbo
 
     public static final class CarbonPlayerParser implements ArgumentParser<Commander, CarbonPlayer> {
 
+        // Longest a command waits on a name lookup or storage load for an offline player
+        private static final Duration OFFLINE_LOOKUP_TIMEOUT = Duration.ofSeconds(3);
+
         private final @NonNull CarbonMessages carbonMessages;
 
         public CarbonPlayerParser(final @NonNull CarbonMessages carbonMessages) {
@@ -165,21 +175,43 @@ public final class CarbonPlayerArgument extends CommandArgument<Commander, Carbo
                 ));
             }
 
-            return CarbonChatProvider.carbonChat().server().resolveUUID(input).thenApply(uuid -> {
-                if (uuid == null) {
-                    return ArgumentParseResult.<CarbonPlayer>failure(new CarbonPlayerParseException(input, commandContext, this.carbonMessages));
+            final CarbonServer server = CarbonChatProvider.carbonChat().server();
+
+            // Online players are already loaded, so they never need a lookup
+            for (final CarbonPlayer player : server.players()) {
+                if (player.username().equalsIgnoreCase(input)) {
+                    inputQueue.remove();
+                    return ArgumentParseResult.success(player);
                 }
+            }
 
-                final var playerResult = CarbonChatProvider.carbonChat().server().userManager().carbonPlayer(uuid).join();
+            final CompletableFuture<@Nullable CarbonPlayer> lookup = server.resolveUUID(input)
+                .thenCompose(uuid -> {
+                    if (uuid == null) {
+                        return CompletableFuture.<@Nullable CarbonPlayer>completedFuture(null);
+                    }
 
-                if (playerResult.player() == null) {
-                    return ArgumentParseResult.<CarbonPlayer>failure(new CarbonPlayerParseException(input, commandContext, this.carbonMessages));
-                }
+                    return server.userManager().carbonPlayer(uuid).<@Nullable CarbonPlayer>thenApply(ComponentPlayerResult::player);
+                });
+
+            final @Nullable CarbonPlayer player;
+
+            try {
+                player = lookup.get(OFFLINE_LOOKUP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return ArgumentParseResult.failure(new CarbonPlayerParseException(input, commandContext, this.carbonMessages));
+            } catch (final ExecutionException | TimeoutException exception) {
+                return ArgumentParseResult.failure(new CarbonPlayerParseException(input, commandContext, this.carbonMessages));
+            }
+
+            if (player == null) {
+                return ArgumentParseResult.failure(new CarbonPlayerParseException(input, commandContext, this.carbonMessages));
+            }
 
-                inputQueue.remove();
+            inputQueue.remove();
 
-                return ArgumentParseResult.<CarbonPlayer>success(playerResult.player());
-            }).join();
+            return ArgumentParseResult.success(player);
         }
 
         @Override
@@ -0,0 +1,56 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.command.argument;
+
+import cloud.commandframework.context.CommandContext;
+import com.google.inject.Singleton;
+import java.util.List;
+import java.util.function.Predicate;
+import net.draycia.carbon.common.command.Commander;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Suggests the names of online players, kept up to date by the platform's join and quit listeners.
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class OnlinePlayerSuggestions implements PlayerSuggestions {
+
+    private final PlayerNameTrie names = new PlayerNameTrie();
+
+    public void playerJoined(final String username) {
+        this.names.add(username);
+    }
+
+    public void playerLeft(final String username) {
+        this.names.remove(username);
+    }
+
+    public List<String> suggestions(final String input, final Predicate<String> filter) {
+        return this.names.startingWith(input, filter);
+    }
+
+    @Override
+    public List<String> apply(final CommandContext<Commander> context, final String input) {
+        return this.names.startingWith(input, name -> true);
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.command.argument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Case-insensitive prefix trie of player names, kept in sorted order.
+ *
+ * <p>Lookups walk the prefix once and then only the subtree below it, handing
+ * back the name instances that were inserted.</p>
+ */
+@DefaultQualifier(NonNull.class)
+final class PlayerNameTrie {
+
+    private final Node root = new Node();
+
+    synchronized void add(final String name) {
+        Node node = this.root;
+
+        for (int i = 0; i < name.length(); i++) {
+            node = node.childOrCreate(Character.toLowerCase(name.charAt(i)));
+        }
+
+        if (node.name == null) {
+            this.adjustCount(name, 1);
+        }
+
+        node.name = name;
+    }
+
+    synchronized void remove(final String name) {
+        final Node[] path = new Node[name.length() + 1];
+        path[0] = this.root;
+
+        for (int i = 0; i < name.length(); i++) {
+            final @Nullable Node child = path[i].child(Character.toLowerCase(name.charAt(i)));
+
+            if (child == null) {
+                return;
+            }
+
+            path[i + 1] = child;
+        }
+
+        if (path[name.length()].name == null) {
+            return;
+        }
+
+        path[name.length()].name = null;
+
+        for (final Node node : path) {
+            node.count--;
+        }
+
+        for (int i = name.length(); i > 0; i--) {
+            if (path[i].count > 0) {
+                break;
+            }
+
+            path[i - 1].removeChild(Character.toLowerCase(name.charAt(i - 1)));
+        }
+    }
+
+    synchronized List<String> startingWith(final String prefix, final Predicate<String> filter) {
+        Node node = this.root;
+
+        for (int i = 0; i < prefix.length(); i++) {
+            final @Nullable Node child = node.child(Character.toLowerCase(prefix.charAt(i)));
+
+            if (child == null) {
+                return List.of();
+            }
+
+            node = child;
+        }
+
+        final List<String> names = new ArrayList<>(node.count);
+        collect(node, filter, names);
+        return names;
+    }
+
+    private void adjustCount(final String name, final int delta) {
+        Node node = this.root;
+        node.count += delta;
+
+        for (int i = 0; i < name.length(); i++) {
+            node = node.child(Character.toLowerCase(name.charAt(i)));
+            node.count += delta;
+        }
+    }
+
+    private static void collect(final Node node, final Predicate<String> filter, final List<String> names) {
+        if (node.name != null && filter.test(node.name)) {
+            names.add(node.name);
+        }
+
+        for (int i = 0; i < node.size; i++) {
+            collect(node.children[i], filter, names);
+        }
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int size;
+        // Number of names stored in this subtree
+        private int count;
+        private @Nullable String name;
+
+        @Nullable Node child(final char key) {
+            final int index = Arrays.binarySearch(this.keys, 0, this.size, key);
+            return index >= 0 ? this.children[index] : null;
+        }
+
+        Node childOrCreate(final char key) {
+            final int index = Arrays.binarySearch(this.keys, 0, this.size, key);
+
+            if (index >= 0) {
+                return this.children[index];
+            }
+
+            final int insertAt = -index - 1;
+
+            if (this.size == this.keys.length) {
+                final int capacity = Math.max(2, this.size * 2);
+                this.keys = Arrays.copyOf(this.keys, capacity);
+                this.children = Arrays.copyOf(this.children, capacity);
+            }
+
+            System.arraycopy(this.keys, insertAt, this.keys, insertAt + 1, this.size - insertAt);
+            System.arraycopy(this.children, insertAt, this.children, insertAt + 1, this.size - insertAt);
+
+            final Node child = new Node();
+            this.keys[insertAt] = key;
+            this.children[insertAt] = child;
+            this.size++;
+            return child;
+        }
+
+        void removeChild(final char key) {
+            final int index = Arrays.binarySearch(this.keys, 0, this.size, key);
+
+            if (index < 0) {
+                return;
+            }
+
+            System.arraycopy(this.keys, index + 1, this.keys, index, this.size - index - 1);
+            System.arraycopy(this.children, index + 1, this.children, index, this.size - index - 1);
+            this.size--;
+            this.children[this.size] = null;
+        }
+
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.command.commands;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.minecraft.extras.MinecraftExtrasMetaKeys;
+import cloud.commandframework.minecraft.extras.RichDescription;
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.common.chatlog.ChatLog;
+import net.draycia.carbon.common.command.CarbonCommand;
+import net.draycia.carbon.common.command.CommandSettings;
+import net.draycia.carbon.common.command.Commander;
+import net.draycia.carbon.common.command.argument.CarbonPlayerArgument;
+import net.draycia.carbon.common.command.argument.PlayerSuggestions;
+import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.util.DurationUtils;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+public class ChatLogCommand extends CarbonCommand {
+
+    private static final int MAX_LINES = 100;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+        .withZone(ZoneId.systemDefault());
+
+    final CommandManager<Commander> commandManager;
+    final CarbonMessages carbonMessages;
+    final PlayerSuggestions playerSuggestions;
+    final ChatLog chatLog;
+    final Logger logger;
+
+    @Inject
+    public ChatLogCommand(
+        final CommandManager<Commander> commandManager,
+        final CarbonMessages carbonMessages,
+        final PlayerSuggestions playerSuggestions,
+        final ChatLog chatLog,
+        final Logger logger
+    ) {
+        this.commandManager = commandManager;
+        this.carbonMessages = carbonMessages;
+        this.playerSuggestions = playerSuggestions;
+        this.chatLog = chatLog;
+        this.logger = logger;
+    }
+
+    @Override
+    protected CommandSettings _commandSettings() {
+        return new CommandSettings("carbon");
+    }
+
+    @Override
+    public Key key() {
+        return Key.key("carbon", "logs");
+    }
+
+    @Override
+    public void init() {
+        final var command = this.commandManager.commandBuilder(this.commandSettings().name(), this.commandSettings().aliases())
+            .literal("logs")
+            .argument(CarbonPlayerArgument.newBuilder("player").withMessages(this.carbonMessages).withSuggestionsProvider(this.playerSuggestions).asRequired(),
+                RichDescription.of(this.carbonMessages.commandLogsArgumentPlayer().component()))
+            .argument(StringArgument.<Commander>newBuilder("range").asOptionalWithDefault("1d").build(),
+                RichDescription.of(this.carbonMessages.commandLogsArgumentRange().component()))
+            .permission("carbon.logs")
+            .senderType(Commander.class)
+            .meta(MinecraftExtrasMetaKeys.DESCRIPTION, this.carbonMessages.commandLogsDescription().component())
+            .handler(handler -> {
+                final Commander sender = handler.getSender();
+                final CarbonPlayer target = handler.get("player");
+                final String range = handler.get("range");
+                final @Nullable Duration duration = DurationUtils.parse(range);
+
+                if (duration == null) {
+                    this.carbonMessages.chatLogInvalidRange(sender, range);
+                    return;
+                }
+
+                final Instant now = Instant.now();
+                final Component targetName = CarbonPlayer.renderName(target);
+
+                // Ranges reaching past the epoch search everything, instead of overflowing
+                final Instant from = duration.compareTo(Duration.between(Instant.EPOCH, now)) >= 0
+                    ? Instant.EPOCH
+                    : now.minus(duration);
+
+                this.chatLog.search(target.uuid(), from, now, MAX_LINES).whenComplete((lines, throwable) -> {
+                    if (throwable != null) {
+                        this.logger.error("Failed to search the chat log", throwable);
+                        this.carbonMessages.chatLogSearchFailed(sender);
+                        return;
+                    }
+
+                    if (lines.isEmpty()) {
+                        this.carbonMessages.chatLogEmpty(sender, targetName, range);
+                        return;
+                    }
+
+                    this.carbonMessages.chatLogHeader(sender, targetName, range);
+
+                    for (final ChatLog.Line line : lines) {
+                        this.carbonMessages.chatLogEntry(sender, TIME_FORMAT.format(Instant.ofEpochMilli(line.timestamp())),
+                            line.channel(), line.message());
+                    }
+                });
+            })
+            .build();
+
+        this.commandManager.command(command);
+    }
+
+}
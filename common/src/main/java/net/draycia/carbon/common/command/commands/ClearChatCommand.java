@@ -28,8 +28,8 @@ import net.draycia.carbon.common.command.CarbonCommand;
 import net.draycia.carbon.common.command.CommandSettings;
 import net.draycia.carbon.common.command.Commander;
 import net.draycia.carbon.common.command.PlayerCommander;
-import net.draycia.carbon.common.config.ConfigFactory;
 import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.util.ChatClearer;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -40,20 +40,20 @@ public class ClearChatCommand extends CarbonCommand {
 
     final CarbonChat carbonChat;
     final CommandManager<Commander> commandManager;
-    final ConfigFactory configFactory;
     final CarbonMessages carbonMessages;
+    final ChatClearer chatClearer;
 
     @Inject
     public ClearChatCommand(
         final CarbonChat carbonChat,
         final CommandManager<Commander> commandManager,
-        final ConfigFactory configFactory,
-        final CarbonMessages carbonMessages
+        final CarbonMessages carbonMessages,
+        final ChatClearer chatClearer
     ) {
         this.carbonChat = carbonChat;
         this.commandManager = commandManager;
-        this.configFactory = configFactory;
         this.carbonMessages = carbonMessages;
+        this.chatClearer = chatClearer;
     }
 
     @Override
@@ -73,16 +73,6 @@ public class ClearChatCommand extends CarbonCommand {
             .senderType(PlayerCommander.class)
             .meta(MinecraftExtrasMetaKeys.DESCRIPTION, this.carbonMessages.commandClearChatDescription().component())
             .handler(handler -> {
-                // Not fond of having to send 50 messages to each player
-                // Are we not able to just paste in 50 newlines and call it a day?
-                for (int i = 0; i < this.configFactory.primaryConfig().clearChatSettings().iterations(); i++) {
-                    for (final var player : this.carbonChat.server().players()) {
-                        if (!player.hasPermission("carbon.clearchat.exempt")) {
-                            player.sendMessage(this.configFactory.primaryConfig().clearChatSettings().message());
-                        }
-                    }
-                }
-
                 final Component senderName;
                 final String username;
 
@@ -94,8 +84,7 @@ public class ClearChatCommand extends CarbonCommand {
                     username = "Console";
                 }
 
-                this.carbonChat.server().sendMessage(this.configFactory.primaryConfig().clearChatSettings()
-                    .broadcast(senderName, username));
+                this.chatClearer.clear(senderName, username);
             })
             .build();
 
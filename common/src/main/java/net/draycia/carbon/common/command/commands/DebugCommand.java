@@ -23,7 +23,10 @@ import cloud.commandframework.CommandManager;
 import cloud.commandframework.minecraft.extras.MinecraftExtrasMetaKeys;
 import cloud.commandframework.minecraft.extras.RichDescription;
 import com.google.inject.Inject;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Locale;
 import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.common.command.CarbonCommand;
 import net.draycia.carbon.common.command.CommandSettings;
@@ -32,6 +35,13 @@ import net.draycia.carbon.common.command.PlayerCommander;
 import net.draycia.carbon.common.command.argument.CarbonPlayerArgument;
 import net.draycia.carbon.common.command.argument.PlayerSuggestions;
 import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.metrics.ChatTrace;
+import net.draycia.carbon.common.metrics.ChatTracer;
+import net.draycia.carbon.common.metrics.Counter;
+import net.draycia.carbon.common.metrics.Gauge;
+import net.draycia.carbon.common.metrics.Histogram;
+import net.draycia.carbon.common.metrics.Metric;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.JoinConfiguration;
@@ -42,19 +52,29 @@ import org.checkerframework.framework.qual.DefaultQualifier;
 @DefaultQualifier(NonNull.class)
 public class DebugCommand extends CarbonCommand {
 
+    private static final int RECENT_TRACES = 10;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss")
+        .withZone(ZoneId.systemDefault());
+
     final CommandManager<Commander> commandManager;
     final CarbonMessages carbonMessages;
     final PlayerSuggestions playerSuggestions;
+    final MetricsRegistry metrics;
+    final ChatTracer tracer;
 
     @Inject
     public DebugCommand(
         final CommandManager<Commander> commandManager,
         final CarbonMessages carbonMessages,
-        final PlayerSuggestions playerSuggestions
+        final PlayerSuggestions playerSuggestions,
+        final MetricsRegistry metrics,
+        final ChatTracer tracer
     ) {
         this.commandManager = commandManager;
         this.carbonMessages = carbonMessages;
         this.playerSuggestions = playerSuggestions;
+        this.metrics = metrics;
+        this.tracer = tracer;
     }
 
     @Override
@@ -112,6 +132,71 @@ public class DebugCommand extends CarbonCommand {
             .build();
 
         this.commandManager.command(command);
+
+        final var metricsCommand = this.commandManager.commandBuilder(this.commandSettings().name(), this.commandSettings().aliases())
+            .literal("metrics")
+            .permission("carbon.debug.metrics")
+            .senderType(Commander.class)
+            .meta(MinecraftExtrasMetaKeys.DESCRIPTION, this.carbonMessages.commandDebugMetricsDescription().component())
+            .handler(handler -> {
+                final Commander sender = handler.getSender();
+
+                sender.sendMessage(Component.text("Carbon metrics:", NamedTextColor.GOLD));
+
+                for (final Metric metric : this.metrics.metrics()) {
+                    sender.sendMessage(Component.join(JoinConfiguration.noSeparators(),
+                        Component.text(metric.labels().isEmpty() ? metric.name() : metric.name() + "{" + metric.labels() + "}", NamedTextColor.GOLD),
+                        Component.text(": ", NamedTextColor.YELLOW),
+                        Component.text(formatValue(metric), NamedTextColor.GREEN)));
+                }
+            })
+            .build();
+
+        this.commandManager.command(metricsCommand);
+
+        final var tracesCommand = this.commandManager.commandBuilder(this.commandSettings().name(), this.commandSettings().aliases())
+            .literal("traces")
+            .permission("carbon.debug.traces")
+            .senderType(Commander.class)
+            .handler(handler -> {
+                final Commander sender = handler.getSender();
+                final var traces = this.tracer.recent(RECENT_TRACES);
+
+                if (traces.isEmpty()) {
+                    sender.sendMessage(Component.text("No chat messages have been traced, is tracing enabled?", NamedTextColor.RED));
+                    return;
+                }
+
+                for (final ChatTrace trace : traces) {
+                    sender.sendMessage(Component.join(JoinConfiguration.noSeparators(),
+                        Component.text(TIME_FORMAT.format(trace.startedAt()) + " ", NamedTextColor.YELLOW),
+                        Component.text(trace.sender() + " (" + trace.source() + "): ", NamedTextColor.GOLD),
+                        Component.text(trace.breakdown(), NamedTextColor.GREEN)));
+                }
+            })
+            .build();
+
+        this.commandManager.command(tracesCommand);
+    }
+
+    private static String formatValue(final Metric metric) {
+        if (metric instanceof Counter counter) {
+            return Long.toString(counter.value());
+        } else if (metric instanceof Gauge gauge) {
+            return String.format(Locale.ROOT, "%.3f", gauge.value());
+        } else if (metric instanceof Histogram histogram) {
+            // Latencies are recorded in nanoseconds, shown in milliseconds
+            final double scale = histogram.latency() ? 1e-6 : 1;
+            final String unit = histogram.latency() ? "ms" : "";
+
+            return String.format(Locale.ROOT, "count %d, p50 %.2f%s, p99 %.2f%s, max %.2f%s",
+                histogram.count(),
+                histogram.quantile(0.5) * scale, unit,
+                histogram.quantile(0.99) * scale, unit,
+                histogram.max() * scale, unit);
+        }
+
+        return "";
     }
 
 }
@@ -0,0 +1,148 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.command.commands;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.minecraft.extras.MinecraftExtrasMetaKeys;
+import cloud.commandframework.minecraft.extras.RichDescription;
+import com.google.inject.Inject;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.common.channels.ChatHistory;
+import net.draycia.carbon.common.command.CarbonCommand;
+import net.draycia.carbon.common.command.CommandSettings;
+import net.draycia.carbon.common.command.Commander;
+import net.draycia.carbon.common.command.argument.PlayerSuggestions;
+import net.draycia.carbon.common.messages.CarbonMessages;
+import net.kyori.adventure.key.Key;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+public class HistoryCommand extends CarbonCommand {
+
+    private static final int MAX_MESSAGES = 50;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss")
+        .withZone(ZoneId.systemDefault());
+
+    final CommandManager<Commander> commandManager;
+    final CarbonMessages carbonMessages;
+    final PlayerSuggestions playerSuggestions;
+    final ChatHistory chatHistory;
+    final CarbonChat carbonChat;
+
+    @Inject
+    public HistoryCommand(
+        final CommandManager<Commander> commandManager,
+        final CarbonMessages carbonMessages,
+        final PlayerSuggestions playerSuggestions,
+        final ChatHistory chatHistory,
+        final CarbonChat carbonChat
+    ) {
+        this.commandManager = commandManager;
+        this.carbonMessages = carbonMessages;
+        this.playerSuggestions = playerSuggestions;
+        this.chatHistory = chatHistory;
+        this.carbonChat = carbonChat;
+    }
+
+    @Override
+    protected CommandSettings _commandSettings() {
+        return new CommandSettings("carbon");
+    }
+
+    @Override
+    public Key key() {
+        return Key.key("carbon", "history");
+    }
+
+    @Override
+    public void init() {
+        final var command = this.commandManager.commandBuilder(this.commandSettings().name(), this.commandSettings().aliases())
+            .literal("history")
+            .argument(StringArgument.<Commander>newBuilder("target").withSuggestionsProvider((context, input) -> {
+                final List<String> suggestions = new ArrayList<>();
+
+                for (final Key channel : this.carbonChat.channelRegistry().keySet()) {
+                    suggestions.add(channel.value());
+                }
+
+                suggestions.addAll(this.playerSuggestions.apply(context, input));
+                return suggestions;
+            }).asRequired().build(), RichDescription.of(this.carbonMessages.commandHistoryArgumentTarget().component()))
+            .permission("carbon.history")
+            .senderType(Commander.class)
+            .meta(MinecraftExtrasMetaKeys.DESCRIPTION, this.carbonMessages.commandHistoryDescription().component())
+            .handler(handler -> {
+                final Commander sender = handler.getSender();
+                final String target = handler.get("target");
+                final @Nullable Key channel = this.channel(target);
+
+                if (channel != null) {
+                    this.show(sender, target, this.chatHistory.recent(channel::equals, entry -> true, MAX_MESSAGES));
+                    return;
+                }
+
+                this.carbonChat.server().resolveUUID(target).thenAccept(uuid -> {
+                    if (uuid == null) {
+                        this.carbonMessages.historyUnknownTarget(sender, target);
+                        return;
+                    }
+
+                    this.show(sender, target, this.chatHistory.recent(key -> true,
+                        entry -> uuid.equals(entry.sender().uuid()), MAX_MESSAGES));
+                });
+            })
+            .build();
+
+        this.commandManager.command(command);
+    }
+
+    private @Nullable Key channel(final String name) {
+        for (final Key key : this.carbonChat.channelRegistry().keySet()) {
+            if (key.value().equalsIgnoreCase(name)) {
+                return key;
+            }
+        }
+
+        return null;
+    }
+
+    private void show(final Commander sender, final String target, final List<ChatHistory.Entry> entries) {
+        if (entries.isEmpty()) {
+            this.carbonMessages.historyEmpty(sender, target);
+            return;
+        }
+
+        this.carbonMessages.historyHeader(sender, target);
+
+        for (final ChatHistory.Entry entry : entries) {
+            this.carbonMessages.historyEntry(sender, TIME_FORMAT.format(Instant.ofEpochMilli(entry.timestamp())),
+                entry.channel().value(), entry.render(sender));
+        }
+    }
+
+}
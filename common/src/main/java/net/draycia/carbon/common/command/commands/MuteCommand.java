@@ -20,10 +20,12 @@
 package net.draycia.carbon.common.command.commands;
 
 import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.StringArgument;
 import cloud.commandframework.arguments.standard.UUIDArgument;
 import cloud.commandframework.minecraft.extras.MinecraftExtrasMetaKeys;
 import cloud.commandframework.minecraft.extras.RichDescription;
 import com.google.inject.Inject;
+import java.time.Duration;
 import java.util.Objects;
 import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.users.CarbonPlayer;
@@ -34,8 +36,11 @@ import net.draycia.carbon.common.command.PlayerCommander;
 import net.draycia.carbon.common.command.argument.CarbonPlayerArgument;
 import net.draycia.carbon.common.command.argument.PlayerSuggestions;
 import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.users.MuteExpirations;
+import net.draycia.carbon.common.util.DurationUtils;
 import net.kyori.adventure.key.Key;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
 
 @DefaultQualifier(NonNull.class)
@@ -45,18 +50,21 @@ public class MuteCommand extends CarbonCommand {
     final CommandManager<Commander> commandManager;
     final CarbonMessages carbonMessages;
     final PlayerSuggestions playerSuggestions;
+    final MuteExpirations muteExpirations;
 
     @Inject
     public MuteCommand(
         final CarbonChat carbonChat,
         final CommandManager<Commander> commandManager,
         final CarbonMessages carbonMessages,
-        final PlayerSuggestions playerSuggestions
+        final PlayerSuggestions playerSuggestions,
+        final MuteExpirations muteExpirations
     ) {
         this.carbonChat = carbonChat;
         this.commandManager = commandManager;
         this.carbonMessages = carbonMessages;
         this.playerSuggestions = playerSuggestions;
+        this.muteExpirations = muteExpirations;
     }
 
     @Override
@@ -79,6 +87,11 @@ public class MuteCommand extends CarbonCommand {
                 .withDescription(RichDescription.of(this.carbonMessages.commandMuteArgumentUUID().component()))
                 .withArgument(UUIDArgument.optional("uuid"))
             )
+            .flag(this.commandManager.flagBuilder("duration")
+                .withAliases("d")
+                .withDescription(RichDescription.of(this.carbonMessages.commandMuteArgumentDuration().component()))
+                .withArgument(StringArgument.optional("duration"))
+            )
             .permission("carbon.mute")
             .senderType(PlayerCommander.class)
             .meta(MinecraftExtrasMetaKeys.DESCRIPTION, this.carbonMessages.commandMuteDescription().component())
@@ -102,6 +115,25 @@ public class MuteCommand extends CarbonCommand {
                     return;
                 }
 
+                long expiration = -1;
+
+                if (handler.flags().contains("duration")) {
+                    final String input = handler.get("duration");
+                    final @Nullable Duration duration = DurationUtils.parse(input);
+
+                    if (duration == null) {
+                        this.carbonMessages.muteInvalidDuration(sender, input);
+                        return;
+                    }
+
+                    try {
+                        expiration = Math.addExact(System.currentTimeMillis(), duration.toMillis());
+                    } catch (final ArithmeticException exception) {
+                        // Ends long after anyone will care, so it never ends
+                        expiration = -1;
+                    }
+                }
+
                 this.carbonMessages.muteAlertRecipient(target);
 
                 if (!sender.equals(target)) {
@@ -116,7 +148,7 @@ public class MuteCommand extends CarbonCommand {
                     this.carbonMessages.muteAlertPlayers(player, CarbonPlayer.renderName(target));
                 }
 
-                target.muted(true);
+                this.muteExpirations.mute(target, expiration);
             })
             .build();
 
@@ -24,6 +24,7 @@ import cloud.commandframework.arguments.standard.UUIDArgument;
 import cloud.commandframework.minecraft.extras.MinecraftExtrasMetaKeys;
 import cloud.commandframework.minecraft.extras.RichDescription;
 import com.google.inject.Inject;
+import java.time.Duration;
 import java.util.Objects;
 import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.users.CarbonPlayer;
@@ -34,6 +35,7 @@ import net.draycia.carbon.common.command.PlayerCommander;
 import net.draycia.carbon.common.command.argument.CarbonPlayerArgument;
 import net.draycia.carbon.common.command.argument.PlayerSuggestions;
 import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.util.DurationUtils;
 import net.kyori.adventure.key.Key;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.framework.qual.DefaultQualifier;
@@ -101,15 +103,27 @@ public class MuteInfoCommand extends CarbonCommand {
                     } else {
                         this.carbonMessages.muteInfoNotMuted(sender, CarbonPlayer.renderName(target));
                     }
-                } else {
+                    return;
+                }
+
+                final long expiration = target.muteExpiration();
+
+                if (expiration == -1) {
                     if (sender.equals(target)) {
                         this.carbonMessages.muteInfoSelfMuted(sender);
                     } else {
-                        this.carbonMessages.muteInfoMuted(sender, CarbonPlayer.renderName(target), target.muted());
+                        this.carbonMessages.muteInfoMuted(sender, CarbonPlayer.renderName(target), true);
                     }
+                    return;
                 }
 
-                this.carbonMessages.muteInfoMuted(sender, CarbonPlayer.renderName(target), target.muted());
+                final String remaining = DurationUtils.format(Duration.ofMillis(expiration - System.currentTimeMillis()));
+
+                if (sender.equals(target)) {
+                    this.carbonMessages.muteInfoSelfMutedUntil(sender, remaining);
+                } else {
+                    this.carbonMessages.muteInfoMutedUntil(sender, CarbonPlayer.renderName(target), remaining);
+                }
             })
             .build();
 
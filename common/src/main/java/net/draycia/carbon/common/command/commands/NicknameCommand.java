@@ -27,7 +27,6 @@ import cloud.commandframework.permission.Permission;
 import com.google.inject.Inject;
 import java.util.function.Supplier;
 import net.draycia.carbon.api.users.CarbonPlayer;
-import net.draycia.carbon.common.channels.ConfigChatChannel;
 import net.draycia.carbon.common.command.CarbonCommand;
 import net.draycia.carbon.common.command.CommandSettings;
 import net.draycia.carbon.common.command.Commander;
@@ -36,6 +35,7 @@ import net.draycia.carbon.common.command.argument.CarbonPlayerArgument;
 import net.draycia.carbon.common.command.argument.OptionValueParser;
 import net.draycia.carbon.common.command.argument.PlayerSuggestions;
 import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.util.MessageTagParsers;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
@@ -49,16 +49,19 @@ public class NicknameCommand extends CarbonCommand {
     final CommandManager<Commander> commandManager;
     final CarbonMessages carbonMessages;
     final PlayerSuggestions playerSuggestions;
+    final MessageTagParsers messageTagParsers;
 
     @Inject
     public NicknameCommand(
         final CommandManager<Commander> commandManager,
         final CarbonMessages carbonMessages,
-        final PlayerSuggestions playerSuggestions
+        final PlayerSuggestions playerSuggestions,
+        final MessageTagParsers messageTagParsers
     ) {
         this.commandManager = commandManager;
         this.carbonMessages = carbonMessages;
         this.playerSuggestions = playerSuggestions;
+        this.messageTagParsers = messageTagParsers;
     }
 
     @Override
@@ -125,7 +128,7 @@ public class NicknameCommand extends CarbonCommand {
                     final Supplier<Component> lazyNickname = () -> {
                         if (ref.cached != null) return ref.cached;
 
-                        ref.cached = ConfigChatChannel.parseMessageTags(sender, handler.flags().get("nickname"));
+                        ref.cached = this.messageTagParsers.parse(sender, handler.flags().get("nickname"));
                         return ref.cached;
                     };
 
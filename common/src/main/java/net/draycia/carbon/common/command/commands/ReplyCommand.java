@@ -29,6 +29,7 @@ import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.api.util.SourcedAudience;
+import net.draycia.carbon.common.chatlog.ChatLog;
 import net.draycia.carbon.common.command.CarbonCommand;
 import net.draycia.carbon.common.command.CommandSettings;
 import net.draycia.carbon.common.command.Commander;
@@ -49,16 +50,19 @@ public class ReplyCommand extends CarbonCommand {
     final CarbonChat carbonChat;
     final CommandManager<Commander> commandManager;
     final CarbonMessages carbonMessages;
+    final ChatLog chatLog;
 
     @Inject
     public ReplyCommand(
         final CarbonChat carbonChat,
         final CommandManager<Commander> commandManager,
-        final CarbonMessages carbonMessages
+        final CarbonMessages carbonMessages,
+        final ChatLog chatLog
     ) {
         this.carbonChat = carbonChat;
         this.commandManager = commandManager;
         this.carbonMessages = carbonMessages;
+        this.chatLog = chatLog;
     }
 
     @Override
@@ -127,6 +131,7 @@ public class ReplyCommand extends CarbonCommand {
                 this.carbonMessages.whisperSender(new SourcedAudience(sender, sender), senderName, recipientName, message);
                 this.carbonMessages.whisperRecipient(new SourcedAudience(sender, recipient), senderName, recipientName, message);
                 this.carbonMessages.whisperConsoleLog(this.carbonChat.server().console(), senderName, recipientName, message);
+                this.chatLog.whisper(sender, recipient, message);
 
                 sender.lastWhisperTarget(recipient.uuid());
                 sender.whisperReplyTarget(recipient.uuid());
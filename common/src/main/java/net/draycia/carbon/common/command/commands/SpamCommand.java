@@ -0,0 +1,94 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.command.commands;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.minecraft.extras.MinecraftExtrasMetaKeys;
+import com.google.inject.Inject;
+import java.util.List;
+import net.draycia.carbon.common.channels.SpamFilter;
+import net.draycia.carbon.common.command.CarbonCommand;
+import net.draycia.carbon.common.command.CommandSettings;
+import net.draycia.carbon.common.command.Commander;
+import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.util.DurationUtils;
+import net.kyori.adventure.key.Key;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+public class SpamCommand extends CarbonCommand {
+
+    private static final int MAX_OFFENDERS = 10;
+
+    final CommandManager<Commander> commandManager;
+    final CarbonMessages carbonMessages;
+    final SpamFilter spamFilter;
+
+    @Inject
+    public SpamCommand(
+        final CommandManager<Commander> commandManager,
+        final CarbonMessages carbonMessages,
+        final SpamFilter spamFilter
+    ) {
+        this.commandManager = commandManager;
+        this.carbonMessages = carbonMessages;
+        this.spamFilter = spamFilter;
+    }
+
+    @Override
+    protected CommandSettings _commandSettings() {
+        return new CommandSettings("carbon");
+    }
+
+    @Override
+    public Key key() {
+        return Key.key("carbon", "spam");
+    }
+
+    @Override
+    public void init() {
+        final var command = this.commandManager.commandBuilder(this.commandSettings().name(), this.commandSettings().aliases())
+            .literal("spam")
+            .permission("carbon.spam.stats")
+            .senderType(Commander.class)
+            .meta(MinecraftExtrasMetaKeys.DESCRIPTION, this.carbonMessages.commandSpamDescription().component())
+            .handler(handler -> {
+                final List<SpamFilter.Offender> offenders = this.spamFilter.offenders();
+
+                if (offenders.isEmpty()) {
+                    this.carbonMessages.spamStatsEmpty(handler.getSender());
+                    return;
+                }
+
+                this.carbonMessages.spamStatsHeader(handler.getSender());
+
+                for (final SpamFilter.Offender offender : offenders.subList(0, Math.min(MAX_OFFENDERS, offenders.size()))) {
+                    this.carbonMessages.spamStatsEntry(handler.getSender(), offender.username(),
+                        String.valueOf(offender.rateLimited()), String.valueOf(offender.repeated()),
+                        DurationUtils.format(offender.sinceLastBlocked()));
+                }
+            })
+            .build();
+
+        this.commandManager.command(command);
+    }
+
+}
@@ -34,6 +34,7 @@ import net.draycia.carbon.common.command.PlayerCommander;
 import net.draycia.carbon.common.command.argument.CarbonPlayerArgument;
 import net.draycia.carbon.common.command.argument.PlayerSuggestions;
 import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.users.MuteExpirations;
 import net.kyori.adventure.key.Key;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.framework.qual.DefaultQualifier;
@@ -45,18 +46,21 @@ public class UnmuteCommand extends CarbonCommand {
     final CommandManager<Commander> commandManager;
     final CarbonMessages carbonMessages;
     final PlayerSuggestions playerSuggestions;
+    final MuteExpirations muteExpirations;
 
     @Inject
     public UnmuteCommand(
         final CarbonChat carbonChat,
         final CommandManager<Commander> commandManager,
         final CarbonMessages carbonMessages,
-        final PlayerSuggestions playerSuggestions
+        final PlayerSuggestions playerSuggestions,
+        final MuteExpirations muteExpirations
     ) {
         this.carbonChat = carbonChat;
         this.commandManager = commandManager;
         this.carbonMessages = carbonMessages;
         this.playerSuggestions = playerSuggestions;
+        this.muteExpirations = muteExpirations;
     }
 
     @Override
@@ -115,7 +119,7 @@ public class UnmuteCommand extends CarbonCommand {
                     this.carbonMessages.unmuteAlertPlayers(player, CarbonPlayer.renderName(target));
                 }
 
-                target.muted(false);
+                this.muteExpirations.unmute(target);
             })
             .build();
 
@@ -0,0 +1,65 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.config;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@ConfigSerializable
+@DefaultQualifier(NonNull.class)
+public class ChatLogSettings {
+
+    @Comment("""
+    Whether chat and whisper messages are written to the chat-logs folder, so they can be searched with /carbon logs.
+    A new log file is started every day and every time the server starts.
+    """)
+    private boolean enabled = false;
+
+    @Comment("Whether log files are compressed once they're no longer written to. Compressed logs can still be searched.")
+    private boolean compressClosedLogs = true;
+
+    @Comment("""
+    How many kilobytes of messages are grouped under a single index entry.
+    Smaller blocks make searches read less, but make the index files larger.
+    """)
+    private int blockKilobytes = 64;
+
+    @Comment("How many days log files are kept before they're deleted, searches never look further back. Set to 0 to keep them forever.")
+    private int retentionDays = 30;
+
+    public boolean enabled() {
+        return this.enabled;
+    }
+
+    public boolean compressClosedLogs() {
+        return this.compressClosedLogs;
+    }
+
+    public int blockBytes() {
+        return Math.max(1, this.blockKilobytes) * 1024;
+    }
+
+    public int retentionDays() {
+        return Math.max(0, this.retentionDays);
+    }
+
+}
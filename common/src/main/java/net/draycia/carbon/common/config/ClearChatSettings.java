@@ -19,7 +19,9 @@
  */
 package net.draycia.carbon.common.config;
 
+import java.util.Collections;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
@@ -43,7 +45,11 @@ public class ClearChatSettings {
     @Comment("The message to be sent after chat is cleared.")
     private String broadcast = "<gold>Chat has been cleared by </gold><green><display_name><green><gold>.";
 
+    @Comment("If chat should be cleared on every server connected through the messaging broker.")
+    private boolean network = false;
+
     private @MonotonicNonNull Component messageComponent = null;
+    private transient @MonotonicNonNull Component clearComponent = null;
 
     public Component message() {
         if (this.messageComponent == null) {
@@ -57,6 +63,25 @@ public class ClearChatSettings {
         return this.iterations;
     }
 
+    /**
+     * Returns the message repeated {@link #iterations()} times, joined into one component so
+     * chat can be cleared with a single message per player.
+     *
+     * @return the combined clear message
+     */
+    public Component clearMessage() {
+        if (this.clearComponent == null) {
+            this.clearComponent = Component.join(JoinConfiguration.newlines(),
+                Collections.nCopies(Math.max(this.iterations, 0), this.message()));
+        }
+
+        return this.clearComponent;
+    }
+
+    public boolean network() {
+        return this.network;
+    }
+
     public Component broadcast(final Component displayName, final String username) {
         return MiniMessage.miniMessage().deserialize(this.broadcast,
             TagResolver.builder()
@@ -0,0 +1,78 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.config;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@ConfigSerializable
+@DefaultQualifier(NonNull.class)
+public class ConcurrencySettings {
+
+    @Comment("""
+    Whether Carbon should process chat messages on virtual threads.
+    Virtual threads require Java 21 or newer, a fixed pool of platform threads is used otherwise.
+    """)
+    private boolean virtualThreads = false;
+
+    @Comment("The number of platform threads used to process chat messages when virtual threads are unavailable.")
+    private int chatThreads = 2;
+
+    @Comment("""
+    Paper only. Whether messages from players whose data is still loading are sent once it has loaded, instead of
+    holding up the chat thread until then. Deferred messages are sent by Carbon itself, so other plugins don't see
+    them in Paper's chat event and they're never signed.
+    """)
+    private boolean deferChatWhileLoading = false;
+
+    @Comment("""
+    Whether Carbon should run blocking storage and network work, like database queries and user files, on virtual threads.
+    Virtual threads require Java 21 or newer, a fixed pool of platform threads is used otherwise.
+    Work submitted while the server is shutting down, like saving the last players, runs on the thread that submitted it.
+    Changes take effect after a restart.
+    """)
+    private boolean ioVirtualThreads = true;
+
+    @Comment("The number of platform threads used for blocking storage and network work when virtual threads are unavailable.")
+    private int ioThreads = 8;
+
+    public boolean virtualThreads() {
+        return this.virtualThreads;
+    }
+
+    public int chatThreads() {
+        return Math.max(1, this.chatThreads);
+    }
+
+    public boolean deferChatWhileLoading() {
+        return this.deferChatWhileLoading;
+    }
+
+    public boolean ioVirtualThreads() {
+        return this.ioVirtualThreads;
+    }
+
+    public int ioThreads() {
+        return Math.max(1, this.ioThreads);
+    }
+
+}
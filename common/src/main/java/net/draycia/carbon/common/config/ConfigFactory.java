@@ -20,6 +20,7 @@
 package net.draycia.carbon.common.config;
 
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -36,14 +37,22 @@ import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
 
+/**
+ * Loads Carbon's configs.
+ *
+ * <p>Each load creates a new config object that isn't modified afterwards, and replaces
+ * the previous one in a single write. Code that reads several settings should get the
+ * config once, so they all come from the same load.</p>
+ */
+@Singleton
 @DefaultQualifier(NonNull.class)
 public class ConfigFactory {
 
     private final Path dataDirectory;
     private final LocaleSerializerConfigurate locale;
 
-    private @Nullable PrimaryConfig primaryConfig = null;
-    private @Nullable CommandConfig commandSettings = null;
+    private volatile @Nullable PrimaryConfig primaryConfig = null;
+    private volatile @Nullable CommandConfig commandSettings = null;
 
     @Inject
     public ConfigFactory(
@@ -61,7 +70,12 @@ public class ConfigFactory {
 
     public @Nullable PrimaryConfig reloadPrimaryConfig() {
         try {
-            this.primaryConfig = this.load(PrimaryConfig.class, "config.conf");
+            final @Nullable PrimaryConfig loaded = this.load(PrimaryConfig.class, "config.conf");
+
+            if (loaded != null) {
+                loaded.prepare();
+                this.primaryConfig = loaded;
+            }
         } catch (final IOException exception) {
             exception.printStackTrace();
         }
@@ -70,16 +84,22 @@ public class ConfigFactory {
     }
 
     public @Nullable PrimaryConfig primaryConfig() {
-        if (this.primaryConfig == null) {
+        final @Nullable PrimaryConfig primaryConfig = this.primaryConfig;
+
+        if (primaryConfig == null) {
             return this.reloadPrimaryConfig();
         }
 
-        return this.primaryConfig;
+        return primaryConfig;
     }
 
     public @Nullable CommandConfig loadCommandSettings() {
         try {
-            this.commandSettings = this.load(CommandConfig.class, "command-settings.conf");
+            final @Nullable CommandConfig loaded = this.load(CommandConfig.class, "command-settings.conf");
+
+            if (loaded != null) {
+                this.commandSettings = loaded;
+            }
         } catch (final IOException exception) {
             exception.printStackTrace();
         }
@@ -88,11 +108,13 @@ public class ConfigFactory {
     }
 
     public @Nullable CommandConfig commandSettings() {
-        if (this.commandSettings == null) {
+        final @Nullable CommandConfig commandSettings = this.commandSettings;
+
+        if (commandSettings == null) {
             return this.loadCommandSettings();
         }
 
-        return this.commandSettings;
+        return commandSettings;
     }
 
     public ConfigurationLoader<?> configurationLoader(final Path file) {
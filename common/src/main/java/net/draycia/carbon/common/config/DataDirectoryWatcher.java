@@ -0,0 +1,234 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.config;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
+import net.draycia.carbon.common.ForCarbon;
+import net.draycia.carbon.common.channels.CarbonChannelRegistry;
+import net.draycia.carbon.common.events.CarbonReloadEvent;
+import net.draycia.carbon.common.filter.WordFilter;
+import net.draycia.carbon.common.messages.CarbonMessageSource;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches the data directory and reloads the files that changed, without waiting for /carbon reload.
+ *
+ * <p>Changes are collected until the files have been quiet for a moment, so editors that
+ * write a file in several steps only cause one reload. Channel, locale and word filter files
+ * are reloaded on their own, a change to the primary config goes through a regular {@link CarbonReloadEvent}
+ * since most of Carbon reads it.</p>
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class DataDirectoryWatcher {
+
+    private static final long QUIET_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final CarbonChat carbonChat;
+    private final Path dataDirectory;
+    private final Path primaryConfigFile;
+    private final Path channelDirectory;
+    private final Path localeDirectory;
+    private final Path wordFilterFile;
+    private final ConfigFactory configFactory;
+    private final CarbonChannelRegistry channelRegistry;
+    private final CarbonMessageSource messageSource;
+    private final WordFilter wordFilter;
+    private final Logger logger;
+    private @Nullable WatchService watchService = null;
+
+    @Inject
+    public DataDirectoryWatcher(
+        final CarbonChat carbonChat,
+        @ForCarbon final Path dataDirectory,
+        final ConfigFactory configFactory,
+        final CarbonChannelRegistry channelRegistry,
+        final CarbonMessageSource messageSource,
+        final WordFilter wordFilter,
+        final Logger logger
+    ) {
+        this.carbonChat = carbonChat;
+        this.dataDirectory = dataDirectory;
+        this.primaryConfigFile = dataDirectory.resolve("config.conf");
+        this.channelDirectory = dataDirectory.resolve("channels");
+        this.localeDirectory = dataDirectory.resolve("locale");
+        this.wordFilterFile = dataDirectory.resolve(WordFilter.FILE_NAME);
+        this.configFactory = configFactory;
+        this.channelRegistry = channelRegistry;
+        this.messageSource = messageSource;
+        this.wordFilter = wordFilter;
+        this.logger = logger;
+
+        this.updateWatching();
+
+        // After the config has been reloaded
+        carbonChat.eventHandler().subscribe(CarbonReloadEvent.class, 100, false, event -> this.updateWatching());
+        carbonChat.eventHandler().subscribe(CarbonShutdownEvent.class, 0, false, event -> this.stop());
+    }
+
+    private synchronized void updateWatching() {
+        final @Nullable PrimaryConfig primaryConfig = this.configFactory.primaryConfig();
+        final boolean enabled = primaryConfig != null && primaryConfig.watchFiles();
+
+        if (enabled && this.watchService == null) {
+            this.start();
+        } else if (!enabled) {
+            this.stop();
+        }
+    }
+
+    private void start() {
+        try {
+            final WatchService watchService = this.dataDirectory.getFileSystem().newWatchService();
+            this.register(watchService, this.dataDirectory);
+            this.register(watchService, this.channelDirectory);
+            this.register(watchService, this.localeDirectory);
+
+            final Thread thread = new Thread(() -> this.watch(watchService), "Carbon File Watcher");
+            thread.setDaemon(true);
+            thread.start();
+
+            this.watchService = watchService;
+        } catch (final IOException exception) {
+            this.logger.error("Failed to watch the data directory for changes", exception);
+        }
+    }
+
+    private synchronized void stop() {
+        if (this.watchService == null) {
+            return;
+        }
+
+        try {
+            this.watchService.close();
+        } catch (final IOException exception) {
+            this.logger.error("Failed to stop watching the data directory", exception);
+        }
+
+        this.watchService = null;
+    }
+
+    private void register(final WatchService watchService, final Path directory) throws IOException {
+        if (Files.isDirectory(directory)) {
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        }
+    }
+
+    private void watch(final WatchService watchService) {
+        final Set<Path> changed = new LinkedHashSet<>();
+        boolean overflowed = false;
+        long quietAt = 0;
+
+        try {
+            while (true) {
+                final @Nullable WatchKey key = changed.isEmpty() && !overflowed
+                    ? watchService.take()
+                    : watchService.poll(Math.max(0, quietAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+                if (key == null) {
+                    this.dispatch(changed, overflowed);
+                    changed.clear();
+                    overflowed = false;
+                    continue;
+                }
+
+                final Path directory = (Path) key.watchable();
+
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        overflowed = true;
+                        continue;
+                    }
+
+                    final Path file = directory.resolve((Path) event.context());
+
+                    // The channel and locale directories may be created after we started watching
+                    if (event.kind() == ENTRY_CREATE && (file.equals(this.channelDirectory) || file.equals(this.localeDirectory))) {
+                        this.register(watchService, file);
+                    }
+
+                    changed.add(file);
+                }
+
+                key.reset();
+                quietAt = System.nanoTime() + QUIET_PERIOD_NANOS;
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException ignored) {
+            // Stopped
+        } catch (final IOException exception) {
+            this.logger.error("Stopped watching the data directory for changes", exception);
+        }
+    }
+
+    private void dispatch(final Set<Path> changed, final boolean overflowed) {
+        try {
+            // Some changes were missed, or the primary config changed, only a full reload covers those
+            if (overflowed || changed.contains(this.primaryConfigFile)) {
+                this.logger.info("Files in the data directory changed, reloading");
+                this.carbonChat.eventHandler().emit(new CarbonReloadEvent());
+                return;
+            }
+
+            final List<Path> channelFiles = new ArrayList<>();
+
+            for (final Path file : changed) {
+                final @Nullable Path parent = file.getParent();
+
+                if (this.channelDirectory.equals(parent) && file.getFileName().toString().endsWith(".conf")) {
+                    channelFiles.add(file);
+                } else if (this.localeDirectory.equals(parent)) {
+                    this.messageSource.reloadLocale(file);
+                } else if (file.equals(this.wordFilterFile)) {
+                    this.wordFilter.reload();
+                }
+            }
+
+            if (!channelFiles.isEmpty()) {
+                this.channelRegistry.reloadChannelFiles(channelFiles);
+            }
+        } catch (final RuntimeException exception) {
+            this.logger.error("Failed to reload changed files", exception);
+        }
+    }
+
+}
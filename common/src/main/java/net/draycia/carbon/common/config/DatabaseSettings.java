@@ -42,6 +42,16 @@ public class DatabaseSettings {
     @Comment("The connection password.")
     private String password = "password";
 
+    public DatabaseSettings() {
+
+    }
+
+    public DatabaseSettings(final String url, final String username, final String password) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
     public String url() {
         return this.url;
     }
@@ -0,0 +1,70 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.config;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@ConfigSerializable
+@DefaultQualifier(NonNull.class)
+public class HistorySettings {
+
+    @Comment("Whether recent chat messages are kept in memory, so they can be shown again.")
+    private boolean enabled = true;
+
+    @Comment("The most messages kept for each channel.")
+    private int messagesPerChannel = 100;
+
+    @Comment("The most memory the kept messages of each channel may use, in kilobytes.")
+    private int kilobytesPerChannel = 256;
+
+    @Comment("""
+    The number of recent messages shown to players when they join.
+    Players only see messages they would have received when they were sent. Set to 0 to disable.
+    On networks running Carbon on both the proxy and the backend servers, disable this on one of them.
+    """)
+    private int replayMessages = 20;
+
+    @Comment("Whether kept messages are stored outside the Java heap.")
+    private boolean offHeap = false;
+
+    public boolean enabled() {
+        return this.enabled;
+    }
+
+    public int messagesPerChannel() {
+        return Math.max(0, this.messagesPerChannel);
+    }
+
+    public long bytesPerChannel() {
+        return Math.max(0, this.kilobytesPerChannel) * 1024L;
+    }
+
+    public int replayMessages() {
+        return Math.max(0, this.replayMessages);
+    }
+
+    public boolean offHeap() {
+        return this.offHeap;
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.config;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@ConfigSerializable
+@DefaultQualifier(NonNull.class)
+public class MetricsSettings {
+
+    @Comment("""
+    Whether Carbon should serve its metrics in the Prometheus text format.
+    Metrics are always available in-game with /carbondebug metrics.
+    """)
+    private boolean prometheusEnabled = false;
+
+    @Comment("The address the Prometheus endpoint listens on. Keep this local unless it's firewalled.")
+    private String prometheusAddress = "127.0.0.1";
+
+    @Comment("The port the Prometheus endpoint listens on, metrics are served at /metrics.")
+    private int prometheusPort = 9940;
+
+    public boolean prometheusEnabled() {
+        return this.prometheusEnabled;
+    }
+
+    public String prometheusAddress() {
+        return this.prometheusAddress;
+    }
+
+    public int prometheusPort() {
+        return this.prometheusPort;
+    }
+
+}
@@ -23,6 +23,7 @@ import net.kyori.adventure.key.Key;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -40,6 +41,8 @@ public class PingSettings {
     private float volume = 1.0f; // 0.0 -> infinity
     private float pitch = 1.0f; // 0.0 -> 2.0
 
+    private transient @Nullable Sound sound = null;
+
     public TextColor highlightTextColor() {
         return this.highlightTextColor;
     }
@@ -69,7 +72,15 @@ public class PingSettings {
     }
 
     public Sound sound() {
-        return Sound.sound(this.name, this.source, this.volume, this.pitch);
+        if (this.sound == null) {
+            return Sound.sound(this.name, this.source, this.volume, this.pitch);
+        }
+
+        return this.sound;
+    }
+
+    void prepare() {
+        this.sound = Sound.sound(this.name, this.source, this.volume, this.pitch);
     }
 
 }
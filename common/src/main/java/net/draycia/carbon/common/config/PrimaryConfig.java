@@ -19,6 +19,8 @@
  */
 package net.draycia.carbon.common.config;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -71,6 +73,40 @@ public class PrimaryConfig {
 
     private MessagingSettings messagingSettings = new MessagingSettings();
 
+    @Comment("Settings for the threads Carbon uses to process chat messages.")
+    private ConcurrencySettings concurrencySettings = new ConcurrencySettings();
+
+    @Comment("Settings for exposing Carbon's metrics.")
+    private MetricsSettings metricsSettings = new MetricsSettings();
+
+    @Comment("Settings for tracing how long each stage of a chat message takes.")
+    private TracingSettings tracingSettings = new TracingSettings();
+
+    @Comment("Settings for the recent chat history kept in memory.")
+    private HistorySettings historySettings = new HistorySettings();
+
+    @Comment("Settings for the chat log written to disk.")
+    private ChatLogSettings chatLogSettings = new ChatLogSettings();
+
+    @Comment("Settings for blocking chat spam.")
+    private SpamSettings spamSettings = new SpamSettings();
+
+    @Comment("""
+    Whether changes to the config, channel and locale files are applied as soon as they're saved.
+    When disabled, /carbon reload is needed to apply them.
+    """)
+    private boolean watchFiles = true;
+
+    @Comment("""
+    How many seconds the message tags a player may use are cached for.
+    Permission changes made through LuckPerms apply right away, changes made through other
+    permission plugins may take this long to apply. /carbon reload clears the cache.
+    """)
+    private int messageTagCacheSeconds = 30;
+
+    private transient String[] customPlaceholderTags = new String[0];
+    private transient String[] customPlaceholderValues = new String[0];
+
     public Locale defaultLocale() {
         return this.defaultLocale;
     }
@@ -95,6 +131,22 @@ public class PrimaryConfig {
         return this.customPlaceholders;
     }
 
+    /**
+     * Replaces the custom placeholder tags in a message with their values.
+     *
+     * @param message the message
+     * @return the message with custom placeholders replaced
+     */
+    public String replaceCustomPlaceholders(final String message) {
+        String replaced = message;
+
+        for (int i = 0; i < this.customPlaceholderTags.length; i++) {
+            replaced = replaced.replace(this.customPlaceholderTags[i], this.customPlaceholderValues[i]);
+        }
+
+        return replaced;
+    }
+
     public @Nullable List<String> customChatSuggestions() {
         return this.customChatSuggestions;
     }
@@ -111,6 +163,57 @@ public class PrimaryConfig {
         return this.messagingSettings;
     }
 
+    public ConcurrencySettings concurrencySettings() {
+        return this.concurrencySettings;
+    }
+
+    public MetricsSettings metricsSettings() {
+        return this.metricsSettings;
+    }
+
+    public TracingSettings tracingSettings() {
+        return this.tracingSettings;
+    }
+
+    public HistorySettings historySettings() {
+        return this.historySettings;
+    }
+
+    public ChatLogSettings chatLogSettings() {
+        return this.chatLogSettings;
+    }
+
+    public SpamSettings spamSettings() {
+        return this.spamSettings;
+    }
+
+    public boolean watchFiles() {
+        return this.watchFiles;
+    }
+
+    public int messageTagCacheSeconds() {
+        return Math.max(0, this.messageTagCacheSeconds);
+    }
+
+    /**
+     * Computes the data derived from the settings, called once after loading.
+     */
+    void prepare() {
+        this.customPlaceholders = Collections.unmodifiableMap(new LinkedHashMap<>(this.customPlaceholders));
+        this.customPlaceholderTags = new String[this.customPlaceholders.size()];
+        this.customPlaceholderValues = new String[this.customPlaceholders.size()];
+
+        int index = 0;
+
+        for (final Map.Entry<String, String> entry : this.customPlaceholders.entrySet()) {
+            this.customPlaceholderTags[index] = "<" + entry.getKey() + ">";
+            this.customPlaceholderValues[index] = entry.getValue();
+            index++;
+        }
+
+        this.pingSettings.prepare();
+    }
+
     public enum StorageType {
         JSON,
         MYSQL,
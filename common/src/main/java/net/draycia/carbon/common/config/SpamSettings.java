@@ -0,0 +1,72 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.config;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@ConfigSerializable
+@DefaultQualifier(NonNull.class)
+public class SpamSettings {
+
+    @Comment("""
+    Whether chat messages sent too quickly, or repeated too often, are blocked before they're processed.
+    Players with the carbon.spam.exempt permission are never blocked.
+    """)
+    private boolean enabled = true;
+
+    @Comment("How many messages players can send in a quick burst before they're slowed down.")
+    private int burst = 5;
+
+    @Comment("Once the burst is used up, how many milliseconds players must wait between messages.")
+    private int messageIntervalMillis = 1000;
+
+    @Comment("""
+    How many of each player's recent messages are remembered to catch repeated messages.
+    Messages are compared ignoring case, punctuation and repeated letters. Set to 0 to allow repeats.
+    """)
+    private int rememberedMessages = 4;
+
+    @Comment("How long a message is remembered for, in seconds.")
+    private int repeatWindowSeconds = 30;
+
+    public boolean enabled() {
+        return this.enabled;
+    }
+
+    public int burst() {
+        return Math.max(1, this.burst);
+    }
+
+    public long messageIntervalNanos() {
+        return Math.max(0, this.messageIntervalMillis) * 1_000_000L;
+    }
+
+    public int rememberedMessages() {
+        return Math.max(0, this.rememberedMessages);
+    }
+
+    public long repeatWindowNanos() {
+        return Math.max(0, this.repeatWindowSeconds) * 1_000_000_000L;
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.config;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@ConfigSerializable
+@DefaultQualifier(NonNull.class)
+public class TracingSettings {
+
+    @Comment("""
+    Whether Carbon should time each stage of sampled chat messages.
+    Recent traces can be viewed with /carbondebug traces.
+    """)
+    private boolean enabled = false;
+
+    @Comment("The fraction of chat messages that are traced, between 0 and 1.")
+    private double sampleRate = 0.05;
+
+    @Comment("Traced messages taking longer than this many milliseconds to process are logged with their full breakdown.")
+    private long slowThresholdMillis = 50;
+
+    public boolean enabled() {
+        return this.enabled;
+    }
+
+    public double sampleRate() {
+        return this.sampleRate;
+    }
+
+    public long slowThresholdMillis() {
+        return this.slowThresholdMillis;
+    }
+
+}
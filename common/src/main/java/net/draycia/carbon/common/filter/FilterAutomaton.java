@@ -0,0 +1,263 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.filter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Finds every occurrence of many folded words in a single pass (Aho-Corasick).
+ *
+ * <p>A letter repeated in the text, like in "baaad", stays in the current state
+ * instead of restarting the match, so the word "bad" is still found. Words that
+ * repeat a letter themselves still need it repeated, "ass" doesn't match "as".
+ * A repeat is only skipped when no shorter match in progress could continue with
+ * it, so with the words "xa" and "aab" the text "xaab" still finds "aab".</p>
+ */
+@DefaultQualifier(NonNull.class)
+final class FilterAutomaton {
+
+    private static final int[] NO_OUTPUTS = new int[0];
+
+    private final String[] patterns;
+    private final char[][] keys;
+    private final int[][] children;
+    private final int[] fail;
+    private final int[][] outputs;
+    private final char[] via;
+    private final boolean[] skipsRepeats;
+
+    private FilterAutomaton(
+        final String[] patterns,
+        final char[][] keys,
+        final int[][] children,
+        final int[] fail,
+        final int[][] outputs,
+        final char[] via,
+        final boolean[] skipsRepeats
+    ) {
+        this.patterns = patterns;
+        this.keys = keys;
+        this.children = children;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.via = via;
+        this.skipsRepeats = skipsRepeats;
+    }
+
+    /**
+     * Builds the automaton, patterns are identified by their index.
+     *
+     * @param patterns the folded words
+     * @return the automaton
+     */
+    static FilterAutomaton build(final List<String> patterns) {
+        final List<Map<Character, Integer>> edges = new ArrayList<>();
+        final List<List<Integer>> ends = new ArrayList<>();
+        final StringBuilder via = new StringBuilder();
+        edges.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+        via.append('\0');
+
+        for (int pattern = 0; pattern < patterns.size(); pattern++) {
+            int state = 0;
+
+            for (final char character : patterns.get(pattern).toCharArray()) {
+                final @Nullable Integer next = edges.get(state).get(character);
+
+                if (next != null) {
+                    state = next;
+                    continue;
+                }
+
+                edges.add(new TreeMap<>());
+                ends.add(new ArrayList<>());
+                via.append(character);
+                edges.get(state).put(character, edges.size() - 1);
+                state = edges.size() - 1;
+            }
+
+            if (state != 0) {
+                ends.get(state).add(pattern);
+            }
+        }
+
+        final int size = edges.size();
+        final char[][] keys = new char[size][];
+        final int[][] children = new int[size][];
+
+        for (int state = 0; state < size; state++) {
+            final Map<Character, Integer> stateEdges = edges.get(state);
+            keys[state] = new char[stateEdges.size()];
+            children[state] = new int[stateEdges.size()];
+            int i = 0;
+
+            for (final Map.Entry<Character, Integer> edge : stateEdges.entrySet()) {
+                keys[state][i] = edge.getKey();
+                children[state][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // Breadth first, so the fail state of every state is done before its children
+        final int[] fail = new int[size];
+        final int[][] outputs = new int[size][];
+        final ArrayDeque<Integer> queue = new ArrayDeque<>();
+        outputs[0] = NO_OUTPUTS;
+
+        for (final int child : children[0]) {
+            fail[child] = 0;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            final int[] inherited = outputs[fail[state]];
+            final List<Integer> own = ends.get(state);
+
+            outputs[state] = own.isEmpty() ? inherited : concat(own, inherited);
+
+            for (int i = 0; i < keys[state].length; i++) {
+                final char character = keys[state][i];
+                final int child = children[state][i];
+                int candidate = fail[state];
+
+                while (candidate != 0 && child(keys, children, candidate, character) < 0) {
+                    candidate = fail[candidate];
+                }
+
+                final int next = child(keys, children, candidate, character);
+                fail[child] = next < 0 || next == child ? 0 : next;
+                queue.add(child);
+            }
+        }
+
+        final char[] viaCharacters = via.toString().toCharArray();
+        final boolean[] skipsRepeats = new boolean[size];
+
+        // A state stays put on a repeat of the letter that led to it, unless a state on its fail chain can take that letter
+        for (int state = 1; state < size; state++) {
+            skipsRepeats[state] = true;
+
+            for (int candidate = fail[state]; candidate != 0; candidate = fail[candidate]) {
+                if (child(keys, children, candidate, viaCharacters[state]) >= 0) {
+                    skipsRepeats[state] = false;
+                    break;
+                }
+            }
+        }
+
+        return new FilterAutomaton(patterns.toArray(new String[0]), keys, children, fail, outputs, viaCharacters, skipsRepeats);
+    }
+
+    /**
+     * Reports every pattern found in the text.
+     *
+     * @param text the folded text
+     * @param length the length of the text
+     * @param hits receives the pattern index and the position its last letter was found at
+     */
+    void match(final char[] text, final int length, final Hits hits) {
+        int state = 0;
+
+        for (int i = 0; i < length; i++) {
+            final char character = text[i];
+            int next = child(this.keys, this.children, state, character);
+
+            if (next < 0 && character == this.via[state] && this.skipsRepeats[state]) {
+                continue;
+            }
+
+            while (next < 0 && state != 0) {
+                state = this.fail[state];
+                next = child(this.keys, this.children, state, character);
+            }
+
+            state = Math.max(next, 0);
+
+            for (final int pattern : this.outputs[state]) {
+                hits.hit(pattern, i);
+            }
+        }
+    }
+
+    /**
+     * Finds where a pattern found by {@link #match} starts, walking back over repeated letters.
+     * Only called for matches, so it doesn't add to the cost of clean messages.
+     *
+     * @param pattern the pattern index
+     * @param text the folded text
+     * @param end the position of the pattern's last letter
+     * @return the position of the pattern's first letter
+     */
+    int start(final int pattern, final char[] text, final int end) {
+        final String word = this.patterns[pattern];
+        int position = end;
+
+        for (int i = word.length() - 1; i >= 0; i--) {
+            if (position < 0 || text[position] != word.charAt(i)) {
+                return Math.max(0, end - word.length() + 1);
+            }
+
+            // Repeats of a letter the word doesn't repeat itself were skipped while matching
+            if (i == 0 || word.charAt(i - 1) != word.charAt(i)) {
+                while (position > 0 && text[position - 1] == word.charAt(i)) {
+                    position--;
+                }
+            }
+
+            if (i > 0) {
+                position--;
+            }
+        }
+
+        return position;
+    }
+
+    private static int child(final char[][] keys, final int[][] children, final int state, final char character) {
+        final int index = Arrays.binarySearch(keys[state], character);
+        return index < 0 ? -1 : children[state][index];
+    }
+
+    private static int[] concat(final List<Integer> own, final int[] inherited) {
+        final int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+
+        for (int i = 0; i < own.size(); i++) {
+            merged[inherited.length + i] = own.get(i);
+        }
+
+        return merged;
+    }
+
+    @FunctionalInterface
+    interface Hits {
+
+        void hit(int pattern, int end);
+
+    }
+
+}
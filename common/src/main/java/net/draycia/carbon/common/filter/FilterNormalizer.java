@@ -0,0 +1,134 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.filter;
+
+import java.text.Normalizer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Folds characters into the small alphabet the word filter matches on.
+ *
+ * <ul>
+ *     <li>Letters are lowercased and stripped of accents, and compatibility forms like fullwidth letters are
+ *     replaced by the letters they look like.</li>
+ *     <li>Common lookalikes from other scripts, like Cyrillic "а", and leetspeak like "3" or "@" become latin letters.</li>
+ *     <li>Whitespace separates words, and anything else, like punctuation, is dropped so "b.a.d" reads "bad".</li>
+ * </ul>
+ *
+ * <p>Every character is folded through a table computed once, so folding costs an array lookup.</p>
+ */
+@DefaultQualifier(NonNull.class)
+final class FilterNormalizer {
+
+    static final char DROPPED = 0;
+    static final char SEPARATOR = ' ';
+
+    // Pairs of a letter and the latin letter it looks like
+    private static final String CONFUSABLES =
+        // Cyrillic
+        "аaбbвbгrдdеeёeиuйuкkмmнhоoпnрpсcтtуyхxьbіiїiјjѕsһhԁdԛqԝw"
+            // Greek
+            + "αaβbγyεeζzηnιiκkμuνvοoπnρpσoςcτtυuχxωw";
+
+    private static final String LEETSPEAK = "0o1i3e4a5s7t8b9g@a$s";
+
+    private static final char[] TABLE = table();
+
+    private FilterNormalizer() {
+
+    }
+
+    static char fold(final char character) {
+        return TABLE[character];
+    }
+
+    /**
+     * Folds a word or phrase from the config, separators are kept but never repeated.
+     *
+     * @param input the word
+     * @return the folded word
+     */
+    static String foldPattern(final String input) {
+        final StringBuilder builder = new StringBuilder(input.length());
+
+        for (int i = 0; i < input.length(); i++) {
+            final char folded = fold(input.charAt(i));
+
+            if (folded == DROPPED || folded == SEPARATOR && (builder.isEmpty() || builder.charAt(builder.length() - 1) == SEPARATOR)) {
+                continue;
+            }
+
+            builder.append(folded);
+        }
+
+        if (!builder.isEmpty() && builder.charAt(builder.length() - 1) == SEPARATOR) {
+            builder.setLength(builder.length() - 1);
+        }
+
+        return builder.toString();
+    }
+
+    private static char[] table() {
+        final char[] table = new char[Character.MAX_VALUE + 1];
+
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            table[i] = compute((char) i);
+        }
+
+        for (int i = 0; i < CONFUSABLES.length(); i += 2) {
+            final char from = CONFUSABLES.charAt(i);
+            final char to = CONFUSABLES.charAt(i + 1);
+
+            table[from] = to;
+            table[Character.toUpperCase(from)] = to;
+        }
+
+        for (int i = 0; i < LEETSPEAK.length(); i += 2) {
+            table[LEETSPEAK.charAt(i)] = LEETSPEAK.charAt(i + 1);
+        }
+
+        return table;
+    }
+
+    private static char compute(final char character) {
+        if (Character.isWhitespace(character) || Character.isSpaceChar(character)) {
+            return SEPARATOR;
+        }
+
+        if (Character.isSurrogate(character) || !Character.isLetterOrDigit(character)) {
+            return DROPPED;
+        }
+
+        // Decomposes accented and compatibility characters, the base letter comes first
+        final String decomposed = Normalizer.normalize(String.valueOf(character), Normalizer.Form.NFKD);
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            final char base = decomposed.charAt(i);
+
+            if (Character.isLetterOrDigit(base)) {
+                return Character.toLowerCase(base);
+            }
+        }
+
+        return Character.toLowerCase(character);
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.filter;
+
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@ConfigSerializable
+@DefaultQualifier(NonNull.class)
+public class FilterRule {
+
+    @Comment("The rule's name, used in metrics.")
+    private String name = "example";
+
+    @Comment("The words and phrases this rule matches. These are plain text, not regular expressions.")
+    private List<String> words = List.of("examplebadword");
+
+    @Comment("""
+    What happens to messages matching this rule.
+    CENSOR replaces the matched words with asterisks, BLOCK stops the message from being sent.
+    """)
+    private Action action = Action.CENSOR;
+
+    @Comment("Whether words only match on their own, so that \"ass\" doesn't match \"class\".")
+    private boolean wholeWords = true;
+
+    public String name() {
+        return this.name;
+    }
+
+    public List<String> words() {
+        return this.words;
+    }
+
+    public Action action() {
+        return this.action;
+    }
+
+    public boolean wholeWords() {
+        return this.wholeWords;
+    }
+
+    public enum Action {
+        CENSOR,
+        BLOCK
+    }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.filter;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.channels.ChatChannel;
+import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.common.channels.ConfigChatChannel;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.events.CarbonReloadEvent;
+import net.draycia.carbon.common.metrics.Counter;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Censors or blocks chat messages containing words from the rule sets in word-filter.conf.
+ *
+ * <p>The rule sets used by a channel are compiled into a single {@link FilterAutomaton}
+ * the first time they're needed, so each message is folded and scanned once, in
+ * linear time, however many words are configured.</p>
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class WordFilter {
+
+    public static final String FILE_NAME = "word-filter.conf";
+
+    private final ConfigFactory configFactory;
+    private final MetricsRegistry metrics;
+    private final Logger logger;
+
+    private volatile WordFilterConfig config = new WordFilterConfig();
+    private volatile Map<List<String>, CompiledRules> compiled = new ConcurrentHashMap<>();
+
+    @Inject
+    public WordFilter(
+        final CarbonChat carbonChat,
+        final ConfigFactory configFactory,
+        final MetricsRegistry metrics,
+        final Logger logger
+    ) {
+        this.configFactory = configFactory;
+        this.metrics = metrics;
+        this.logger = logger;
+
+        this.reload();
+        carbonChat.eventHandler().subscribe(CarbonReloadEvent.class, event -> this.reload());
+    }
+
+    public void reload() {
+        try {
+            final @Nullable WordFilterConfig loaded = this.configFactory.load(WordFilterConfig.class, FILE_NAME);
+
+            if (loaded != null) {
+                this.config = loaded;
+                this.compiled = new ConcurrentHashMap<>();
+            }
+        } catch (final IOException exception) {
+            this.logger.error("Failed to load " + FILE_NAME, exception);
+        }
+    }
+
+    /**
+     * Filters a message sent in the channel.
+     *
+     * @param sender the player sending the message
+     * @param channel the channel the message is sent in
+     * @param message the message, as typed
+     * @return the censored message, or whether it's blocked
+     */
+    public Result filter(final CarbonPlayer sender, final ChatChannel channel, final String message) {
+        final WordFilterConfig config = this.config;
+        final @Nullable List<String> channelRuleSets = channel instanceof ConfigChatChannel configChannel
+            ? configChannel.filterRuleSets()
+            : null;
+        final List<String> ruleSets = Objects.requireNonNullElse(channelRuleSets, config.defaultRuleSets());
+
+        if (ruleSets.isEmpty() || message.isEmpty()) {
+            return new Result(message, false);
+        }
+
+        final CompiledRules rules = this.compiled.computeIfAbsent(ruleSets, key -> this.compile(config, key));
+
+        if (rules.rules().length == 0) {
+            return new Result(message, false);
+        }
+
+        // Fold the message, remembering where each folded character came from
+        final char[] folded = new char[message.length()];
+        final int[] origins = new int[message.length()];
+        int length = 0;
+
+        for (int i = 0; i < message.length(); i++) {
+            final char character = FilterNormalizer.fold(message.charAt(i));
+
+            if (character == FilterNormalizer.DROPPED
+                || character == FilterNormalizer.SEPARATOR && (length == 0 || folded[length - 1] == FilterNormalizer.SEPARATOR)) {
+                continue;
+            }
+
+            folded[length] = character;
+            origins[length] = i;
+            length++;
+        }
+
+        final int foldedLength = length;
+        final List<int[]> hits = new ArrayList<>();
+
+        rules.automaton().match(folded, foldedLength, (pattern, matchEnd) -> {
+            final int rule = rules.ruleOfPattern()[pattern];
+            final int start = rules.automaton().start(pattern, folded, matchEnd);
+            int end = matchEnd;
+
+            while (end + 1 < foldedLength && folded[end + 1] == folded[end]) {
+                end++;
+            }
+
+            if (rules.rules()[rule].wholeWords() && (start > 0 && folded[start - 1] != FilterNormalizer.SEPARATOR
+                || end + 1 < foldedLength && folded[end + 1] != FilterNormalizer.SEPARATOR)) {
+                return;
+            }
+
+            hits.add(new int[] {rule, origins[start], origins[end] + 1});
+        });
+
+        // Permissions are only checked for messages that would be changed
+        if (hits.isEmpty() || sender.hasPermission("carbon.filter.bypass")) {
+            return new Result(message, false);
+        }
+
+        boolean blocked = false;
+        final char[] censored = message.toCharArray();
+
+        for (final int[] hit : hits) {
+            final FilterRule rule = rules.rules()[hit[0]];
+            rules.hits()[hit[0]].increment();
+
+            if (rule.action() == FilterRule.Action.BLOCK) {
+                blocked = true;
+                continue;
+            }
+
+            for (int i = hit[1]; i < hit[2]; i++) {
+                if (!Character.isWhitespace(censored[i])) {
+                    censored[i] = '*';
+                }
+            }
+        }
+
+        return new Result(blocked ? message : new String(censored), blocked);
+    }
+
+    private CompiledRules compile(final WordFilterConfig config, final List<String> ruleSets) {
+        final List<FilterRule> rules = new ArrayList<>();
+        final List<Counter> hits = new ArrayList<>();
+        final List<String> patterns = new ArrayList<>();
+        final List<Integer> ruleOfPattern = new ArrayList<>();
+
+        for (final String ruleSet : ruleSets) {
+            final @Nullable List<FilterRule> setRules = config.ruleSets().get(ruleSet);
+
+            if (setRules == null) {
+                this.logger.warn("Unknown word filter rule set [" + ruleSet + "]");
+                continue;
+            }
+
+            for (final FilterRule rule : setRules) {
+                rules.add(rule);
+                hits.add(this.metrics.counter("carbon_filter_hits_total", "Chat messages matched by each word filter rule.",
+                    "rule_set", ruleSet, "rule", rule.name()));
+
+                for (final String word : rule.words()) {
+                    final String pattern = FilterNormalizer.foldPattern(word);
+
+                    if (!pattern.isEmpty()) {
+                        patterns.add(pattern);
+                        ruleOfPattern.add(rules.size() - 1);
+                    }
+                }
+            }
+        }
+
+        return new CompiledRules(
+            FilterAutomaton.build(patterns),
+            rules.toArray(new FilterRule[0]),
+            hits.toArray(new Counter[0]),
+            ruleOfPattern.stream().mapToInt(Integer::intValue).toArray()
+        );
+    }
+
+    /**
+     * The outcome of filtering a message.
+     *
+     * @param message the message, with censored words replaced
+     * @param blocked whether the message must not be sent
+     */
+    public record Result(String message, boolean blocked) {
+
+    }
+
+    private record CompiledRules(FilterAutomaton automaton, FilterRule[] rules, Counter[] hits, int[] ruleOfPattern) {
+
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.filter;
+
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+@ConfigSerializable
+@DefaultQualifier(NonNull.class)
+public class WordFilterConfig {
+
+    @Comment("The rule sets checked in channels that don't set filter-rule-sets in their own config.")
+    private List<String> defaultRuleSets = List.of("default");
+
+    @Comment("""
+    Named sets of rules, checked against chat messages before they're sent.
+    Words are matched ignoring case, accents, punctuation, repeated letters, leetspeak, and letters
+    from other scripts that look like latin letters, so "B@aad" matches "bad".
+    Players with the carbon.filter.bypass permission aren't filtered.
+    """)
+    private Map<String, List<FilterRule>> ruleSets = Map.of("default", List.of(new FilterRule()));
+
+    public List<String> defaultRuleSets() {
+        return this.defaultRuleSets;
+    }
+
+    public Map<String, List<FilterRule>> ruleSets() {
+        return this.ruleSets;
+    }
+
+}
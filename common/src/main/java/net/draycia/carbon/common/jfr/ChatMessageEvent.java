@@ -0,0 +1,54 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@Name("carbon.ChatMessage")
+@Label("Chat Message")
+@Description("A chat message processed by Carbon, from parsing to sending it to every recipient.")
+@Category({"Carbon", "Chat"})
+@StackTrace(false)
+@DefaultQualifier(NonNull.class)
+public final class ChatMessageEvent extends Event {
+
+    @Label("Sender")
+    public String sender = "";
+
+    @Label("Channel")
+    public String channel = "";
+
+    @Label("Recipients")
+    public int recipients;
+
+    @Label("Message Length")
+    public int messageLength;
+
+    @Label("Cancelled")
+    public boolean cancelled;
+
+}
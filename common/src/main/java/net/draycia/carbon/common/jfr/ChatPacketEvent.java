@@ -0,0 +1,64 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.jfr;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import net.draycia.carbon.common.messaging.packets.ChatMessagePacket;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+public abstract class ChatPacketEvent extends Event {
+
+    @Label("Channel")
+    public String channel = "";
+
+    @Label("Sender")
+    public String sender = "";
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    /**
+     * Fills in the fields describing the packet, only call this if the event will be committed.
+     *
+     * @param packet the packet
+     */
+    public void packet(final ChatMessagePacket packet) {
+        this.channel = packet.channelKey().asString();
+        this.sender = packet.username();
+
+        // The messenger encodes packets itself, measure the same encoding
+        final ByteBuf buffer = Unpooled.buffer();
+
+        try {
+            packet.write(buffer);
+            this.bytes = buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+}
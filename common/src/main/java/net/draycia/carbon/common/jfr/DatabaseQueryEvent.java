@@ -0,0 +1,44 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@Name("carbon.DatabaseQuery")
+@Label("Database Query")
+@Description("A statement executed by a database backed user manager.")
+@Category({"Carbon", "Storage"})
+@DefaultQualifier(NonNull.class)
+public final class DatabaseQueryEvent extends Event {
+
+    @Label("Query")
+    @Description("The SQL file, or the SQL object method, the statement comes from.")
+    public String query = "";
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+}
@@ -0,0 +1,88 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.listeners;
+
+import com.google.inject.Inject;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.events.CarbonChatEvent;
+import net.draycia.carbon.api.util.KeyedRenderer;
+import net.draycia.carbon.common.jfr.ChatRenderEvent;
+import net.draycia.carbon.common.metrics.Counter;
+import net.draycia.carbon.common.metrics.Histogram;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import static net.draycia.carbon.api.util.KeyedRenderer.keyedRenderer;
+
+@DefaultQualifier(NonNull.class)
+public class ChatMetricsListener {
+
+    @Inject
+    public ChatMetricsListener(
+        final CarbonChat carbonChat,
+        final MetricsRegistry metrics
+    ) {
+        final String eventsHelp = "Chat events processed.";
+        final Counter allowed = metrics.counter("carbon_chat_events_total", eventsHelp, "result", "allowed");
+        final Counter cancelled = metrics.counter("carbon_chat_events_total", eventsHelp, "result", "cancelled");
+        final Counter previews = metrics.counter("carbon_chat_previews_total", "Chat previews processed.");
+        final Histogram recipients = metrics.histogram("carbon_chat_recipients", "Recipients of each chat message.");
+        final Histogram renderTime = metrics.latency("carbon_chat_render_seconds", "Time spent in each chat renderer.");
+
+        // Runs after every other listener, so the final recipients and renderers are seen
+        carbonChat.eventHandler().subscribe(CarbonChatEvent.class, Integer.MAX_VALUE, true, event -> {
+            if (event.previewing()) {
+                previews.increment();
+            } else if (event.result().cancelled()) {
+                cancelled.increment();
+            } else {
+                allowed.increment();
+                recipients.record(event.recipients().size());
+            }
+
+            final String channel = event.chatChannel() == null ? "" : event.chatChannel().key().asString();
+            event.renderers().replaceAll(renderer -> timed(renderer, channel, renderTime));
+        });
+    }
+
+    private static KeyedRenderer timed(final KeyedRenderer renderer, final String channel, final Histogram renderTime) {
+        return keyedRenderer(renderer.key(), (sender, recipient, message, originalMessage) -> {
+            final ChatRenderEvent renderEvent = new ChatRenderEvent();
+            renderEvent.begin();
+            final long start = System.nanoTime();
+
+            try {
+                return renderer.render(sender, recipient, message, originalMessage);
+            } finally {
+                renderTime.recordSince(start);
+                renderEvent.end();
+
+                if (renderEvent.shouldCommit()) {
+                    renderEvent.renderer = renderer.key().asString();
+                    renderEvent.channel = channel;
+                    renderEvent.sender = sender.username();
+                    renderEvent.commit();
+                }
+            }
+        });
+    }
+
+}
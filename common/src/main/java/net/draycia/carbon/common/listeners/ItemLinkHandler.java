@@ -19,14 +19,51 @@
  */
 package net.draycia.carbon.common.listeners;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.events.CarbonChatEvent;
+import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.api.util.InventorySlot;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
 
+import static java.util.Objects.requireNonNullElse;
+
+@Singleton
+@DefaultQualifier(NonNull.class)
 public class ItemLinkHandler {
 
+    private static final Map<String, InventorySlot> PLACEHOLDER_SLOTS = new HashMap<>();
+
+    static {
+        for (final InventorySlot slot : InventorySlot.SLOTS) {
+            for (final String placeholder : slot.placeholders()) {
+                PLACEHOLDER_SLOTS.put(placeholder, slot);
+            }
+        }
+    }
+
+    // Items resolved for recently sent messages, so they can be forwarded to other servers
+    private final Cache<CarbonChatEvent, Map<String, Component>> resolvedItems = Caffeine.newBuilder()
+        .weakKeys()
+        .expireAfterWrite(Duration.ofSeconds(5))
+        .build();
+
     @Inject
     public ItemLinkHandler(
         final CarbonChat carbonChat
@@ -36,27 +73,88 @@ public class ItemLinkHandler {
                 return;
             }
 
-            for (final var slot : InventorySlot.SLOTS) {
-                for (final var placeholder : slot.placeholders()) {
-                    event.message(
-                        event.message()
-                            .replaceText(TextReplacementConfig.builder()
-                                .matchLiteral("<" + placeholder + ">")
-                                .once()
-                                .replacement(builder -> {
-                                    final var itemComponent = event.sender().createItemHoverComponent(slot);
-
-                                    if (itemComponent == null) {
-                                        return builder;
-                                    }
-
-                                    return event.sender().createItemHoverComponent(slot);
-                                })
-                                .build())
-                    );
-                }
+            final Map<String, Component> items = resolveItems(event.sender(),
+                PlainTextComponentSerializer.plainText().serialize(event.message()));
+
+            if (items.isEmpty()) {
+                return;
+            }
+
+            event.message(replacePlaceholders(event.message(), items));
+
+            if (!event.previewing()) {
+                this.resolvedItems.put(event, items);
             }
         });
     }
 
+    public Map<String, Component> resolvedItems(final CarbonChatEvent event) {
+        return requireNonNullElse(this.resolvedItems.getIfPresent(event), Map.of());
+    }
+
+    /**
+     * Finds the item placeholders used in a message and resolves each slot once.
+     *
+     * @param sender the player whose items are linked
+     * @param message the plain message
+     * @return the item components, by placeholder
+     */
+    public static Map<String, Component> resolveItems(final CarbonPlayer sender, final String message) {
+        final Map<String, Component> items = new HashMap<>();
+        final Map<InventorySlot, Optional<Component>> slots = new HashMap<>();
+
+        int start = message.indexOf('<');
+
+        while (start != -1) {
+            final int end = message.indexOf('>', start + 1);
+
+            if (end == -1) {
+                break;
+            }
+
+            final String placeholder = message.substring(start + 1, end);
+            final @Nullable InventorySlot slot = PLACEHOLDER_SLOTS.get(placeholder);
+
+            if (slot != null && !items.containsKey(placeholder)) {
+                slots.computeIfAbsent(slot, ignored -> Optional.ofNullable(sender.createItemHoverComponent(slot)))
+                    .ifPresent(item -> items.put(placeholder, item));
+            }
+
+            start = message.indexOf('<', start + 1);
+        }
+
+        return items;
+    }
+
+    /**
+     * Replaces the first use of each placeholder in a message with its item.
+     *
+     * @param message the message
+     * @param items the item components, by placeholder
+     * @return the message with the items inserted
+     */
+    public static Component replacePlaceholders(final Component message, final Map<String, Component> items) {
+        if (items.isEmpty()) {
+            return message;
+        }
+
+        final Pattern pattern = Pattern.compile(items.keySet().stream()
+            .map(Pattern::quote)
+            .collect(Collectors.joining("|", "<(", ")>")));
+        final Set<String> replaced = new HashSet<>();
+
+        return message.replaceText(TextReplacementConfig.builder()
+            .match(pattern)
+            .replacement((result, builder) -> {
+                final String placeholder = result.group(1);
+
+                if (!replaced.add(placeholder)) {
+                    return builder;
+                }
+
+                return items.get(placeholder);
+            })
+            .build());
+    }
+
 }
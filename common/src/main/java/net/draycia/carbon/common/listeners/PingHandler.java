@@ -27,6 +27,7 @@ import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.api.util.KeyedRenderer;
 import net.draycia.carbon.api.util.RenderedMessage;
 import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.config.PingSettings;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
@@ -50,16 +51,17 @@ public class PingHandler {
                 return new RenderedMessage(message, MessageType.CHAT);
             }
 
-            final String prefix = configFactory.primaryConfig().pings().prefix();
+            // Read once so every ping in the message uses the same settings, even if they're reloaded meanwhile
+            final PingSettings pings = configFactory.primaryConfig().pings();
 
             return new RenderedMessage(message.replaceText(TextReplacementConfig.builder()
-                .match(Pattern.compile(Pattern.quote(prefix + recipientPlayer.username()), Pattern.CASE_INSENSITIVE))
+                .match(Pattern.compile(Pattern.quote(pings.prefix() + recipientPlayer.username()), Pattern.CASE_INSENSITIVE))
                 .replacement(matchedText -> {
-                    if (configFactory.primaryConfig().pings().playSound()) {
-                        recipient.playSound(configFactory.primaryConfig().pings().sound());
+                    if (pings.playSound()) {
+                        recipient.playSound(pings.sound());
                     }
 
-                    return Component.text(recipientPlayer.username()).color(configFactory.primaryConfig().pings().highlightTextColor());
+                    return Component.text(recipientPlayer.username()).color(pings.highlightTextColor());
                 })
                 .build()), MessageType.CHAT);
         });
@@ -63,12 +63,7 @@ public class CarbonMessageRenderer implements IMessageRenderer<Audience, String,
 
         // https://github.com/KyoriPowered/adventure-text-minimessage/issues/131
         // TLDR: 25/10/21, tags in templates aren't parsed. we want them parsed.
-        String placeholderResolvedMessage = intermediateMessage;
-
-        for (final var entry : this.configFactory.primaryConfig().customPlaceholders().entrySet()) {
-            placeholderResolvedMessage = placeholderResolvedMessage.replace("<" + entry.getKey() + ">",
-                entry.getValue());
-        }
+        final String placeholderResolvedMessage = this.configFactory.primaryConfig().replaceCustomPlaceholders(intermediateMessage);
 
         final Component message = MiniMessage.miniMessage().deserialize(placeholderResolvedMessage, tagResolver.build());
         final MessageType messageType;
@@ -22,7 +22,6 @@ package net.draycia.carbon.common.messages;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.Writer;
@@ -61,7 +60,8 @@ import org.checkerframework.framework.qual.DefaultQualifier;
 public final class CarbonMessageSource implements IMessageSource<Audience, String> {
 
     private final Locale defaultLocale;
-    private final Map<Locale, Properties> locales = new HashMap<>();
+    private volatile LocaleTable table;
+    private @Nullable Map<Locale, PackagedLocale> packagedLocales = null;
     private final Path pluginJar;
     private final Logger logger;
     private final Path dataDirectory;
@@ -78,6 +78,7 @@ public final class CarbonMessageSource implements IMessageSource<Audience, Strin
         this.logger = logger;
 
         this.defaultLocale = Objects.requireNonNull(configFactory.primaryConfig()).defaultLocale();
+        this.table = new LocaleTable(Map.of(), this.defaultLocale);
 
         this.reloadTranslations();
 
@@ -103,7 +104,7 @@ public final class CarbonMessageSource implements IMessageSource<Audience, Strin
         }
     }
 
-    private void reloadTranslations() throws IOException {
+    private synchronized void reloadTranslations() throws IOException {
         final Path localeDirectory = this.dataDirectory.resolve("locale");
 
         // Create locale directory
@@ -111,23 +112,25 @@ public final class CarbonMessageSource implements IMessageSource<Audience, Strin
             Files.createDirectories(localeDirectory);
         }
 
-        this.walkPluginJar(stream -> stream.filter(Files::isRegularFile)
-            .filter(it -> {
-                final String pathString = it.toString();
-                return pathString.startsWith("/locale/messages-")
-                    && pathString.endsWith(".properties");
-            })
-            .forEach(localeFile -> {
-                final String localeString = localeString(localeFile);
-                final @Nullable Locale locale = parseLocale(localeString);
+        final Map<Locale, Properties> locales = new HashMap<>();
 
-                if (locale == null) {
-                    this.logger.warn("Unknown locale '{}'?", localeString);
-                    return;
-                }
+        for (final Map.Entry<Locale, PackagedLocale> entry : this.packagedLocales().entrySet()) {
+            final Locale locale = entry.getKey();
+            final PackagedLocale packaged = entry.getValue();
 
-                this.readLocale(localeDirectory, localeFile, locale);
-            }));
+            this.logger.info("Found locale {} ({}) in: {}", locale.getDisplayName(), locale, packaged.file());
+
+            final Properties properties = new Properties();
+
+            try {
+                this.loadProperties(properties, localeDirectory.resolve(packaged.file()), packaged.properties());
+                locales.put(locale, properties);
+
+                this.logger.info("Successfully loaded locale {} ({})", locale.getDisplayName(), locale);
+            } catch (final IOException ex) {
+                this.logger.warn("Unable to load locale {} ({}) from source: {}", locale.getDisplayName(), locale, packaged.file(), ex);
+            }
+        }
 
         try (final Stream<Path> paths = Files.list(localeDirectory)) {
             paths.filter(Files::isRegularFile).forEach(localeFile -> {
@@ -139,28 +142,106 @@ public final class CarbonMessageSource implements IMessageSource<Audience, Strin
                     return;
                 }
 
-                if (this.locales.containsKey(locale)) {
+                if (locales.containsKey(locale)) {
                     return;
                 }
 
-                this.readLocale(localeDirectory, localeFile, locale);
+                this.logger.info("Found locale {} ({}) in: {}", locale.getDisplayName(), locale, localeFile);
+
+                try {
+                    locales.put(locale, readProperties(localeFile));
+                    this.logger.info("Successfully loaded locale {} ({})", locale.getDisplayName(), locale);
+                } catch (final IOException ex) {
+                    this.logger.warn("Unable to load locale {} ({}) from source: {}", locale.getDisplayName(), locale, localeFile, ex);
+                }
             });
         }
+
+        this.table = new LocaleTable(locales, this.defaultLocale);
     }
 
-    private void readLocale(final Path localeDirectory, final Path localeFile, final Locale locale) {
-        this.logger.info("Found locale {} ({}) in: {}", locale.getDisplayName(), locale, localeFile);
+    /**
+     * Reloads a single locale file from the locale directory.
+     *
+     * @param localeFile the locale file
+     */
+    public synchronized void reloadLocale(final Path localeFile) {
+        final String fileName = localeFile.getFileName().toString();
 
-        final Properties properties = new Properties();
+        if (!fileName.startsWith("messages-") || !fileName.endsWith(".properties") || !Files.isRegularFile(localeFile)) {
+            return;
+        }
 
-        try {
-            this.loadProperties(properties, localeDirectory, localeFile);
-            this.locales.put(locale, properties);
+        final String localeString = localeString(localeFile);
+        final @Nullable Locale locale = parseLocale(localeString);
 
-            this.logger.info("Successfully loaded locale {} ({})", locale.getDisplayName(), locale);
+        if (locale == null) {
+            this.logger.warn("Unknown locale '{}'?", localeString);
+            return;
+        }
+
+        final Properties properties;
+
+        try {
+            properties = readProperties(localeFile);
         } catch (final IOException ex) {
-            this.logger.warn("Unable to load locale {} ({}) from source: {}", locale.getDisplayName(), locale, localeFile, ex);
+            this.logger.warn("Unable to reload locale {} ({}) from source: {}", locale.getDisplayName(), locale, localeFile, ex);
+            return;
+        }
+
+        // Keys missing from the file keep their previous values, which include the packaged defaults
+        final Map<Locale, Properties> locales = new HashMap<>(this.table.locales());
+        final @Nullable Properties previous = locales.get(locale);
+
+        if (previous != null) {
+            for (final Map.Entry<Object, Object> entry : previous.entrySet()) {
+                properties.putIfAbsent(entry.getKey(), entry.getValue());
+            }
         }
+
+        locales.put(locale, properties);
+        this.table = new LocaleTable(locales, this.defaultLocale);
+        this.logger.info("Reloaded locale {} ({})", locale.getDisplayName(), locale);
+    }
+
+    /**
+     * Gets the locales packaged in the plugin jar, the jar is only read the first time.
+     *
+     * @return the packaged locales
+     * @throws IOException if the jar couldn't be read
+     */
+    private Map<Locale, PackagedLocale> packagedLocales() throws IOException {
+        if (this.packagedLocales != null) {
+            return this.packagedLocales;
+        }
+
+        final Map<Locale, PackagedLocale> packagedLocales = new HashMap<>();
+
+        this.walkPluginJar(stream -> stream.filter(Files::isRegularFile)
+            .filter(it -> {
+                final String pathString = it.toString();
+                return pathString.startsWith("/locale/messages-")
+                    && pathString.endsWith(".properties");
+            })
+            .forEach(localeFile -> {
+                final String localeString = localeString(localeFile);
+                final @Nullable Locale locale = parseLocale(localeString);
+
+                if (locale == null) {
+                    this.logger.warn("Unknown locale '{}'?", localeString);
+                    return;
+                }
+
+                try {
+                    packagedLocales.put(locale, new PackagedLocale(localeFile.getFileName().toString(), readProperties(localeFile)));
+                } catch (final IOException ex) {
+                    this.logger.warn("Unable to read packaged locale {} ({}) from source: {}", locale.getDisplayName(), locale, localeFile, ex);
+                }
+            }));
+
+        this.packagedLocales = Map.copyOf(packagedLocales);
+
+        return this.packagedLocales;
     }
 
     @Override
@@ -180,36 +261,24 @@ public final class CarbonMessageSource implements IMessageSource<Audience, Strin
     }
 
     private String forPlayer(final String key, final CarbonPlayer player) {
-        if (player.locale() != null) {
-            final var properties = this.locales.get(player.locale());
-
-            if (properties != null) {
-                final var message = properties.getProperty(key);
+        final @Nullable String message = this.table.message(player.locale(), key);
 
-                if (message != null) {
-                    return message;
-                }
-            }
+        if (message != null) {
+            return message;
         }
 
         return this.forAudience(key, player);
     }
 
     private String forAudience(final String key, final Audience audience) {
-        final Properties defaultProperties = this.locales.get(this.defaultLocale);
-
-        if (defaultProperties != null) {
-            final String value = defaultProperties.getProperty(key);
-
-            if (value == null) {
-                this.logger.warn("No message mapping for key " + key + " in default locale " + this.defaultLocale.getDisplayName());
-                return key;
-            }
+        final @Nullable String value = this.table.message(null, key);
 
-            return value;
+        if (value == null) {
+            this.logger.warn("No message mapping for key " + key + " in default locale " + this.defaultLocale.getDisplayName());
+            return key;
         }
 
-        return key;
+        return value;
     }
 
     private void walkPluginJar(final Consumer<Stream<Path>> user) throws IOException {
@@ -231,33 +300,19 @@ public final class CarbonMessageSource implements IMessageSource<Audience, Strin
 
     private void loadProperties(
         final Properties properties,
-        final Path localeDirectory,
-        final Path localeFile
+        final Path savedFile,
+        final Properties packaged
     ) throws IOException {
-        final Path savedFile = localeDirectory.resolve(localeFile.getFileName().toString());
-        if (localeFile.normalize().toAbsolutePath().equals(savedFile.normalize().toAbsolutePath())) {
-            // Origin file and destination file are the same (ie locale was not in the jar, user added)
-            return;
-        }
-
         // If the file in the localeDirectory exists, read it to the properties
         if (Files.isRegularFile(savedFile)) {
-            final InputStream inputStream = Files.newInputStream(savedFile);
-            try (final Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-                properties.load(reader);
-            }
+            properties.putAll(readProperties(savedFile));
         }
 
         boolean write = !Files.isRegularFile(savedFile);
 
-        // Read the file in the jar and add missing entries
-        try (final Reader reader = new InputStreamReader(Files.newInputStream(localeFile), StandardCharsets.UTF_8)) {
-            final Properties packaged = new Properties();
-            packaged.load(reader);
-
-            for (final Map.Entry<Object, Object> entry : packaged.entrySet()) {
-                write |= properties.putIfAbsent(entry.getKey(), entry.getValue()) == null;
-            }
+        // Add entries missing from the file in the jar
+        for (final Map.Entry<Object, Object> entry : packaged.entrySet()) {
+            write |= properties.putIfAbsent(entry.getKey(), entry.getValue()) == null;
         }
 
         // Write properties back to file
@@ -268,6 +323,16 @@ public final class CarbonMessageSource implements IMessageSource<Audience, Strin
         }
     }
 
+    private static Properties readProperties(final Path file) throws IOException {
+        final Properties properties = new Properties();
+
+        try (final Reader reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        return properties;
+    }
+
     private static String localeString(final Path localeFile) {
         return localeFile.getFileName().toString().substring("messages-".length()).replace(".properties", "");
     }
@@ -279,4 +344,8 @@ public final class CarbonMessageSource implements IMessageSource<Audience, Strin
         return Translator.parseLocale(localeString);
     }
 
+    private record PackagedLocale(String file, Properties properties) {
+
+    }
+
 }
@@ -68,6 +68,12 @@ public interface CarbonMessages {
     @Message("mute.info.muted")
     void muteInfoMuted(final Audience audience, final Component target, final boolean muted);
 
+    @Message("mute.info.self.muted_until")
+    void muteInfoSelfMutedUntil(final Audience audience, final String duration);
+
+    @Message("mute.info.muted_until")
+    void muteInfoMutedUntil(final Audience audience, final Component target, final String duration);
+
     @Message("mute.unmute.alert.target")
     void unmuteAlertRecipient(final Audience audience);
 
@@ -92,6 +98,9 @@ public interface CarbonMessages {
     @Message("mute.no_target")
     void muteNoTarget(final Audience audience);
 
+    @Message("mute.invalid_duration")
+    void muteInvalidDuration(final Audience audience, final String duration);
+
     @Message("mute.spy.prefix")
     RenderedMessage muteSpyPrefix(final Audience audience);
 
@@ -214,6 +223,81 @@ public interface CarbonMessages {
     @Message("config.reload.failed")
     void configReloadFailed(final Audience audience);
 
+    /*
+     * =============================================================
+     * ============================ Spam ===========================
+     * =============================================================
+     */
+
+    @Message("spam.rate_limited")
+    void spamRateLimited(final Audience audience);
+
+    @Message("spam.repeated")
+    void spamRepeated(final Audience audience);
+
+    @Message("spam.stats.header")
+    void spamStatsHeader(final Audience audience);
+
+    @Message("spam.stats.entry")
+    void spamStatsEntry(
+        final Audience audience,
+        final String player,
+        @Placeholder("rate_limited") final String rateLimited,
+        final String repeated,
+        final String time
+    );
+
+    @Message("spam.stats.empty")
+    void spamStatsEmpty(final Audience audience);
+
+    /*
+     * =============================================================
+     * ======================== Word Filter ========================
+     * =============================================================
+     */
+
+    @Message("filter.blocked")
+    void filterBlocked(final Audience audience);
+
+    /*
+     * =============================================================
+     * ======================== Chat History =======================
+     * =============================================================
+     */
+
+    @Message("history.header")
+    void historyHeader(final Audience audience, final String target);
+
+    @Message("history.entry")
+    void historyEntry(final Audience audience, final String time, final String channel, final Component message);
+
+    @Message("history.empty")
+    void historyEmpty(final Audience audience, final String target);
+
+    @Message("history.unknown_target")
+    void historyUnknownTarget(final Audience audience, final String target);
+
+    /*
+     * =============================================================
+     * ========================= Chat Logs =========================
+     * =============================================================
+     */
+
+    @Message("chatlog.header")
+    void chatLogHeader(final Audience audience, final Component player, final String range);
+
+    @Message("chatlog.entry")
+    void chatLogEntry(final Audience audience, final String time, final String channel, final String message);
+
+    @Message("chatlog.empty")
+    void chatLogEmpty(final Audience audience, final Component player, final String range);
+
+    @Message("chatlog.invalid_range")
+    void chatLogInvalidRange(final Audience audience, final String range);
+
+    @Message("chatlog.search_failed")
+    void chatLogSearchFailed(final Audience audience);
+
     /*
      * =============================================================
      * ====================== Cloud Messages =======================
@@ -251,6 +335,15 @@ public interface CarbonMessages {
     @Message("command.clearchat.description")
     RenderedMessage commandClearChatDescription();
 
+    @Message("command.logs.argument.player")
+    RenderedMessage commandLogsArgumentPlayer();
+
+    @Message("command.logs.argument.range")
+    RenderedMessage commandLogsArgumentRange();
+
+    @Message("command.logs.description")
+    RenderedMessage commandLogsDescription();
+
     @Message("command.continue.argument.message")
     RenderedMessage commandContinueArgumentMessage();
 
@@ -263,12 +356,21 @@ public interface CarbonMessages {
     @Message("command.debug.description")
     RenderedMessage commandDebugDescription();
 
+    @Message("command.debug.metrics.description")
+    RenderedMessage commandDebugMetricsDescription();
+
     @Message("command.help.argument.query")
     RenderedMessage commandHelpArgumentQuery();
 
     @Message("command.help.description")
     RenderedMessage commandHelpDescription();
 
+    @Message("command.history.argument.target")
+    RenderedMessage commandHistoryArgumentTarget();
+
+    @Message("command.history.description")
+    RenderedMessage commandHistoryDescription();
+
     @Message("command.ignore.argument.player")
     RenderedMessage commandIgnoreArgumentPlayer();
 
@@ -284,6 +386,9 @@ public interface CarbonMessages {
     @Message("command.mute.argument.uuid")
     RenderedMessage commandMuteArgumentUUID();
 
+    @Message("command.mute.argument.duration")
+    RenderedMessage commandMuteArgumentDuration();
+
     @Message("command.mute.description")
     RenderedMessage commandMuteDescription();
 
@@ -344,6 +449,9 @@ public interface CarbonMessages {
     @Message("command.whisper.description")
     RenderedMessage commandWhisperDescription();
 
+    @Message("command.spam.description")
+    RenderedMessage commandSpamDescription();
+
     @Message("command.updateusername.description")
     RenderedMessage commandUpdateUsernameDescription();
 
@@ -0,0 +1,157 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.messages;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * The loaded locales, flattened into one array per locale with a slot for every message key.
+ *
+ * <p>Each array already has the fallbacks filled in: a message missing from a locale is
+ * taken from another locale of the same language, then from the default locale. Looking
+ * up a message is a single map lookup for the key's slot and an array access.</p>
+ */
+@DefaultQualifier(NonNull.class)
+final class LocaleTable {
+
+    private final Map<Locale, Properties> locales;
+    private final Locale defaultLocale;
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final @Nullable String[] defaults;
+    private final Map<Locale, @Nullable String[]> tables = new ConcurrentHashMap<>();
+
+    LocaleTable(final Map<Locale, Properties> locales, final Locale defaultLocale) {
+        this.locales = Map.copyOf(locales);
+        this.defaultLocale = defaultLocale;
+
+        for (final Properties properties : this.locales.values()) {
+            for (final String key : properties.stringPropertyNames()) {
+                this.slots.putIfAbsent(key, this.slots.size());
+            }
+        }
+
+        final @Nullable Properties defaultProperties = this.locales.get(defaultLocale);
+        this.defaults = defaultProperties == null ? new String[this.slots.size()] : this.flatten(List.of(defaultProperties));
+
+        for (final Locale locale : this.locales.keySet()) {
+            this.tables.put(locale, this.flatten(this.fallbacks(locale)));
+        }
+    }
+
+    Map<Locale, Properties> locales() {
+        return this.locales;
+    }
+
+    /**
+     * Gets the message for the key in the locale, or in its fallbacks.
+     *
+     * @param locale the locale, or null for the default locale
+     * @param key the message key
+     * @return the message, or null if no locale in the fallback chain has it
+     */
+    @Nullable String message(final @Nullable Locale locale, final String key) {
+        final @Nullable Integer slot = this.slots.get(key);
+
+        if (slot == null) {
+            return null;
+        }
+
+        if (locale == null) {
+            return this.defaults[slot];
+        }
+
+        // Locales without a file of their own only get their fallbacks
+        return this.tables.computeIfAbsent(locale, missing -> {
+            final List<Properties> fallbacks = this.fallbacks(missing);
+
+            return fallbacks.isEmpty() ? this.defaults : this.flatten(fallbacks);
+        })[slot];
+    }
+
+    private List<Properties> fallbacks(final Locale locale) {
+        final List<Properties> chain = new ArrayList<>(3);
+        final @Nullable Properties exact = this.locales.get(locale);
+
+        if (exact != null) {
+            chain.add(exact);
+        }
+
+        final @Nullable Properties sameLanguage = this.sameLanguage(locale);
+
+        if (sameLanguage != null && sameLanguage != exact) {
+            chain.add(sameLanguage);
+        }
+
+        final @Nullable Properties defaultProperties = this.locales.get(this.defaultLocale);
+
+        if (!chain.isEmpty() && defaultProperties != null && !chain.contains(defaultProperties)) {
+            chain.add(defaultProperties);
+        }
+
+        return chain;
+    }
+
+    private @Nullable Properties sameLanguage(final Locale locale) {
+        final @Nullable Properties languageOnly = this.locales.get(new Locale(locale.getLanguage()));
+
+        if (languageOnly != null) {
+            return languageOnly;
+        }
+
+        if (this.defaultLocale.getLanguage().equals(locale.getLanguage())) {
+            return this.locales.get(this.defaultLocale);
+        }
+
+        for (final Map.Entry<Locale, Properties> entry : this.locales.entrySet()) {
+            if (entry.getKey().getLanguage().equals(locale.getLanguage())) {
+                return entry.getValue();
+            }
+        }
+
+        return null;
+    }
+
+    private @Nullable String[] flatten(final List<Properties> chain) {
+        final @Nullable String[] table = new String[this.slots.size()];
+
+        for (final Map.Entry<String, Integer> slot : this.slots.entrySet()) {
+            for (final Properties properties : chain) {
+                final @Nullable String message = properties.getProperty(slot.getKey());
+
+                if (message != null) {
+                    table[slot.getValue()] = message;
+                    break;
+                }
+            }
+        }
+
+        return table;
+    }
+
+}
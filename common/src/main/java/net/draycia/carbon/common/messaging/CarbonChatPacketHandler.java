@@ -21,7 +21,10 @@ package net.draycia.carbon.common.messaging;
 
 import net.draycia.carbon.api.CarbonChatProvider;
 import net.draycia.carbon.common.channels.CarbonChannelRegistry;
+import net.draycia.carbon.common.jfr.ChatPacketReceiveEvent;
+import net.draycia.carbon.common.listeners.ItemLinkHandler;
 import net.draycia.carbon.common.messaging.packets.ChatMessagePacket;
+import net.draycia.carbon.common.metrics.Counter;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -37,13 +40,16 @@ import org.jetbrains.annotations.NotNull;
 public final class CarbonChatPacketHandler extends AbstractMessagingHandler {
 
     final CarbonChannelRegistry channelRegistry;
+    final Counter packetsReceived;
 
     CarbonChatPacketHandler(
         final MessagingManager messagingManager,
-        final CarbonChannelRegistry channelRegistry
+        final CarbonChannelRegistry channelRegistry,
+        final Counter packetsReceived
     ) {
         super(messagingManager.packetService());
         this.channelRegistry = channelRegistry;
+        this.packetsReceived = packetsReceived;
     }
 
     @Override
@@ -52,10 +58,22 @@ public final class CarbonChatPacketHandler extends AbstractMessagingHandler {
             return false;
         }
 
+        this.packetsReceived.increment();
+
+        final ChatPacketReceiveEvent receiveEvent = new ChatPacketReceiveEvent();
+        receiveEvent.begin();
+
         final TagResolver.Builder tagResolver = TagResolver.builder();
 
         for (final var entry : messagePacket.placeholders().entrySet()) {
-            tagResolver.tag(entry.getKey(), Tag.inserting(Component.text(entry.getValue())));
+            Component value = Component.text(entry.getValue());
+
+            // Only the message itself can contain item placeholders, not the sender's name
+            if (entry.getKey().equals("message")) {
+                value = ItemLinkHandler.replacePlaceholders(value, messagePacket.itemPlaceholders());
+            }
+
+            tagResolver.tag(entry.getKey(), Tag.inserting(value));
         }
 
         final var component = MiniMessage.miniMessage().deserialize(messagePacket.intermediary(),
@@ -69,6 +87,13 @@ public final class CarbonChatPacketHandler extends AbstractMessagingHandler {
             }
         }
 
+        receiveEvent.end();
+
+        if (receiveEvent.shouldCommit()) {
+            receiveEvent.packet(messagePacket);
+            receiveEvent.commit();
+        }
+
         return true;
     }
 
@@ -0,0 +1,53 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.messaging;
+
+import net.draycia.carbon.common.messaging.packets.ClearChatPacket;
+import net.draycia.carbon.common.util.ChatClearer;
+import ninja.egg82.messenger.handler.AbstractMessagingHandler;
+import ninja.egg82.messenger.packets.Packet;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.jetbrains.annotations.NotNull;
+
+@DefaultQualifier(NonNull.class)
+public final class ClearChatPacketHandler extends AbstractMessagingHandler {
+
+    private final ChatClearer chatClearer;
+
+    ClearChatPacketHandler(
+        final MessagingManager messagingManager,
+        final ChatClearer chatClearer
+    ) {
+        super(messagingManager.packetService());
+        this.chatClearer = chatClearer;
+    }
+
+    @Override
+    protected boolean handlePacket(final @NotNull Packet packet) {
+        if (!(packet instanceof ClearChatPacket clearPacket)) {
+            return false;
+        }
+
+        this.chatClearer.clearLocally(clearPacket.senderName(), clearPacket.username());
+        return true;
+    }
+
+}
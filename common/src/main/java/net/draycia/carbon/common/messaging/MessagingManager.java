@@ -35,6 +35,11 @@ import net.draycia.carbon.common.channels.CarbonChannelRegistry;
 import net.draycia.carbon.common.config.ConfigFactory;
 import net.draycia.carbon.common.config.MessagingSettings;
 import net.draycia.carbon.common.messaging.packets.ChatMessagePacket;
+import net.draycia.carbon.common.messaging.packets.ClearChatPacket;
+import net.draycia.carbon.common.messaging.packets.MuteUpdatePacket;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import net.draycia.carbon.common.users.MuteExpirations;
+import net.draycia.carbon.common.util.ChatClearer;
 import ninja.egg82.messenger.MessagingService;
 import ninja.egg82.messenger.NATSMessagingService;
 import ninja.egg82.messenger.PacketManager;
@@ -56,7 +61,7 @@ import org.jetbrains.annotations.NotNull;
 @Singleton
 public class MessagingManager {
 
-    private static final byte protocolVersion = 0;
+    private static final byte protocolVersion = 1;
 
     private final ScheduledExecutorService executorService = new ScheduledThreadPoolExecutor(10);
 
@@ -68,7 +73,10 @@ public class MessagingManager {
     public MessagingManager(
         final CarbonChannelRegistry channelRegistry,
         final ConfigFactory configFactory,
-        final CarbonChat carbonChat
+        final CarbonChat carbonChat,
+        final MetricsRegistry metrics,
+        final MuteExpirations muteExpirations,
+        final ChatClearer chatClearer
     ) {
         PacketManager.register(MultiPacket.class, MultiPacket::new);
         PacketManager.register(KeepAlivePacket.class, KeepAlivePacket::new);
@@ -78,13 +86,18 @@ public class MessagingManager {
         PacketManager.register(ShutdownPacket.class, ShutdownPacket::new);
         //PacketManager.register(HeartbeatPacket.class, HeartbeatPacket::new);
         PacketManager.register(ChatMessagePacket.class, ChatMessagePacket::new);
+        PacketManager.register(MuteUpdatePacket.class, MuteUpdatePacket::new);
+        PacketManager.register(ClearChatPacket.class, ClearChatPacket::new);
 
         this.packetService = new PacketService(4, false, protocolVersion);
         this.carbonChat = carbonChat;
 
         final MessagingHandlerImpl handlerImpl = new MessagingHandlerImpl(this.packetService);
         handlerImpl.addHandler(new CarbonServerHandler(carbonChat.serverId(), this.packetService, handlerImpl));
-        handlerImpl.addHandler(new CarbonChatPacketHandler(this, channelRegistry));
+        handlerImpl.addHandler(new CarbonChatPacketHandler(this, channelRegistry, metrics.counter("carbon_packets_total",
+            "Chat packets sent and received between servers.", "direction", "received")));
+        handlerImpl.addHandler(new MuteUpdatePacketHandler(this, muteExpirations));
+        handlerImpl.addHandler(new ClearChatPacketHandler(this, chatClearer));
 
         try {
             this.initMessagingService(this.packetService, handlerImpl, new File("/"),
@@ -76,4 +76,24 @@ public abstract class CarbonPacket extends AbstractPacket {
         return map;
     }
 
+    protected final void writeComponentMap(final Map<String, Component> map, final ByteBuf buffer) {
+        this.writeVarInt(map.size(), buffer);
+
+        for (final Map.Entry<String, Component> entry : map.entrySet()) {
+            this.writeString(entry.getKey(), buffer);
+            this.writeComponent(entry.getValue(), buffer);
+        }
+    }
+
+    protected final Map<String, Component> readComponentMap(final ByteBuf buffer) {
+        final int size = this.readVarInt(buffer);
+        final Map<String, Component> map = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            map.put(this.readString(buffer), this.readComponent(buffer));
+        }
+
+        return map;
+    }
+
 }
@@ -23,18 +23,19 @@ import io.netty.buffer.ByteBuf;
 import java.util.Map;
 import java.util.UUID;
 import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
 import ninja.egg82.messenger.utils.UUIDUtil;
 import org.jetbrains.annotations.NotNull;
 
 public final class ChatMessagePacket extends CarbonPacket {
 
-    // TODO: store item link placeholder components
     private UUID userId;
     private String channelPermission;
     private Key channelKey;
     private String username;
     private String intermediary;
     private Map<String, String> placeholders;
+    private Map<String, Component> itemPlaceholders;
 
     public UUID userId() {
         return this.userId;
@@ -60,6 +61,10 @@ public final class ChatMessagePacket extends CarbonPacket {
         return this.placeholders;
     }
 
+    public Map<String, Component> itemPlaceholders() {
+        return this.itemPlaceholders;
+    }
+
     public ChatMessagePacket(final @NotNull UUID sender, final @NotNull ByteBuf data) {
         super(sender);
         this.read(data);
@@ -76,7 +81,8 @@ public final class ChatMessagePacket extends CarbonPacket {
         final Key channelKey,
         final String username,
         final String intermediary,
-        final Map<String, String> placeholders
+        final Map<String, String> placeholders,
+        final Map<String, Component> itemPlaceholders
     ) {
         super(serverId);
         this.userId = userId;
@@ -85,6 +91,7 @@ public final class ChatMessagePacket extends CarbonPacket {
         this.username = username;
         this.intermediary = intermediary;
         this.placeholders = placeholders;
+        this.itemPlaceholders = itemPlaceholders;
     }
 
     @Override
@@ -95,6 +102,7 @@ public final class ChatMessagePacket extends CarbonPacket {
         this.username = this.readString(buffer);
         this.intermediary = this.readString(buffer);
         this.placeholders = this.readStringMap(buffer);
+        this.itemPlaceholders = this.readComponentMap(buffer);
     }
 
     @Override
@@ -105,6 +113,7 @@ public final class ChatMessagePacket extends CarbonPacket {
         this.writeString(this.username, buffer);
         this.writeString(this.intermediary, buffer);
         this.writeStringMap(this.placeholders, buffer);
+        this.writeComponentMap(this.itemPlaceholders, buffer);
     }
 
 }
@@ -0,0 +1,72 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.messaging.packets;
+
+import io.netty.buffer.ByteBuf;
+import java.util.UUID;
+import net.kyori.adventure.text.Component;
+import ninja.egg82.messenger.utils.UUIDUtil;
+import org.jetbrains.annotations.NotNull;
+
+public final class ClearChatPacket extends CarbonPacket {
+
+    private Component senderName;
+    private String username;
+
+    public Component senderName() {
+        return this.senderName;
+    }
+
+    public String username() {
+        return this.username;
+    }
+
+    public ClearChatPacket(final @NotNull UUID sender, final @NotNull ByteBuf data) {
+        super(sender);
+        this.read(data);
+    }
+
+    public ClearChatPacket() {
+        super(UUIDUtil.EMPTY_UUID);
+    }
+
+    public ClearChatPacket(
+        final @NotNull UUID serverId,
+        final Component senderName,
+        final String username
+    ) {
+        super(serverId);
+        this.senderName = senderName;
+        this.username = username;
+    }
+
+    @Override
+    public void read(final io.netty.buffer.@NotNull ByteBuf buffer) {
+        this.senderName = this.readComponent(buffer);
+        this.username = this.readString(buffer);
+    }
+
+    @Override
+    public void write(final io.netty.buffer.@NotNull ByteBuf buffer) {
+        this.writeComponent(this.senderName, buffer);
+        this.writeString(this.username, buffer);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.messaging.packets;
+
+import io.netty.buffer.ByteBuf;
+import java.util.UUID;
+import ninja.egg82.messenger.utils.UUIDUtil;
+import org.jetbrains.annotations.NotNull;
+
+public final class MuteUpdatePacket extends CarbonPacket {
+
+    private UUID playerId;
+    private boolean muted;
+    private long expiration;
+
+    public UUID playerId() {
+        return this.playerId;
+    }
+
+    public boolean muted() {
+        return this.muted;
+    }
+
+    public long expiration() {
+        return this.expiration;
+    }
+
+    public MuteUpdatePacket(final @NotNull UUID sender, final @NotNull ByteBuf data) {
+        super(sender);
+        this.read(data);
+    }
+
+    public MuteUpdatePacket() {
+        super(UUIDUtil.EMPTY_UUID);
+    }
+
+    public MuteUpdatePacket(
+        final @NotNull UUID serverId,
+        final UUID playerId,
+        final boolean muted,
+        final long expiration
+    ) {
+        super(serverId);
+        this.playerId = playerId;
+        this.muted = muted;
+        this.expiration = expiration;
+    }
+
+    @Override
+    public void read(final io.netty.buffer.@NotNull ByteBuf buffer) {
+        this.playerId = this.readUUID(buffer);
+        this.muted = buffer.readBoolean();
+        this.expiration = buffer.readLong();
+    }
+
+    @Override
+    public void write(final io.netty.buffer.@NotNull ByteBuf buffer) {
+        this.writeUUID(this.playerId, buffer);
+        buffer.writeBoolean(this.muted);
+        buffer.writeLong(this.expiration);
+    }
+
+}
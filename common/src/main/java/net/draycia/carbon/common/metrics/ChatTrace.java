@@ -0,0 +1,136 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * The time a single chat message spent in each stage of processing.
+ *
+ * <p>Stages are marked in order, each one lasting from the previous mark.</p>
+ */
+@DefaultQualifier(NonNull.class)
+public final class ChatTrace {
+
+    /**
+     * The trace of messages that aren't sampled, marking it does nothing.
+     */
+    public static final ChatTrace UNSAMPLED = new ChatTrace("", "");
+
+    private final String sender;
+    private final String source;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final List<Span> spans = new ArrayList<>();
+    private long lastNanos = this.startNanos;
+    private long totalNanos = -1;
+
+    ChatTrace(final String sender, final String source) {
+        this.sender = sender;
+        this.source = source;
+    }
+
+    /**
+     * Ends the current stage, timed from the previous mark.
+     *
+     * @param stage the stage that just completed
+     */
+    public synchronized void mark(final Stage stage) {
+        if (this == UNSAMPLED) {
+            return;
+        }
+
+        final long now = System.nanoTime();
+
+        this.spans.add(new Span(stage, now - this.lastNanos));
+        this.lastNanos = now;
+    }
+
+    synchronized boolean finish() {
+        if (this.totalNanos != -1) {
+            return false;
+        }
+
+        this.totalNanos = System.nanoTime() - this.startNanos;
+        return true;
+    }
+
+    public boolean sampled() {
+        return this != UNSAMPLED;
+    }
+
+    public String sender() {
+        return this.sender;
+    }
+
+    public String source() {
+        return this.source;
+    }
+
+    public Instant startedAt() {
+        return this.startedAt;
+    }
+
+    public synchronized long totalNanos() {
+        return this.totalNanos == -1 ? System.nanoTime() - this.startNanos : this.totalNanos;
+    }
+
+    public synchronized List<Span> spans() {
+        return List.copyOf(this.spans);
+    }
+
+    public String breakdown() {
+        final StringBuilder builder = new StringBuilder();
+
+        for (final Span span : this.spans()) {
+            builder.append(span.stage().name().toLowerCase(Locale.ROOT))
+                .append(' ')
+                .append(millis(span.nanos()))
+                .append(", ");
+        }
+
+        return builder.append("total ").append(millis(this.totalNanos())).toString();
+    }
+
+    private static String millis(final long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+    }
+
+    public enum Stage {
+        QUEUE,
+        USER_LOOKUP,
+        PARSE,
+        RECIPIENTS,
+        EVENT,
+        RENDER,
+        SEND,
+        PUBLISH
+    }
+
+    public record Span(Stage stage, long nanos) {
+
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.metrics;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.config.PrimaryConfig;
+import net.draycia.carbon.common.config.TracingSettings;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Samples chat messages for tracing and keeps the most recent traces.
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class ChatTracer {
+
+    private static final int CAPACITY = 128;
+
+    private final ConfigFactory configFactory;
+    private final Logger logger;
+    private final AtomicReferenceArray<ChatTrace> traces = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLong written = new AtomicLong();
+
+    @Inject
+    public ChatTracer(final ConfigFactory configFactory, final Logger logger) {
+        this.configFactory = configFactory;
+        this.logger = logger;
+    }
+
+    /**
+     * Starts tracing a message if it's sampled.
+     *
+     * @param sender the name of the player sending the message
+     * @param source where the message entered Carbon, for example the platform's chat listener
+     * @return the trace, {@link ChatTrace#UNSAMPLED} if the message isn't traced
+     */
+    public ChatTrace start(final String sender, final String source) {
+        final @Nullable TracingSettings settings = this.settings();
+
+        if (settings == null || !settings.enabled() || ThreadLocalRandom.current().nextDouble() >= settings.sampleRate()) {
+            return ChatTrace.UNSAMPLED;
+        }
+
+        return new ChatTrace(sender, source);
+    }
+
+    public void finish(final ChatTrace trace) {
+        // Finishing twice is harmless, so callers can finish traces in finally blocks
+        if (!trace.sampled() || !trace.finish()) {
+            return;
+        }
+
+        this.traces.set((int) (this.written.getAndIncrement() % CAPACITY), trace);
+
+        final @Nullable TracingSettings settings = this.settings();
+
+        if (settings != null && trace.totalNanos() >= TimeUnit.MILLISECONDS.toNanos(settings.slowThresholdMillis())) {
+            this.logger.warn("Slow chat message from " + trace.sender() + " (" + trace.source() + "): " + trace.breakdown());
+        }
+    }
+
+    /**
+     * Gets the most recently finished traces.
+     *
+     * @param limit the maximum number of traces
+     * @return the traces, newest first
+     */
+    public List<ChatTrace> recent(final int limit) {
+        final long written = this.written.get();
+        final int count = (int) Math.min(Math.min(limit, CAPACITY), written);
+        final List<ChatTrace> recent = new ArrayList<>(count);
+
+        for (int i = 1; i <= count; i++) {
+            final @Nullable ChatTrace trace = this.traces.get((int) ((written - i) % CAPACITY));
+
+            if (trace != null) {
+                recent.add(trace);
+            }
+        }
+
+        return recent;
+    }
+
+    private @Nullable TracingSettings settings() {
+        final @Nullable PrimaryConfig primaryConfig = this.configFactory.primaryConfig();
+
+        return primaryConfig == null ? null : primaryConfig.tracingSettings();
+    }
+
+}
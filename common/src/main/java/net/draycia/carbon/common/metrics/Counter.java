@@ -0,0 +1,67 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+public final class Counter implements Metric {
+
+    private final String name;
+    private final String help;
+    private final String labels;
+    private final LongAdder value = new LongAdder();
+
+    Counter(final String name, final String help, final String labels) {
+        this.name = name;
+        this.help = help;
+        this.labels = labels;
+    }
+
+    public void increment() {
+        this.value.increment();
+    }
+
+    public void add(final long amount) {
+        this.value.add(amount);
+    }
+
+    public long value() {
+        return this.value.sum();
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public String help() {
+        return this.help;
+    }
+
+    @Override
+    public String labels() {
+        return this.labels;
+    }
+
+}
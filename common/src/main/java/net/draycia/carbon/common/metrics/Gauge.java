@@ -0,0 +1,60 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.metrics;
+
+import java.util.function.DoubleSupplier;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+public final class Gauge implements Metric {
+
+    private final String name;
+    private final String help;
+    private final String labels;
+    private final DoubleSupplier value;
+
+    Gauge(final String name, final String help, final String labels, final DoubleSupplier value) {
+        this.name = name;
+        this.help = help;
+        this.labels = labels;
+        this.value = value;
+    }
+
+    public double value() {
+        return this.value.getAsDouble();
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public String help() {
+        return this.help;
+    }
+
+    @Override
+    public String labels() {
+        return this.labels;
+    }
+
+}
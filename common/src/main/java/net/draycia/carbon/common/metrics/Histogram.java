@@ -0,0 +1,170 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * A fixed size, lock-free histogram of non-negative values.
+ *
+ * <p>Values are bucketed log-linearly, every power of two is split into 16 buckets,
+ * so percentiles are accurate to within ~6% regardless of magnitude.</p>
+ */
+@DefaultQualifier(NonNull.class)
+public final class Histogram implements Metric {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final String name;
+    private final String help;
+    private final String labels;
+    private final boolean latency;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogram(final String name, final String help, final String labels, final boolean latency) {
+        this.name = name;
+        this.help = help;
+        this.labels = labels;
+        this.latency = latency;
+    }
+
+    public void record(final long value) {
+        final long clamped = Math.max(0, value);
+
+        this.buckets.incrementAndGet(bucket(clamped));
+        this.count.increment();
+        this.sum.add(clamped);
+        this.max.accumulate(clamped);
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, as returned by {@link System#nanoTime()}.
+     *
+     * @param startNanos the start of the measured operation
+     */
+    public void recordSince(final long startNanos) {
+        this.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Whether this histogram records nanosecond latencies.
+     *
+     * @return if values are in nanoseconds
+     */
+    public boolean latency() {
+        return this.latency;
+    }
+
+    public long count() {
+        return this.count.sum();
+    }
+
+    public long sum() {
+        return this.sum.sum();
+    }
+
+    public long max() {
+        return this.max.get();
+    }
+
+    /**
+     * Estimates the value below which the given fraction of recorded values fall.
+     *
+     * @param quantile the quantile, between 0 and 1
+     * @return the estimated value, 0 if nothing has been recorded
+     */
+    public long quantile(final double quantile) {
+        final long[] snapshot = new long[BUCKETS];
+        long total = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = this.buckets.get(i);
+            total += snapshot[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        final long target = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+
+            if (seen >= target) {
+                return Math.min(highestValue(i), this.max());
+            }
+        }
+
+        return this.max();
+    }
+
+    private static int bucket(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValue(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long mantissa = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        final int shift = exponent - SUB_BUCKET_BITS;
+
+        final long highest = ((mantissa + 1) << shift) - 1;
+
+        // The top bucket overflows
+        return highest < 0 ? Long.MAX_VALUE : highest;
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public String help() {
+        return this.help;
+    }
+
+    @Override
+    public String labels() {
+        return this.labels;
+    }
+
+}
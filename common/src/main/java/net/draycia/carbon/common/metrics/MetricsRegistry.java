@@ -0,0 +1,169 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.metrics;
+
+import com.google.inject.Singleton;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Counters, gauges and histograms describing what Carbon is doing, keyed by name and labels.
+ *
+ * <p>Labels are passed as alternating names and values, for example
+ * {@code histogram("carbon_db_query_seconds", help, "query", "select-player")}.</p>
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class MetricsRegistry {
+
+    private static final double[] QUANTILES = {0.5, 0.99};
+
+    // Sorted so every metric of a name is exported together
+    private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    public Counter counter(final String name, final String help, final String... labels) {
+        return this.register(name, labels, Counter.class, formatted -> new Counter(name, help, formatted));
+    }
+
+    public Gauge gauge(final String name, final String help, final DoubleSupplier value, final String... labels) {
+        return this.register(name, labels, Gauge.class, formatted -> new Gauge(name, help, formatted, value));
+    }
+
+    public Histogram histogram(final String name, final String help, final String... labels) {
+        return this.register(name, labels, Histogram.class, formatted -> new Histogram(name, help, formatted, false));
+    }
+
+    /**
+     * Gets or creates a histogram of nanosecond latencies, exported in seconds.
+     *
+     * @param name the metric name
+     * @param help the metric description
+     * @param labels alternating label names and values
+     * @return the histogram
+     */
+    public Histogram latency(final String name, final String help, final String... labels) {
+        return this.register(name, labels, Histogram.class, formatted -> new Histogram(name, help, formatted, true));
+    }
+
+    public Collection<Metric> metrics() {
+        return this.metrics.values();
+    }
+
+    /**
+     * Formats every metric in the Prometheus text exposition format.
+     *
+     * @return the exposition
+     */
+    public String prometheus() {
+        final StringBuilder builder = new StringBuilder();
+        String family = "";
+
+        for (final Metric metric : this.metrics.values()) {
+            if (!metric.name().equals(family)) {
+                family = metric.name();
+                builder.append("# HELP ").append(family).append(' ').append(metric.help()).append('\n');
+                builder.append("# TYPE ").append(family).append(' ').append(type(metric)).append('\n');
+            }
+
+            if (metric instanceof Counter counter) {
+                sample(builder, metric.name(), metric.labels(), counter.value());
+            } else if (metric instanceof Gauge gauge) {
+                sample(builder, metric.name(), metric.labels(), gauge.value());
+            } else if (metric instanceof Histogram histogram) {
+                final double scale = histogram.latency() ? 1e-9 : 1;
+
+                for (final double quantile : QUANTILES) {
+                    final String labels = metric.labels().isEmpty()
+                        ? "quantile=\"" + quantile + "\""
+                        : metric.labels() + ",quantile=\"" + quantile + "\"";
+
+                    sample(builder, metric.name(), labels, histogram.quantile(quantile) * scale);
+                }
+
+                sample(builder, metric.name() + "_sum", metric.labels(), histogram.sum() * scale);
+                sample(builder, metric.name() + "_count", metric.labels(), histogram.count());
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private <T extends Metric> T register(
+        final String name,
+        final String[] labels,
+        final Class<T> type,
+        final Function<String, T> factory
+    ) {
+        final String formatted = formatLabels(labels);
+        final Metric metric = this.metrics.computeIfAbsent(name + '{' + formatted + '}', key -> factory.apply(formatted));
+
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("Metric [" + name + "] is already registered as a " + metric.getClass().getSimpleName());
+        }
+
+        return type.cast(metric);
+    }
+
+    private static String type(final Metric metric) {
+        if (metric instanceof Counter) {
+            return "counter";
+        } else if (metric instanceof Gauge) {
+            return "gauge";
+        }
+
+        return "summary";
+    }
+
+    private static String formatLabels(final String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name and value pairs");
+        }
+
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            builder.append(labels[i]).append("=\"")
+                .append(labels[i + 1].replace("\\", "\\\\").replace("\"", "\\\""))
+                .append('"');
+        }
+
+        return builder.toString();
+    }
+
+    private static void sample(final StringBuilder builder, final String name, final String labels, final double value) {
+        builder.append(name);
+
+        if (!labels.isEmpty()) {
+            builder.append('{').append(labels).append('}');
+        }
+
+        builder.append(' ').append(value).append('\n');
+    }
+
+}
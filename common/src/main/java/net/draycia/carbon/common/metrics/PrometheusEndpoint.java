@@ -0,0 +1,125 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.metrics;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.config.MetricsSettings;
+import net.draycia.carbon.common.config.PrimaryConfig;
+import net.draycia.carbon.common.events.CarbonReloadEvent;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Serves the {@link MetricsRegistry} in the Prometheus text format when enabled in the config.
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class PrometheusEndpoint {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final ConfigFactory configFactory;
+    private final MetricsRegistry metrics;
+    private final Logger logger;
+    private @Nullable HttpServer server = null;
+
+    @Inject
+    public PrometheusEndpoint(
+        final CarbonChat carbonChat,
+        final ConfigFactory configFactory,
+        final MetricsRegistry metrics,
+        final Logger logger
+    ) {
+        this.configFactory = configFactory;
+        this.metrics = metrics;
+        this.logger = logger;
+
+        this.start();
+
+        // After the config has been reloaded
+        carbonChat.eventHandler().subscribe(CarbonReloadEvent.class, 100, false, event -> {
+            this.stop();
+            this.start();
+        });
+        carbonChat.eventHandler().subscribe(CarbonShutdownEvent.class, 0, false, event -> this.stop());
+    }
+
+    private synchronized void start() {
+        final @Nullable PrimaryConfig primaryConfig = this.configFactory.primaryConfig();
+
+        if (primaryConfig == null || !primaryConfig.metricsSettings().prometheusEnabled()) {
+            return;
+        }
+
+        final MetricsSettings settings = primaryConfig.metricsSettings();
+
+        try {
+            final HttpServer server = HttpServer.create(
+                new InetSocketAddress(settings.prometheusAddress(), settings.prometheusPort()), 0);
+            server.createContext("/metrics", this::handle);
+            server.start();
+
+            this.server = server;
+            this.logger.info("Serving metrics on " + settings.prometheusAddress() + ":" + settings.prometheusPort() + "/metrics");
+        } catch (final IOException exception) {
+            this.logger.error("Failed to start the Prometheus endpoint", exception);
+        }
+    }
+
+    private synchronized void stop() {
+        if (this.server != null) {
+            this.server.stop(0);
+            this.server = null;
+        }
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            final byte[] body = this.metrics.prometheus().getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+}
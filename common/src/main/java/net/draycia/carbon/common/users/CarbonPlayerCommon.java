@@ -46,6 +46,7 @@ public class CarbonPlayerCommon implements CarbonPlayer, ForwardingAudience.Sing
     private final transient CarbonChat carbonChat = CarbonChatProvider.carbonChat();
 
     protected boolean muted = false;
+    protected long muteExpiration = -1;
     protected boolean deafened = false;
 
     protected @Nullable Key selectedChannel = null;
@@ -69,6 +70,7 @@ public class CarbonPlayerCommon implements CarbonPlayer, ForwardingAudience.Sing
 
     public CarbonPlayerCommon(
         final boolean muted,
+        final long muteExpiration,
         final boolean deafened,
         final @Nullable Key selectedChannel,
         final String username,
@@ -79,6 +81,7 @@ public class CarbonPlayerCommon implements CarbonPlayer, ForwardingAudience.Sing
         final boolean spying
     ) {
         this.muted = muted;
+        this.muteExpiration = muteExpiration;
         this.deafened = deafened;
         this.selectedChannel = selectedChannel;
         this.username = username;
@@ -150,18 +153,30 @@ public class CarbonPlayerCommon implements CarbonPlayer, ForwardingAudience.Sing
 
     @Override
     public boolean muted() {
-        return this.muted;
+        // Expired mutes are ignored even if storage hasn't caught up yet
+        return this.muted && (this.muteExpiration == -1 || System.currentTimeMillis() < this.muteExpiration);
     }
 
     @Override
     public void muted(final boolean muted) {
+        this.muted(muted, -1);
+    }
+
+    @Override
+    public void muted(final boolean muted, final long expiration) {
         this.muted = muted;
+        this.muteExpiration = muted ? expiration : -1;
 
         if (this.carbonChat.server().userManager() instanceof SaveOnChange userManager) {
-            userManager.saveMuted(this.uuid(), muted);
+            userManager.saveMuted(this.uuid(), muted, this.muteExpiration);
         }
     }
 
+    @Override
+    public long muteExpiration() {
+        return this.muted() ? this.muteExpiration : -1;
+    }
+
     public List<UUID> ignoredPlayers() {
         return this.ignoredPlayers;
     }
@@ -0,0 +1,223 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.users;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
+import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.messaging.packets.MuteUpdatePacket;
+import net.draycia.carbon.common.util.TimingWheel;
+import ninja.egg82.messenger.services.PacketService;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Mutes and unmutes players, and lifts timed mutes when they run out.
+ *
+ * <p>Mute changes are shared with other servers through the messaging service.
+ * The server a timed mute was issued on is the one that saves its expiry, other
+ * servers only update their copy of the player.</p>
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class MuteExpirations {
+
+    private static final long TICK_MILLIS = 1000;
+
+    private final CarbonChat carbonChat;
+    private final CarbonMessages carbonMessages;
+    // Only touched from the executor thread
+    private final TimingWheel<UUID> wheel = new TimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+    // The mute each player's wheel entry belongs to, entries left behind by earlier mutes are skipped
+    private final Map<UUID, TrackedMute> tracked = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+        .setNameFormat("Carbon Mute Expiry")
+        .setDaemon(true)
+        .build());
+
+    @Inject
+    public MuteExpirations(
+        final CarbonChat carbonChat,
+        final CarbonMessages carbonMessages
+    ) {
+        this.carbonChat = carbonChat;
+        this.carbonMessages = carbonMessages;
+
+        this.executor.scheduleAtFixedRate(() -> this.wheel.advanceTo(System.currentTimeMillis(), this::expire),
+            TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        carbonChat.eventHandler().subscribe(CarbonShutdownEvent.class, 0, false, event -> this.executor.shutdownNow());
+    }
+
+    /**
+     * Mutes the player.
+     *
+     * @param target the player to mute
+     * @param expiration when the mute ends in epoch milliseconds, or -1 if it never ends
+     */
+    public void mute(final CarbonPlayer target, final long expiration) {
+        target.muted(true, expiration);
+        this.track(target.uuid(), expiration, true);
+        this.publish(target.uuid(), true, expiration);
+    }
+
+    /**
+     * Unmutes the player.
+     *
+     * @param target the player to unmute
+     */
+    public void unmute(final CarbonPlayer target) {
+        target.muted(false);
+        this.tracked.remove(target.uuid());
+        this.publish(target.uuid(), false, -1);
+    }
+
+    /**
+     * Schedules the end of a loaded player's timed mute. Mutes saved before a restart, or while
+     * the player was offline, would otherwise stay saved after they end.
+     *
+     * @param player the loaded player
+     */
+    public void loaded(final CarbonPlayer player) {
+        final CarbonPlayerCommon common = unwrap(player);
+        final @Nullable TrackedMute mute = this.tracked.get(player.uuid());
+
+        if (!common.muted || common.muteExpiration == -1 || mute != null && mute.expiration() == common.muteExpiration) {
+            return;
+        }
+
+        this.track(player.uuid(), common.muteExpiration, true);
+    }
+
+    /**
+     * Applies a mute change made on another server.
+     *
+     * @param uuid the player's UUID
+     * @param muted if the player is now muted
+     * @param expiration when the mute ends in epoch milliseconds, or -1 if it never ends
+     */
+    public void remoteUpdate(final UUID uuid, final boolean muted, final long expiration) {
+        final @Nullable CarbonPlayer player = this.onlinePlayer(uuid);
+
+        // The sending server already saved the change
+        if (player != null) {
+            unwrap(player).muted = muted;
+            unwrap(player).muteExpiration = muted ? expiration : -1;
+        }
+
+        if (muted) {
+            this.track(uuid, expiration, false);
+        } else {
+            this.tracked.remove(uuid);
+        }
+    }
+
+    private void track(final UUID uuid, final long expiration, final boolean owner) {
+        if (expiration == -1) {
+            this.tracked.remove(uuid);
+            return;
+        }
+
+        this.tracked.put(uuid, new TrackedMute(expiration, owner));
+        this.executor.execute(() -> {
+            if (!this.wheel.schedule(uuid, expiration)) {
+                this.expire(uuid);
+            }
+        });
+    }
+
+    private void expire(final UUID uuid) {
+        final @Nullable TrackedMute mute = this.tracked.get(uuid);
+
+        // Muted again since this entry was scheduled, the newer mute has its own entry
+        if (mute == null || mute.expiration() > System.currentTimeMillis() || !this.tracked.remove(uuid, mute)) {
+            return;
+        }
+
+        if (!mute.owner()) {
+            final @Nullable CarbonPlayer player = this.onlinePlayer(uuid);
+
+            if (player != null && unwrap(player).muteExpiration == mute.expiration()) {
+                unwrap(player).muted = false;
+                unwrap(player).muteExpiration = -1;
+                this.carbonMessages.unmuteAlertRecipient(player);
+            }
+
+            return;
+        }
+
+        this.carbonChat.server().userManager().carbonPlayer(uuid).thenAccept(result -> {
+            final @Nullable CarbonPlayer player = result.player();
+
+            if (player == null || unwrap(player).muteExpiration != mute.expiration()) {
+                return;
+            }
+
+            player.muted(false);
+            this.publish(uuid, false, -1);
+
+            if (player.online()) {
+                this.carbonMessages.unmuteAlertRecipient(player);
+            }
+        });
+    }
+
+    private @Nullable CarbonPlayer onlinePlayer(final UUID uuid) {
+        for (final CarbonPlayer player : this.carbonChat.server().players()) {
+            if (player.uuid().equals(uuid)) {
+                return player;
+            }
+        }
+
+        return null;
+    }
+
+    private void publish(final UUID uuid, final boolean muted, final long expiration) {
+        final @Nullable PacketService packetService = this.carbonChat.packetService();
+
+        if (packetService != null) {
+            packetService.queuePacket(new MuteUpdatePacket(this.carbonChat.serverId(), uuid, muted, expiration));
+            packetService.flushQueue();
+        }
+    }
+
+    private static CarbonPlayerCommon unwrap(final CarbonPlayer player) {
+        if (player instanceof WrappedCarbonPlayer wrappedPlayer) {
+            return wrappedPlayer.carbonPlayerCommon();
+        }
+
+        return (CarbonPlayerCommon) player;
+    }
+
+    private record TrackedMute(long expiration, boolean owner) {
+
+    }
+
+}
@@ -47,32 +47,31 @@ public class ProxiedCachingUserManager implements UserManager<CarbonPlayerCommon
 
     @Override
     public CompletableFuture<ComponentPlayerResult<CarbonPlayerCommon>> carbonPlayer(final UUID uuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            final @Nullable CarbonPlayerCommon cachedPlayer = this.userCache.get(uuid);
+        final @Nullable CarbonPlayerCommon cachedPlayer = this.userCache.get(uuid);
 
-            if (cachedPlayer != null) {
-                return new ComponentPlayerResult<>(cachedPlayer, Component.empty());
-            }
-
-            final ComponentPlayerResult<CarbonPlayerCommon> result = this.proxiedUserManager.carbonPlayer(uuid).join();
+        if (cachedPlayer != null) {
+            return CompletableFuture.completedFuture(new ComponentPlayerResult<>(cachedPlayer, Component.empty()));
+        }
 
+        // Composed rather than joined, so no thread is held while the proxied user manager does its I/O
+        return this.proxiedUserManager.carbonPlayer(uuid).<ComponentPlayerResult<CarbonPlayerCommon>>thenCompose(result -> {
             if (result.player() != null) {
                 this.userCache.put(uuid, result.player());
 
-                return new ComponentPlayerResult<>(result.player(), Component.empty());
+                return CompletableFuture.completedFuture(new ComponentPlayerResult<>(result.player(), Component.empty()));
             }
 
-            final @Nullable String name = this.carbonChat.server().resolveName(uuid).join();
+            return this.carbonChat.server().resolveName(uuid).<ComponentPlayerResult<CarbonPlayerCommon>>thenApply(name -> {
+                if (name != null) {
+                    final CarbonPlayerCommon player = new CarbonPlayerCommon(name, uuid);
 
-            if (name != null) {
-                final CarbonPlayerCommon player = new CarbonPlayerCommon(name, uuid);
+                    this.userCache.put(uuid, player);
 
-                this.userCache.put(uuid, player);
-
-                return new ComponentPlayerResult<>(player, Component.empty());
-            }
+                    return new ComponentPlayerResult<>(player, Component.empty());
+                }
 
-            return new ComponentPlayerResult<>(null, text("Name not found for uuid!"));
+                return new ComponentPlayerResult<>(null, text("Name not found for uuid!"));
+            });
         });
     }
 
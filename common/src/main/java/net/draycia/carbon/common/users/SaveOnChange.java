@@ -31,7 +31,7 @@ public interface SaveOnChange {
 
     int saveDisplayName(final UUID id, final @Nullable Component displayName);
 
-    int saveMuted(final UUID id, final boolean muted);
+    int saveMuted(final UUID id, final boolean muted, final long muteExpiration);
 
     int saveDeafened(final UUID id, final boolean deafened);
 
@@ -169,6 +169,16 @@ public abstract class WrappedCarbonPlayer implements CarbonPlayer {
         this.carbonPlayerCommon().muted(muted);
     }
 
+    @Override
+    public void muted(final boolean muted, final long expiration) {
+        this.carbonPlayerCommon().muted(muted, expiration);
+    }
+
+    @Override
+    public long muteExpiration() {
+        return this.carbonPlayerCommon().muteExpiration();
+    }
+
     @Override
     public boolean deafened() {
         return this.carbonPlayerCommon().deafened();
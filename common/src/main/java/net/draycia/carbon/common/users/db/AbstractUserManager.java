@@ -21,11 +21,14 @@ package net.draycia.carbon.common.users.db;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.api.users.UserManager;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.framework.qual.DefaultQualifier;
+import org.flywaydb.core.Flyway;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.statement.PreparedBatch;
 import org.jdbi.v3.core.statement.Update;
@@ -39,9 +42,17 @@ public abstract class AbstractUserManager implements UserManager<CarbonPlayerCom
 
     protected final QueriesLocator locator;
 
-    protected AbstractUserManager(final Jdbi jdbi, final QueriesLocator locator) {
-        this.jdbi = jdbi;
+    protected final Executor executor;
+
+    protected AbstractUserManager(
+        final Jdbi jdbi,
+        final QueriesLocator locator,
+        final MetricsRegistry metrics,
+        final Executor executor
+    ) {
+        this.jdbi = jdbi.setSqlLogger(new QueryMetricsLogger(metrics, locator));
         this.locator = locator;
+        this.executor = executor;
     }
 
     @Override
@@ -62,7 +73,20 @@ public abstract class AbstractUserManager implements UserManager<CarbonPlayerCom
 
             // TODO: save ignoredplayers
             return new ComponentPlayerResult<>(player, empty());
-        }));
+        }), this.executor);
+    }
+
+    /**
+     * Migrates the schema, repairing the schema history first only if it doesn't validate.
+     *
+     * @param flyway the flyway instance
+     */
+    protected static void migrate(final Flyway flyway) {
+        if (!flyway.validateWithResult().validationSuccessful) {
+            flyway.repair();
+        }
+
+        flyway.migrate();
     }
 
     abstract protected Update bindPlayerArguments(final Update update, final CarbonPlayerCommon player);
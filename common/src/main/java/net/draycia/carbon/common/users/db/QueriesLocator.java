@@ -21,8 +21,11 @@ package net.draycia.carbon.common.users.db;
 
 import com.google.common.base.Splitter;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import net.draycia.carbon.api.CarbonChat;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jdbi.v3.core.locator.ClasspathSqlLocator;
 import org.jdbi.v3.core.locator.internal.ClasspathBuilder;
 
@@ -31,17 +34,37 @@ public final class QueriesLocator {
     private static final Splitter SPLITTER = Splitter.on(';');
     private final ClasspathSqlLocator locator = ClasspathSqlLocator.create();
     private final DBType dbType;
+    private final Map<String, String> names = new ConcurrentHashMap<>();
 
     public QueriesLocator(final DBType dbType) {
         this.dbType = dbType;
     }
 
     public @NonNull String query(final @NonNull String name) {
-        return this.locate(this.dbType.basePath() + name);
+        final String query = this.locate(this.dbType.basePath() + name);
+        this.names.putIfAbsent(query, name);
+
+        return query;
     }
 
     public @NonNull List<@NonNull String> queries(final @NonNull String name) {
-        return SPLITTER.splitToList(this.locator.locate(this.dbType.basePath() + name));
+        final List<String> queries = SPLITTER.splitToList(this.locator.locate(this.dbType.basePath() + name));
+
+        for (final String query : queries) {
+            this.names.putIfAbsent(query, name);
+        }
+
+        return queries;
+    }
+
+    /**
+     * Gets the name of the SQL file a query was located from.
+     *
+     * @param query the query text
+     * @return the file name, or null if the query wasn't located by this locator
+     */
+    public @Nullable String name(final @NonNull String query) {
+        return this.names.get(query);
     }
 
     private String locate(final String name) {
@@ -0,0 +1,123 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.users.db;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.draycia.carbon.common.jfr.DatabaseQueryEvent;
+import net.draycia.carbon.common.metrics.Counter;
+import net.draycia.carbon.common.metrics.Histogram;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Records the latency of every statement, labelled by the SQL file it was located from,
+ * or by the SQL object method for annotated queries. Statements are also recorded as
+ * {@link DatabaseQueryEvent}s while a flight recording is running.
+ */
+@DefaultQualifier(NonNull.class)
+final class QueryMetricsLogger implements SqlLogger {
+
+    private final MetricsRegistry metrics;
+    private final QueriesLocator locator;
+    private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failures = new ConcurrentHashMap<>();
+    private final ThreadLocal<@Nullable DatabaseQueryEvent> events = new ThreadLocal<>();
+
+    QueryMetricsLogger(final MetricsRegistry metrics, final QueriesLocator locator) {
+        this.metrics = metrics;
+        this.locator = locator;
+    }
+
+    @Override
+    public void logBeforeExecution(final StatementContext context) {
+        final DatabaseQueryEvent event = new DatabaseQueryEvent();
+
+        if (event.isEnabled()) {
+            event.begin();
+            this.events.set(event);
+        }
+    }
+
+    @Override
+    public void logAfterExecution(final StatementContext context) {
+        this.commitEvent(context, true);
+        this.latencies.computeIfAbsent(this.queryName(context), query -> this.metrics.latency(
+            "carbon_db_query_seconds", "Latency of database queries.", "query", query)
+        ).record(elapsedNanos(context));
+    }
+
+    @Override
+    public void logException(final StatementContext context, final SQLException exception) {
+        this.commitEvent(context, false);
+        this.failures.computeIfAbsent(this.queryName(context), query -> this.metrics.counter(
+            "carbon_db_query_failures_total", "Database queries that failed.", "query", query)
+        ).increment();
+    }
+
+    private void commitEvent(final StatementContext context, final boolean succeeded) {
+        final @Nullable DatabaseQueryEvent event = this.events.get();
+
+        if (event == null) {
+            return;
+        }
+
+        this.events.remove();
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.query = this.queryName(context);
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+
+    private String queryName(final StatementContext context) {
+        final @Nullable String name = this.locator.name(context.getRawSql());
+
+        if (name != null) {
+            return name;
+        }
+
+        final @Nullable ExtensionMethod method = context.getExtensionMethod();
+
+        if (method != null) {
+            return method.getType().getSimpleName() + "." + method.getMethod().getName();
+        }
+
+        return "other";
+    }
+
+    private static long elapsedNanos(final StatementContext context) {
+        if (context.getExecutionMoment() == null || context.getCompletionMoment() == null) {
+            return 0;
+        }
+
+        return Duration.between(context.getExecutionMoment(), context.getCompletionMoment()).toNanos();
+    }
+
+}
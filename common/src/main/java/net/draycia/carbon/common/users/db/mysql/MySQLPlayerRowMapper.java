@@ -42,6 +42,7 @@ public class MySQLPlayerRowMapper implements RowMapper<CarbonPlayerCommon> {
 
         return new CarbonPlayerCommon(
             rs.getBoolean("muted"),
+            rs.getLong("muteexpiration"),
             rs.getBoolean("deafened"),
             selectedChannel == null ? null : Key.key(selectedChannel),
             rs.getString("username"),
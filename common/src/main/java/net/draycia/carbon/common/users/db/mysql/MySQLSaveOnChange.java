@@ -34,8 +34,8 @@ public interface MySQLSaveOnChange extends SaveOnChange {
     @SqlUpdate("UPDATE carbon_users SET displayname = :displayName WHERE id = UNHEX(REPLACE(:id, '-', ''))")
     int saveDisplayName(final UUID id, final @Nullable Component displayName);
 
-    @SqlUpdate("UPDATE carbon_users SET muted = :muted WHERE id = UNHEX(REPLACE(:id, '-', ''))")
-    int saveMuted(final UUID id, final boolean muted);
+    @SqlUpdate("UPDATE carbon_users SET muted = :muted, muteexpiration = :muteExpiration WHERE id = UNHEX(REPLACE(:id, '-', ''))")
+    int saveMuted(final UUID id, final boolean muted, final long muteExpiration);
 
     @SqlUpdate("UPDATE carbon_users SET deafened = :deafened WHERE id = UNHEX(REPLACE(:id, '-', ''))")
     int saveDeafened(final UUID id, final boolean deafened);
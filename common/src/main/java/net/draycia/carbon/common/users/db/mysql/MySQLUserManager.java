@@ -28,12 +28,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.CarbonChatProvider;
 import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.common.config.DatabaseSettings;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
 import net.draycia.carbon.common.users.SaveOnChange;
 import net.draycia.carbon.common.users.db.AbstractUserManager;
@@ -60,12 +62,14 @@ public final class MySQLUserManager extends AbstractUserManager implements SaveO
 
     private final Map<UUID, CarbonPlayerCommon> userCache = Collections.synchronizedMap(new HashMap<>());
 
-    private MySQLUserManager(final Jdbi jdbi) {
-        super(jdbi, new QueriesLocator(DBType.MYSQL));
+    private MySQLUserManager(final Jdbi jdbi, final MetricsRegistry metrics, final Executor executor) {
+        super(jdbi, new QueriesLocator(DBType.MYSQL), metrics, executor);
     }
 
     public static MySQLUserManager manager(
-        final DatabaseSettings databaseSettings
+        final DatabaseSettings databaseSettings,
+        final MetricsRegistry metrics,
+        final Executor executor
     ) {
         try {
             //Class.forName("org.postgresql.Driver");
@@ -91,8 +95,7 @@ public final class MySQLUserManager extends AbstractUserManager implements SaveO
             .validateOnMigrate(true)
             .load();
 
-        flyway.repair();
-        flyway.migrate();
+        migrate(flyway);
 
         final Jdbi jdbi = Jdbi.create(dataSource)
             .registerArrayType(UUID.class, "uuid")
@@ -102,7 +105,7 @@ public final class MySQLUserManager extends AbstractUserManager implements SaveO
             .registerRowMapper(new MySQLPlayerRowMapper())
             .installPlugin(new SqlObjectPlugin());
 
-        return new MySQLUserManager(jdbi);
+        return new MySQLUserManager(jdbi, metrics, executor);
     }
 
     @Override
@@ -133,7 +136,7 @@ public final class MySQLUserManager extends AbstractUserManager implements SaveO
             }));
 
             return new ComponentPlayerResult<>(playerResult, empty());
-        }).completeOnTimeout(new ComponentPlayerResult<>(null, text("Timed out loading data of UUID [" + uuid + " ]")), 30, TimeUnit.SECONDS);
+        }, this.executor).completeOnTimeout(new ComponentPlayerResult<>(null, text("Timed out loading data of UUID [" + uuid + " ]")), 30, TimeUnit.SECONDS);
     }
 
     @Override
@@ -141,6 +144,7 @@ public final class MySQLUserManager extends AbstractUserManager implements SaveO
         return update
             .bind("id", player.uuid())
             .bind("muted", player.muted())
+            .bind("muteexpiration", player.muteExpiration())
             .bind("deafened", player.deafened())
             .bind("selectedchannel", player.selectedChannelKey())
             .bind("username", player.username())
@@ -165,8 +169,8 @@ public final class MySQLUserManager extends AbstractUserManager implements SaveO
     }
 
     @Override
-    public int saveMuted(final UUID id, final boolean muted) {
-        return this.jdbi.withExtension(MySQLSaveOnChange.class, changeSaver -> changeSaver.saveMuted(id, muted));
+    public int saveMuted(final UUID id, final boolean muted, final long muteExpiration) {
+        return this.jdbi.withExtension(MySQLSaveOnChange.class, changeSaver -> changeSaver.saveMuted(id, muted, muteExpiration));
     }
 
     @Override
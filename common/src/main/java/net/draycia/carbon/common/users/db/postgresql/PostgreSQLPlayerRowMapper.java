@@ -39,6 +39,7 @@ public class PostgreSQLPlayerRowMapper implements RowMapper<CarbonPlayerCommon>
 
         return new CarbonPlayerCommon(
             rs.getBoolean("muted"),
+            rs.getLong("muteexpiration"),
             rs.getBoolean("deafened"),
             selectedChannel == null ? null : Key.key(selectedChannel),
             rs.getString("username"),
@@ -27,12 +27,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.CarbonChatProvider;
 import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.common.config.DatabaseSettings;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
 import net.draycia.carbon.common.users.SaveOnChange;
 import net.draycia.carbon.common.users.db.AbstractUserManager;
@@ -61,11 +63,15 @@ public final class PostgreSQLUserManager extends AbstractUserManager implements
 
     private final Map<UUID, CarbonPlayerCommon> userCache = Collections.synchronizedMap(new HashMap<>());
 
-    private PostgreSQLUserManager(final Jdbi jdbi) {
-        super(jdbi, new QueriesLocator(DBType.POSTGRESQL));
+    private PostgreSQLUserManager(final Jdbi jdbi, final MetricsRegistry metrics, final Executor executor) {
+        super(jdbi, new QueriesLocator(DBType.POSTGRESQL), metrics, executor);
     }
 
-    public static PostgreSQLUserManager manager(final DatabaseSettings databaseSettings) {
+    public static PostgreSQLUserManager manager(
+        final DatabaseSettings databaseSettings,
+        final MetricsRegistry metrics,
+        final Executor executor
+    ) {
         try {
             Class.forName("org.postgresql.Driver");
             Flyway.configure().getPluginRegister().REGISTERED_PLUGINS.add(new PostgreSQLDatabaseType());
@@ -81,14 +87,15 @@ public final class PostgreSQLUserManager extends AbstractUserManager implements
 
         final DataSource dataSource = new HikariDataSource(hikariConfig);
 
-        Flyway.configure(CarbonChat.class.getClassLoader())
+        final Flyway flyway = Flyway.configure(CarbonChat.class.getClassLoader())
             .baselineVersion("0")
             .baselineOnMigrate(true)
             .locations("queries/migrations/postgresql")
             .dataSource(dataSource)
             .validateOnMigrate(true)
-            .load()
-            .migrate();
+            .load();
+
+        migrate(flyway);
 
         final Jdbi jdbi = Jdbi.create(dataSource)
             .registerArgument(new ComponentArgumentFactory())
@@ -97,7 +104,7 @@ public final class PostgreSQLUserManager extends AbstractUserManager implements
             .installPlugin(new SqlObjectPlugin())
             .installPlugin(new PostgresPlugin());
 
-        return new PostgreSQLUserManager(jdbi);
+        return new PostgreSQLUserManager(jdbi, metrics, executor);
     }
 
     @Override
@@ -135,7 +142,7 @@ public final class PostgreSQLUserManager extends AbstractUserManager implements
                     return new ComponentPlayerResult<>(player, text(""));
                 }
             });
-        }).completeOnTimeout(new ComponentPlayerResult<>(null, text("Timed out loading data of UUID [" + uuid + " ]")), 30, TimeUnit.SECONDS);
+        }, this.executor).completeOnTimeout(new ComponentPlayerResult<>(null, text("Timed out loading data of UUID [" + uuid + " ]")), 30, TimeUnit.SECONDS);
     }
 
     @Override
@@ -143,6 +150,7 @@ public final class PostgreSQLUserManager extends AbstractUserManager implements
         return update
             .bind("id", player.uuid())
             .bind("muted", player.muted())
+            .bind("muteexpiration", player.muteExpiration())
             .bind("deafened", player.deafened())
             .bind("selectedchannel", player.selectedChannelKey())
             .bind("username", player.username())
@@ -167,8 +175,8 @@ public final class PostgreSQLUserManager extends AbstractUserManager implements
     }
 
     @Override
-    public int saveMuted(final UUID id, final boolean muted) {
-        return this.jdbi.withExtension(PostgreSQLSaveOnChange.class, changeSaver -> changeSaver.saveMuted(id, muted));
+    public int saveMuted(final UUID id, final boolean muted, final long muteExpiration) {
+        return this.jdbi.withExtension(PostgreSQLSaveOnChange.class, changeSaver -> changeSaver.saveMuted(id, muted, muteExpiration));
     }
 
     @Override
@@ -42,6 +42,7 @@ import net.draycia.carbon.common.ForCarbon;
 import net.draycia.carbon.common.serialisation.gson.ChatChannelSerializerGson;
 import net.draycia.carbon.common.serialisation.gson.UUIDSerializerGson;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
+import net.draycia.carbon.common.util.IoExecutor;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -58,6 +59,7 @@ public class JSONUserManager implements UserManager<CarbonPlayerCommon> {
     private final Gson serializer;
     private final Path userDirectory;
     private final CarbonChat carbonChat;
+    private final IoExecutor executor;
 
     private final Map<UUID, CarbonPlayerCommon> userCache = Collections.synchronizedMap(new HashMap<>());
 
@@ -66,11 +68,13 @@ public class JSONUserManager implements UserManager<CarbonPlayerCommon> {
         final @ForCarbon Path dataDirectory,
         final Injector injector,
         final Logger logger,
-        final CarbonChat carbonChat
+        final CarbonChat carbonChat,
+        final IoExecutor executor
     ) throws IOException {
         this.logger = logger;
         this.userDirectory = dataDirectory.resolve("users");
         this.carbonChat = carbonChat;
+        this.executor = executor;
 
         Files.createDirectories(this.userDirectory);
 
@@ -118,7 +122,7 @@ public class JSONUserManager implements UserManager<CarbonPlayerCommon> {
             this.userCache.put(uuid, player);
 
             return new ComponentPlayerResult<>(player, empty());
-        }).completeOnTimeout(new ComponentPlayerResult<>(null, text("Timed out loading data of UUID [" + uuid + " ]")), 30, TimeUnit.SECONDS);
+        }, this.executor).completeOnTimeout(new ComponentPlayerResult<>(null, text("Timed out loading data of UUID [" + uuid + " ]")), 30, TimeUnit.SECONDS);
     }
 
     @Override
@@ -148,7 +152,7 @@ public class JSONUserManager implements UserManager<CarbonPlayerCommon> {
                 exception.printStackTrace();
                 return new ComponentPlayerResult<>(null, text(exception.getMessage()));
             }
-        });
+        }, this.executor);
     }
 
     @Override
@@ -0,0 +1,144 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.users.profiles;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.inject.Singleton;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import net.draycia.carbon.common.util.FastUuidSansHyphens;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class MojangProfileLookup implements ProfileLookup {
+
+    private static final URI PROFILES = URI.create("https://api.mojang.com/profiles/minecraft");
+    private static final String SESSION_PROFILE = "https://sessionserver.mojang.com/session/minecraft/profile/";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(60);
+    private static final Pattern VALID_NAME = Pattern.compile("^[A-Za-z0-9_]{1,16}$");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    private final Gson gson = new Gson();
+
+    @Override
+    public int batchSize() {
+        // The limit of the bulk profiles endpoint
+        return 10;
+    }
+
+    @Override
+    public Map<String, UUID> uuids(final Collection<String> names) throws IOException {
+        final Map<String, UUID> uuids = new HashMap<>();
+
+        // A single invalid name fails the whole batch, and no player can have one anyway
+        final List<String> validNames = names.stream()
+            .filter(name -> VALID_NAME.matcher(name).matches())
+            .toList();
+
+        if (validNames.isEmpty()) {
+            return uuids;
+        }
+
+        final HttpRequest request = HttpRequest.newBuilder(PROFILES)
+            .timeout(TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(this.gson.toJson(validNames)))
+            .build();
+
+        final @Nullable JsonArray profiles = this.gson.fromJson(this.send(request), JsonArray.class);
+
+        if (profiles != null) {
+            for (final JsonElement element : profiles) {
+                final JsonObject profile = element.getAsJsonObject();
+                uuids.put(profile.get("name").getAsString().toLowerCase(Locale.ROOT),
+                    FastUuidSansHyphens.parseUuid(profile.get("id").getAsString()));
+            }
+        }
+
+        return uuids;
+    }
+
+    @Override
+    public @Nullable String name(final UUID uuid) throws IOException {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(SESSION_PROFILE + uuid.toString().replace("-", "")))
+            .timeout(TIMEOUT)
+            .GET()
+            .build();
+
+        final @Nullable JsonObject profile = this.gson.fromJson(this.send(request), JsonObject.class);
+
+        return profile == null ? null : profile.get("name").getAsString();
+    }
+
+    private @Nullable String send(final HttpRequest request) throws IOException {
+        final HttpResponse<String> response;
+
+        try {
+            response = this.client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException(exception);
+        }
+
+        if (response.statusCode() == 429) {
+            throw new RateLimitedException(response.headers().firstValue("Retry-After")
+                .map(MojangProfileLookup::parseRetryAfter)
+                .orElse(DEFAULT_RETRY_AFTER));
+        }
+
+        // Unknown profiles are answered with 204 or 404 and no profile
+        if (response.statusCode() == 204 || response.statusCode() == 404) {
+            return null;
+        }
+
+        if (response.statusCode() != 200) {
+            throw new IOException("Unexpected response " + response.statusCode() + " from " + request.uri());
+        }
+
+        return response.body();
+    }
+
+    private static Duration parseRetryAfter(final String value) {
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (final NumberFormatException exception) {
+            return DEFAULT_RETRY_AFTER;
+        }
+    }
+
+}
@@ -0,0 +1,420 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.users.profiles;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
+import net.draycia.carbon.common.ForCarbon;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Resolves player names and UUIDs, remembering the answers.
+ *
+ * <ul>
+ *     <li>Answers are kept in memory, and found profiles are also saved to disk between restarts.</li>
+ *     <li>Found profiles older than 12 hours are still answered from the cache, and looked up again in the background.</li>
+ *     <li>Profiles that don't exist are remembered for a short while, so they aren't looked up over and over.</li>
+ *     <li>Concurrent requests for the same profile share a single lookup.</li>
+ *     <li>Name lookups are sent in batches, and all lookups pause while the {@link ProfileLookup} is rate limited.</li>
+ * </ul>
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class ProfileCache {
+
+    private static final Duration FOUND_REFRESH = Duration.ofHours(12);
+    private static final Duration MISSING_EXPIRY = Duration.ofMinutes(10);
+    private static final long BATCH_DELAY_MILLIS = 50;
+    private static final long SAVE_INTERVAL_MINUTES = 10;
+
+    private final ProfileLookup lookup;
+    private final Logger logger;
+    private final Path file;
+    private final Gson gson = new Gson();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+        .setNameFormat("Carbon Profile Lookups")
+        .setDaemon(true)
+        .build());
+
+    private final Cache<String, CachedProfile> byName = cache();
+    private final Cache<UUID, CachedProfile> byUuid = cache();
+    private final Map<String, CompletableFuture<@Nullable UUID>> pendingNames = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<@Nullable String>> pendingUuids = new ConcurrentHashMap<>();
+    private final Queue<String> queuedNames = new ConcurrentLinkedQueue<>();
+    private final Queue<UUID> queuedUuids = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    @Inject
+    public ProfileCache(
+        final CarbonChat carbonChat,
+        final ProfileLookup lookup,
+        final Logger logger,
+        @ForCarbon final Path dataDirectory
+    ) {
+        this.lookup = lookup;
+        this.logger = logger;
+        this.file = dataDirectory.resolve("profiles.json");
+
+        this.load();
+
+        this.executor.scheduleWithFixedDelay(this::save, SAVE_INTERVAL_MINUTES, SAVE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        carbonChat.eventHandler().subscribe(CarbonShutdownEvent.class, 0, false, event -> {
+            this.executor.shutdownNow();
+            this.save();
+        });
+    }
+
+    /**
+     * Gets the UUID of the player with the name.
+     *
+     * @param name the player's name, in any case
+     * @return the UUID, or null if no player has the name or it couldn't be looked up
+     */
+    public CompletableFuture<@Nullable UUID> uuid(final String name) {
+        final String key = name.toLowerCase(Locale.ROOT);
+        final @Nullable CachedProfile cached = this.byName.getIfPresent(key);
+
+        if (cached == null) {
+            return this.lookUpUuid(key);
+        }
+
+        if (cached.stale()) {
+            this.lookUpUuid(key);
+        }
+
+        return CompletableFuture.completedFuture(cached.uuid());
+    }
+
+    private CompletableFuture<@Nullable UUID> lookUpUuid(final String key) {
+        return this.pendingNames.computeIfAbsent(key, ignored -> {
+            this.queuedNames.add(key);
+            this.scheduleFlush(BATCH_DELAY_MILLIS);
+            return new CompletableFuture<>();
+        });
+    }
+
+    /**
+     * Gets the current name of the player with the UUID.
+     *
+     * @param uuid the player's UUID
+     * @return the name, or null if no player has the UUID or it couldn't be looked up
+     */
+    public CompletableFuture<@Nullable String> name(final UUID uuid) {
+        final @Nullable CachedProfile cached = this.byUuid.getIfPresent(uuid);
+
+        if (cached == null) {
+            return this.lookUpName(uuid);
+        }
+
+        if (cached.stale()) {
+            this.lookUpName(uuid);
+        }
+
+        return CompletableFuture.completedFuture(cached.name());
+    }
+
+    private CompletableFuture<@Nullable String> lookUpName(final UUID uuid) {
+        return this.pendingUuids.computeIfAbsent(uuid, ignored -> {
+            this.queuedUuids.add(uuid);
+            this.scheduleFlush(0);
+            return new CompletableFuture<>();
+        });
+    }
+
+    /**
+     * Remembers a profile known to be current, such as the profile of an online player.
+     *
+     * @param uuid the player's UUID
+     * @param name the player's name
+     */
+    public void remember(final UUID uuid, final String name) {
+        final @Nullable CachedProfile cached = this.byUuid.getIfPresent(uuid);
+
+        if (cached != null && name.equals(cached.name())) {
+            return;
+        }
+
+        this.found(uuid, name, System.currentTimeMillis());
+    }
+
+    private void found(final UUID uuid, final String name, final long cachedAt) {
+        final CachedProfile profile = new CachedProfile(uuid, name, cachedAt);
+        final @Nullable CachedProfile previous = this.byUuid.getIfPresent(uuid);
+
+        // The player was renamed, their old name may belong to someone else now
+        if (previous != null && previous.name() != null && !previous.name().equalsIgnoreCase(name)) {
+            this.byName.asMap().remove(previous.name().toLowerCase(Locale.ROOT), previous);
+        }
+
+        this.byName.put(name.toLowerCase(Locale.ROOT), profile);
+        this.byUuid.put(uuid, profile);
+        this.dirty.set(true);
+    }
+
+    private void scheduleFlush(final long delayMillis) {
+        if (this.flushScheduled.compareAndSet(false, true)) {
+            try {
+                this.executor.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (final RuntimeException exception) {
+                // Shutting down, nothing will be looked up anymore
+                this.flushScheduled.set(false);
+            }
+        }
+    }
+
+    private void flush() {
+        this.flushScheduled.set(false);
+
+        try {
+            this.flushNames();
+            this.flushUuids();
+        } catch (final ProfileLookup.RateLimitedException exception) {
+            this.logger.warn("Profile lookups are rate limited, retrying in " + exception.retryAfter().toSeconds() + "s");
+
+            // Everything not looked up yet is still queued
+            this.flushScheduled.set(true);
+            this.executor.schedule(this::flush, exception.retryAfter().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushNames() throws ProfileLookup.RateLimitedException {
+        while (!this.queuedNames.isEmpty()) {
+            final List<String> batch = new ArrayList<>(this.lookup.batchSize());
+
+            for (@Nullable String name = this.queuedNames.peek(); name != null && batch.size() < this.lookup.batchSize();
+                 name = this.queuedNames.peek()) {
+                batch.add(name);
+                this.queuedNames.remove();
+            }
+
+            final Map<String, UUID> uuids;
+
+            try {
+                uuids = this.lookup.uuids(batch);
+            } catch (final ProfileLookup.RateLimitedException exception) {
+                this.queuedNames.addAll(batch);
+                throw exception;
+            } catch (final IOException | RuntimeException exception) {
+                // Failures aren't cached, the next request looks the names up again
+                this.logger.warn("Failed to look up the UUIDs of " + batch, exception);
+                batch.forEach(name -> this.completeName(name, null));
+                continue;
+            }
+
+            for (final String name : batch) {
+                final @Nullable UUID uuid = uuids.get(name);
+
+                if (uuid == null) {
+                    this.byName.put(name, new CachedProfile(null, name, System.currentTimeMillis()));
+                } else {
+                    this.found(uuid, name, System.currentTimeMillis());
+                }
+
+                this.completeName(name, uuid);
+            }
+        }
+    }
+
+    private void flushUuids() throws ProfileLookup.RateLimitedException {
+        for (@Nullable UUID uuid = this.queuedUuids.peek(); uuid != null; uuid = this.queuedUuids.peek()) {
+            final @Nullable String name;
+
+            try {
+                name = this.lookup.name(uuid);
+            } catch (final ProfileLookup.RateLimitedException exception) {
+                throw exception;
+            } catch (final IOException | RuntimeException exception) {
+                this.logger.warn("Failed to look up the name of " + uuid, exception);
+                this.queuedUuids.remove();
+                this.completeUuid(uuid, null);
+                continue;
+            }
+
+            this.queuedUuids.remove();
+
+            if (name == null) {
+                this.byUuid.put(uuid, new CachedProfile(uuid, null, System.currentTimeMillis()));
+            } else {
+                this.found(uuid, name, System.currentTimeMillis());
+            }
+
+            this.completeUuid(uuid, name);
+        }
+    }
+
+    private void completeName(final String name, final @Nullable UUID uuid) {
+        final @Nullable CompletableFuture<@Nullable UUID> future = this.pendingNames.remove(name);
+
+        if (future != null) {
+            future.complete(uuid);
+        }
+    }
+
+    private void completeUuid(final UUID uuid, final @Nullable String name) {
+        final @Nullable CompletableFuture<@Nullable String> future = this.pendingUuids.remove(uuid);
+
+        if (future != null) {
+            future.complete(name);
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(this.file)) {
+            return;
+        }
+
+        try (final Reader reader = Files.newBufferedReader(this.file)) {
+            final @Nullable List<SavedProfile> profiles = this.gson.fromJson(reader, new TypeToken<List<SavedProfile>>() {}.getType());
+
+            if (profiles == null) {
+                return;
+            }
+
+            for (final SavedProfile profile : profiles) {
+                if (profile.uuid != null && profile.name != null) {
+                    this.found(UUID.fromString(profile.uuid), profile.name, profile.cachedAt);
+                }
+            }
+
+            this.dirty.set(false);
+        } catch (final IOException | RuntimeException exception) {
+            this.logger.warn("Failed to load the profile cache, it will be rebuilt", exception);
+        }
+    }
+
+    private synchronized void save() {
+        if (!this.dirty.getAndSet(false)) {
+            return;
+        }
+
+        final List<SavedProfile> profiles = new ArrayList<>();
+
+        for (final CachedProfile profile : this.byUuid.asMap().values()) {
+            if (profile.uuid() != null && profile.name() != null) {
+                profiles.add(new SavedProfile(profile.uuid().toString(), profile.name(), profile.cachedAt()));
+            }
+        }
+
+        try {
+            // Written next to the file first, so a crash mid-write doesn't lose the cache
+            final Path temporary = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+
+            try (final Writer writer = Files.newBufferedWriter(temporary)) {
+                this.gson.toJson(profiles, writer);
+            }
+
+            Files.move(temporary, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException exception) {
+            this.dirty.set(true);
+            this.logger.warn("Failed to save the profile cache", exception);
+        }
+    }
+
+    private static <K> Cache<K, CachedProfile> cache() {
+        return Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfter(new Expiry<K, CachedProfile>() {
+                @Override
+                public long expireAfterCreate(final K key, final CachedProfile value, final long currentTime) {
+                    // Found profiles are refreshed when they're used instead, so saved ones still answer right away
+                    if (value.found()) {
+                        return Long.MAX_VALUE;
+                    }
+
+                    final long age = System.currentTimeMillis() - value.cachedAt();
+
+                    return Math.max(0, TimeUnit.MILLISECONDS.toNanos(MISSING_EXPIRY.toMillis() - age));
+                }
+
+                @Override
+                public long expireAfterUpdate(final K key, final CachedProfile value, final long currentTime, final long currentDuration) {
+                    return this.expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(final K key, final CachedProfile value, final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    /**
+     * A cached answer, a null UUID or name means no such player exists.
+     */
+    private record CachedProfile(@Nullable UUID uuid, @Nullable String name, long cachedAt) {
+
+        boolean found() {
+            return this.uuid != null && this.name != null;
+        }
+
+        boolean stale() {
+            return this.found() && System.currentTimeMillis() - this.cachedAt > FOUND_REFRESH.toMillis();
+        }
+
+    }
+
+    private static final class SavedProfile {
+
+        private @Nullable String uuid;
+        private @Nullable String name;
+        private long cachedAt;
+
+        SavedProfile(final String uuid, final String name, final long cachedAt) {
+            this.uuid = uuid;
+            this.name = name;
+            this.cachedAt = cachedAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.users.profiles;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Looks up player profiles from an authoritative source, such as Mojang's API.
+ *
+ * <p>Lookups block, {@link ProfileCache} calls them off the main threads.</p>
+ */
+@DefaultQualifier(NonNull.class)
+public interface ProfileLookup {
+
+    /**
+     * The most names {@link #uuids(Collection)} accepts at once.
+     *
+     * @return the batch size
+     */
+    int batchSize();
+
+    /**
+     * Looks up the UUIDs of players by their names.
+     *
+     * @param names the names, at most {@link #batchSize()}
+     * @return the UUIDs of the names that exist, keyed by the name in lower case
+     * @throws RateLimitedException if too many lookups were made recently
+     * @throws IOException if the lookup failed
+     */
+    Map<String, UUID> uuids(Collection<String> names) throws IOException;
+
+    /**
+     * Looks up the current name of a player.
+     *
+     * @param uuid the player's UUID
+     * @return the name, or null if no player has the UUID
+     * @throws RateLimitedException if too many lookups were made recently
+     * @throws IOException if the lookup failed
+     */
+    @Nullable String name(UUID uuid) throws IOException;
+
+    /**
+     * Thrown when the source refuses lookups for a while.
+     */
+    final class RateLimitedException extends IOException {
+
+        private static final long serialVersionUID = -3216418537261432542L;
+
+        private final Duration retryAfter;
+
+        public RateLimitedException(final Duration retryAfter) {
+            super("Rate limited, retry after " + retryAfter.toSeconds() + "s");
+            this.retryAfter = retryAfter;
+        }
+
+        public Duration retryAfter() {
+            return this.retryAfter;
+        }
+
+    }
+
+}
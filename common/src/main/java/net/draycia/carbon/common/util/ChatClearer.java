@@ -0,0 +1,91 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.util;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.common.config.ClearChatSettings;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.messaging.packets.ClearChatPacket;
+import net.kyori.adventure.text.Component;
+import ninja.egg82.messenger.services.PacketService;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class ChatClearer {
+
+    private final CarbonChat carbonChat;
+    private final ConfigFactory configFactory;
+
+    @Inject
+    public ChatClearer(
+        final CarbonChat carbonChat,
+        final ConfigFactory configFactory
+    ) {
+        this.carbonChat = carbonChat;
+        this.configFactory = configFactory;
+    }
+
+    /**
+     * Clears chat on this server, and on every other server if network clearing is enabled.
+     *
+     * @param senderName the rendered name of whoever cleared chat
+     * @param username the username of whoever cleared chat
+     */
+    public void clear(final Component senderName, final String username) {
+        this.clearLocally(senderName, username);
+
+        if (!this.configFactory.primaryConfig().clearChatSettings().network()) {
+            return;
+        }
+
+        final @Nullable PacketService packetService = this.carbonChat.packetService();
+
+        if (packetService != null) {
+            packetService.queuePacket(new ClearChatPacket(this.carbonChat.serverId(), senderName, username));
+            packetService.flushQueue();
+        }
+    }
+
+    /**
+     * Clears chat for every player on this server who isn't exempt.
+     *
+     * @param senderName the rendered name of whoever cleared chat
+     * @param username the username of whoever cleared chat
+     */
+    public void clearLocally(final Component senderName, final String username) {
+        final ClearChatSettings settings = this.configFactory.primaryConfig().clearChatSettings();
+        final Component clearMessage = settings.clearMessage();
+
+        for (final CarbonPlayer player : this.carbonChat.server().players()) {
+            if (!player.hasPermission("carbon.clearchat.exempt")) {
+                player.sendMessage(clearMessage);
+            }
+        }
+
+        this.carbonChat.server().sendMessage(settings.broadcast(senderName, username));
+    }
+
+}
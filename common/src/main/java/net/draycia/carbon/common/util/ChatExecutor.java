@@ -0,0 +1,161 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
+import net.draycia.carbon.common.config.ConcurrencySettings;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.config.PrimaryConfig;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Runs chat work off the server thread while keeping the messages
+ * of a single player in the order they were sent.
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class ChatExecutor {
+
+    private final ExecutorService executor;
+    private final Map<UUID, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+
+    @Inject
+    public ChatExecutor(
+        final CarbonChat carbonChat,
+        final ConfigFactory configFactory,
+        final MetricsRegistry metrics,
+        final Logger logger
+    ) {
+        final @Nullable PrimaryConfig primaryConfig = configFactory.primaryConfig();
+
+        this.executor = createExecutor(primaryConfig == null ? null : primaryConfig.concurrencySettings(), logger);
+
+        carbonChat.eventHandler().subscribe(CarbonShutdownEvent.class, 0, false, event -> this.shutdown());
+
+        metrics.gauge("carbon_chat_executor_pending", "Players with chat messages queued or being processed.",
+            this.tails::size);
+    }
+
+    /**
+     * Runs the task once every task previously submitted for the key has completed.
+     *
+     * @param key the key tasks are ordered by, usually the sender's uuid
+     * @param task the task to run
+     * @param <T> the result type
+     * @return a future completed with the result of the task
+     */
+    public <T> CompletableFuture<T> submit(final UUID key, final Supplier<? extends CompletionStage<T>> task) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        this.tails.compute(key, (uuid, previous) -> {
+            final CompletableFuture<?> start = previous == null
+                ? CompletableFuture.completedFuture(null)
+                : previous;
+
+            try {
+                start.whenCompleteAsync((ignored, throwable) -> {
+                    try {
+                        task.get().whenComplete((value, exception) -> {
+                            if (exception != null) {
+                                result.completeExceptionally(exception);
+                            } else {
+                                result.complete(value);
+                            }
+                        });
+                    } catch (final Throwable exception) {
+                        result.completeExceptionally(exception);
+                    }
+                }, this.executor);
+            } catch (final RejectedExecutionException exception) {
+                result.completeExceptionally(exception);
+            }
+
+            return result;
+        });
+
+        result.whenComplete((value, exception) -> this.tails.remove(key, result));
+
+        return result;
+    }
+
+    public CompletableFuture<Void> execute(final UUID key, final Runnable task) {
+        return this.submit(key, () -> CompletableFuture.runAsync(task, Runnable::run));
+    }
+
+    /**
+     * Whether tasks are still queued or running for the key.
+     *
+     * @param key the key
+     * @return if work is pending for the key
+     */
+    public boolean busy(final UUID key) {
+        return this.tails.containsKey(key);
+    }
+
+    private void shutdown() {
+        this.executor.shutdown();
+
+        try {
+            if (!this.executor.awaitTermination(1L, TimeUnit.SECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (final InterruptedException exception) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService createExecutor(final @Nullable ConcurrencySettings settings, final Logger logger) {
+        if (settings != null && settings.virtualThreads()) {
+            try {
+                // Looked up reflectively so Carbon still runs on Java 17
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (final ReflectiveOperationException exception) {
+                logger.warn("Virtual threads are not available on this JVM, falling back to platform threads.");
+            }
+        }
+
+        final int threads = settings == null ? 2 : settings.chatThreads();
+
+        return Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+            .setNameFormat("Carbon Chat Thread - %d")
+            .setDaemon(true)
+            .build());
+    }
+
+}
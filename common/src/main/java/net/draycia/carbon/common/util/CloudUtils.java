@@ -38,16 +38,19 @@ import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.common.command.CarbonCommand;
 import net.draycia.carbon.common.command.CommandSettings;
 import net.draycia.carbon.common.command.Commander;
+import net.draycia.carbon.common.command.commands.ChatLogCommand;
 import net.draycia.carbon.common.command.commands.ClearChatCommand;
 import net.draycia.carbon.common.command.commands.ContinueCommand;
 import net.draycia.carbon.common.command.commands.DebugCommand;
 import net.draycia.carbon.common.command.commands.HelpCommand;
+import net.draycia.carbon.common.command.commands.HistoryCommand;
 import net.draycia.carbon.common.command.commands.IgnoreCommand;
 import net.draycia.carbon.common.command.commands.MuteCommand;
 import net.draycia.carbon.common.command.commands.MuteInfoCommand;
 import net.draycia.carbon.common.command.commands.NicknameCommand;
 import net.draycia.carbon.common.command.commands.ReloadCommand;
 import net.draycia.carbon.common.command.commands.ReplyCommand;
+import net.draycia.carbon.common.command.commands.SpamCommand;
 import net.draycia.carbon.common.command.commands.UnignoreCommand;
 import net.draycia.carbon.common.command.commands.UnmuteCommand;
 import net.draycia.carbon.common.command.commands.UpdateUsernameCommand;
@@ -69,10 +72,11 @@ public final class CloudUtils {
     private static final Component NULL = Component.text("null");
     private static final Pattern SPECIAL_CHARACTERS_PATTERN = Pattern.compile("[^\\s\\w\\-]");
 
-    public static final List<Class<? extends CarbonCommand>> COMMAND_CLASSES = List.of(ClearChatCommand.class,
-        ContinueCommand.class, DebugCommand.class, HelpCommand.class, IgnoreCommand.class, MuteCommand.class,
-        MuteInfoCommand.class, NicknameCommand.class, ReloadCommand.class, ReplyCommand.class, UnignoreCommand.class,
-        UnmuteCommand.class, UpdateUsernameCommand.class, WhisperCommand.class);
+    public static final List<Class<? extends CarbonCommand>> COMMAND_CLASSES = List.of(ChatLogCommand.class,
+        ClearChatCommand.class, ContinueCommand.class, DebugCommand.class, HelpCommand.class, HistoryCommand.class,
+        IgnoreCommand.class, MuteCommand.class, MuteInfoCommand.class, NicknameCommand.class, ReloadCommand.class,
+        ReplyCommand.class, SpamCommand.class, UnignoreCommand.class, UnmuteCommand.class, UpdateUsernameCommand.class,
+        WhisperCommand.class);
 
     private static final List<CarbonCommand> CONSTRUCTED_COMMANDS = new ArrayList<>();
 
@@ -0,0 +1,106 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.util;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+@DefaultQualifier(NonNull.class)
+public final class DurationUtils {
+
+    private static final Pattern FULL = Pattern.compile("(\\d+[wdhms])+");
+    private static final Pattern PART = Pattern.compile("(\\d+)([wdhms])");
+
+    private DurationUtils() {
+
+    }
+
+    /**
+     * Parses durations like {@code 30m}, {@code 1h30m} or {@code 2w}.
+     *
+     * @param input the duration
+     * @return the parsed duration, or null if the input isn't a valid positive duration
+     */
+    public static @Nullable Duration parse(final String input) {
+        final String lowerInput = input.toLowerCase(Locale.ROOT);
+
+        if (!FULL.matcher(lowerInput).matches()) {
+            return null;
+        }
+
+        Duration duration = Duration.ZERO;
+        final Matcher matcher = PART.matcher(lowerInput);
+
+        try {
+            while (matcher.find()) {
+                final long amount = Long.parseLong(matcher.group(1));
+
+                duration = duration.plus(switch (matcher.group(2)) {
+                    case "w" -> Duration.ofDays(Math.multiplyExact(amount, 7));
+                    case "d" -> Duration.ofDays(amount);
+                    case "h" -> Duration.ofHours(amount);
+                    case "m" -> Duration.ofMinutes(amount);
+                    default -> Duration.ofSeconds(amount);
+                });
+            }
+        } catch (final ArithmeticException | NumberFormatException exception) {
+            return null;
+        }
+
+        return duration.isZero() ? null : duration;
+    }
+
+    /**
+     * Formats the duration for display, keeping only its two largest units.
+     *
+     * @param duration the duration
+     * @return the formatted duration
+     */
+    public static String format(final Duration duration) {
+        final long[] amounts = {duration.toDaysPart(), duration.toHoursPart(), duration.toMinutesPart(), duration.toSecondsPart()};
+        final char[] units = {'d', 'h', 'm', 's'};
+        final StringBuilder builder = new StringBuilder();
+        int written = 0;
+
+        for (int i = 0; i < amounts.length && written < 2; i++) {
+            if (amounts[i] == 0 && written == 0) {
+                continue;
+            }
+
+            if (amounts[i] != 0) {
+                if (!builder.isEmpty()) {
+                    builder.append(' ');
+                }
+
+                builder.append(amounts[i]).append(units[i]);
+            }
+
+            written++;
+        }
+
+        return builder.isEmpty() ? "0s" : builder.toString();
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
+import net.draycia.carbon.common.config.ConcurrencySettings;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.config.PrimaryConfig;
+import net.draycia.carbon.common.metrics.MetricsRegistry;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Runs blocking storage and network work, like database queries and user files,
+ * instead of the common pool, which is sized for CPU work and shared with the server.
+ *
+ * <p>Uses virtual threads when the JVM has them, so waiting on I/O doesn't hold
+ * a platform thread, and a fixed pool of platform threads otherwise.</p>
+ *
+ * <p>Every platform emits {@link CarbonShutdownEvent} from its disable hook, which
+ * waits for the submitted work to finish. Work submitted after that runs on the
+ * calling thread.</p>
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class IoExecutor implements Executor {
+
+    private final ExecutorService executor;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    @Inject
+    public IoExecutor(
+        final CarbonChat carbonChat,
+        final ConfigFactory configFactory,
+        final MetricsRegistry metrics,
+        final Logger logger
+    ) {
+        final @Nullable PrimaryConfig primaryConfig = configFactory.primaryConfig();
+
+        this.executor = createExecutor(primaryConfig == null ? null : primaryConfig.concurrencySettings(), logger);
+
+        // After everything else has handed over its work, such as saving players
+        carbonChat.eventHandler().subscribe(CarbonShutdownEvent.class, 100, false, event -> this.shutdown());
+
+        metrics.gauge("carbon_io_executor_queued", "Blocking storage and network tasks waiting for a thread.",
+            this.queued::get);
+        metrics.gauge("carbon_io_executor_active", "Blocking storage and network tasks running.",
+            this.active::get);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        this.queued.incrementAndGet();
+
+        final Runnable tracked = () -> {
+            this.queued.decrementAndGet();
+            this.active.incrementAndGet();
+
+            try {
+                task.run();
+            } finally {
+                this.active.decrementAndGet();
+            }
+        };
+
+        try {
+            this.executor.execute(tracked);
+        } catch (final RejectedExecutionException exception) {
+            // Shut down, work submitted this late, like saving the last players, still has to happen
+            tracked.run();
+        }
+    }
+
+    private void shutdown() {
+        this.executor.shutdown();
+
+        try {
+            if (!this.executor.awaitTermination(10L, TimeUnit.SECONDS)) {
+                this.executor.shutdownNow();
+            }
+        } catch (final InterruptedException exception) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService createExecutor(final @Nullable ConcurrencySettings settings, final Logger logger) {
+        if (settings == null || settings.ioVirtualThreads()) {
+            try {
+                // Looked up reflectively so Carbon still runs on Java 17
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (final ReflectiveOperationException exception) {
+                logger.debug("Virtual threads are not available on this JVM, using platform threads for I/O.");
+            }
+        }
+
+        final int threads = settings == null ? 8 : settings.ioThreads();
+
+        return Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+            .setNameFormat("Carbon I/O Thread - %d")
+            .setDaemon(true)
+            .build());
+    }
+
+}
@@ -21,6 +21,9 @@ package net.draycia.carbon.common.util;
 
 import com.google.inject.Injector;
 import java.util.List;
+import net.draycia.carbon.common.channels.ChatHistory;
+import net.draycia.carbon.common.chatlog.ChatLog;
+import net.draycia.carbon.common.listeners.ChatMetricsListener;
 import net.draycia.carbon.common.listeners.DeafenHandler;
 import net.draycia.carbon.common.listeners.IgnoreHandler;
 import net.draycia.carbon.common.listeners.ItemLinkHandler;
@@ -34,7 +37,8 @@ public final class ListenerUtils {
     }
 
     public static final List<Class<?>> LISTENER_CLASSES = List.of(DeafenHandler.class, IgnoreHandler.class,
-        ItemLinkHandler.class, MuteHandler.class, PingHandler.class);
+        ItemLinkHandler.class, MuteHandler.class, PingHandler.class, ChatMetricsListener.class, ChatHistory.class,
+        ChatLog.class);
 
     public static void registerCommonListeners(final Injector injector) {
         for (final var listenerClass : LISTENER_CLASSES) {
@@ -0,0 +1,165 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.api.users.CarbonPlayer;
+import net.draycia.carbon.common.channels.ConfigChatChannel;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.config.PrimaryConfig;
+import net.draycia.carbon.common.events.CarbonReloadEvent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
+import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Caches the message tags each player may use as a bitmask, along with one
+ * {@link MiniMessage} instance per distinct bitmask.
+ */
+@Singleton
+@DefaultQualifier(NonNull.class)
+public final class MessageTagParsers {
+
+    private static final int MESSAGE_TAGS = 1;
+    // Used while the config isn't loaded, matches the config's default
+    private static final int DEFAULT_CACHE_SECONDS = 30;
+
+    // Fixed for the lifetime of the server, the bit for a tag is its index here plus one
+    private static final List<Map.Entry<String, TagResolver>> TAGS = List.copyOf(ConfigChatChannel.DEFAULT_TAGS.entrySet());
+    private static final List<TextDecoration> DECORATIONS = List.of(TextDecoration.values());
+
+    private final ConfigFactory configFactory;
+    private final Map<Integer, MiniMessage> parsers = new ConcurrentHashMap<>();
+    private volatile Cache<UUID, Integer> capabilities;
+
+    @Inject
+    public MessageTagParsers(final CarbonChat carbonChat, final ConfigFactory configFactory) {
+        this.configFactory = configFactory;
+        this.capabilities = this.createCache();
+
+        // After the config has been reloaded, the expiry may have changed
+        carbonChat.eventHandler().subscribe(CarbonReloadEvent.class, 100, false, event -> this.capabilities = this.createCache());
+
+        // Permission changes are picked up through LuckPerms when it's present, the expiry covers everything else
+        try {
+            LuckPermsProvider.get().getEventBus().subscribe(UserDataRecalculateEvent.class,
+                event -> this.invalidate(event.getUser().getUniqueId()));
+        } catch (final NoClassDefFoundError | IllegalStateException ignored) {
+            // LuckPerms isn't loaded, rely on the expiry
+        }
+    }
+
+    /**
+     * Parses the message tags the player may use in a message.
+     *
+     * @param player the player sending the message
+     * @param message the message as typed by the player
+     * @return the parsed message
+     */
+    public Component parse(final CarbonPlayer player, final String message) {
+        if (!this.canUseTags(player)) {
+            return Component.text(message);
+        }
+
+        return this.parser(player).deserialize(message);
+    }
+
+    public MiniMessage parser(final CarbonPlayer player) {
+        return this.parsers.computeIfAbsent(this.capabilities(player), MessageTagParsers::createParser);
+    }
+
+    public boolean canUseTags(final CarbonPlayer player) {
+        return (this.capabilities(player) & MESSAGE_TAGS) != 0;
+    }
+
+    public int capabilities(final CarbonPlayer player) {
+        return this.capabilities.get(player.uuid(), uuid -> computeCapabilities(player));
+    }
+
+    public void invalidate(final UUID player) {
+        this.capabilities.invalidate(player);
+    }
+
+    private Cache<UUID, Integer> createCache() {
+        final @Nullable PrimaryConfig primaryConfig = this.configFactory.primaryConfig();
+        final long seconds = primaryConfig == null ? DEFAULT_CACHE_SECONDS : primaryConfig.messageTagCacheSeconds();
+
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(seconds))
+            .build();
+    }
+
+    private static int computeCapabilities(final CarbonPlayer player) {
+        if (!player.hasPermission("carbon.messagetags")) {
+            return 0;
+        }
+
+        int capabilities = MESSAGE_TAGS;
+
+        for (int i = 0; i < TAGS.size(); i++) {
+            if (player.hasPermission("carbon.messagetags." + TAGS.get(i).getKey())) {
+                capabilities |= 1 << (i + 1);
+            }
+        }
+
+        for (int i = 0; i < DECORATIONS.size(); i++) {
+            if (player.hasPermission("carbon.messagetags." + DECORATIONS.get(i).name())) {
+                capabilities |= 1 << (i + 1 + TAGS.size());
+            }
+        }
+
+        return capabilities;
+    }
+
+    private static MiniMessage createParser(final int capabilities) {
+        final TagResolver.Builder resolver = TagResolver.builder();
+
+        for (int i = 0; i < TAGS.size(); i++) {
+            if ((capabilities & (1 << (i + 1))) != 0) {
+                resolver.resolver(TAGS.get(i).getValue());
+            }
+        }
+
+        for (int i = 0; i < DECORATIONS.size(); i++) {
+            if ((capabilities & (1 << (i + 1 + TAGS.size()))) != 0) {
+                resolver.resolver(StandardTags.decorations(DECORATIONS.get(i)));
+            }
+        }
+
+        return MiniMessage.builder().tags(resolver.build()).build();
+    }
+
+}
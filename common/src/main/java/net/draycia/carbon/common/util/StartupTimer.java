@@ -0,0 +1,97 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import net.draycia.carbon.api.CarbonChat;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Times the phases of Carbon's startup, so slow phases can be spotted in the log.
+ */
+@DefaultQualifier(NonNull.class)
+public final class StartupTimer {
+
+    private final long startedAt = System.nanoTime();
+    private final List<String> phases = new ArrayList<>();
+    private long lastMark = this.startedAt;
+
+    /**
+     * Records the time since the previous mark as the given phase.
+     *
+     * @param phase the phase that just finished
+     */
+    public synchronized void mark(final String phase) {
+        final long now = System.nanoTime();
+        this.phases.add(phase + " " + millis(now - this.lastMark) + "ms");
+        this.lastMark = now;
+    }
+
+    /**
+     * Runs a phase on its own thread, alongside the rest of the startup.
+     *
+     * @param phase the phase
+     * @param task the work done in the phase
+     * @param <T> the result type
+     * @return the result of the phase
+     */
+    public <T> CompletableFuture<T> background(final String phase, final Supplier<T> task) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Thread thread = new Thread(() -> {
+            final long start = System.nanoTime();
+
+            try {
+                future.complete(task.get());
+            } catch (final Throwable throwable) {
+                future.completeExceptionally(throwable);
+            } finally {
+                synchronized (this) {
+                    this.phases.add(phase + " " + millis(System.nanoTime() - start) + "ms (background)");
+                }
+            }
+        }, "Carbon Startup - " + phase);
+
+        // Libraries loading resources or drivers look at the context class loader
+        thread.setContextClassLoader(CarbonChat.class.getClassLoader());
+        thread.start();
+
+        return future;
+    }
+
+    /**
+     * Logs the total time and the time taken by each phase.
+     *
+     * @param logger the logger
+     * @param stage what was timed, such as "Loaded" or "Enabled"
+     */
+    public synchronized void report(final Logger logger, final String stage) {
+        logger.info(stage + " in " + millis(System.nanoTime() - this.startedAt) + "ms: " + String.join(", ", this.phases));
+    }
+
+    private static long millis(final long nanos) {
+        return nanos / 1_000_000;
+    }
+
+}
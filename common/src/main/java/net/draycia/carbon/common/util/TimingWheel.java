@@ -0,0 +1,146 @@
+/*
+ * CarbonChat
+ *
+ * Copyright (c) 2021 Josua Parks (Vicarious)
+ *                    Contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.draycia.carbon.common.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Hierarchical timing wheel. Scheduling and each tick are O(1) regardless of how
+ * many timers are pending; timers are cascaded down a level at most once per level.
+ *
+ * <p>Not thread safe, callers are expected to confine a wheel to one thread.</p>
+ *
+ * @param <T> the timer payload
+ */
+@DefaultQualifier(NonNull.class)
+public final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final List<List<ArrayDeque<Timer<T>>>> levels = new ArrayList<>(LEVELS);
+    // Timers further out than the top level can reach
+    private final List<Timer<T>> overflow = new ArrayList<>();
+    private long currentTick = 0;
+
+    public TimingWheel(final long tickMillis, final long startMillis) {
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+
+        for (int level = 0; level < LEVELS; level++) {
+            final List<ArrayDeque<Timer<T>>> slots = new ArrayList<>(SLOTS);
+
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new ArrayDeque<>());
+            }
+
+            this.levels.add(slots);
+        }
+    }
+
+    /**
+     * Schedules a timer.
+     *
+     * @param value the payload handed back when the timer fires
+     * @param deadlineMillis when the timer fires, in epoch milliseconds
+     * @return false if the deadline has already passed and nothing was scheduled
+     */
+    public boolean schedule(final T value, final long deadlineMillis) {
+        // Round up so timers never fire early
+        final long deadlineTick = Math.floorDiv(deadlineMillis - this.startMillis + this.tickMillis - 1, this.tickMillis);
+
+        if (deadlineTick <= this.currentTick) {
+            return false;
+        }
+
+        this.insert(new Timer<>(value, deadlineTick));
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to the given time, firing every timer whose deadline has passed.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @param expired receives the payload of each timer that fired
+     */
+    public void advanceTo(final long nowMillis, final Consumer<T> expired) {
+        final long targetTick = Math.floorDiv(nowMillis - this.startMillis, this.tickMillis);
+
+        while (this.currentTick < targetTick) {
+            this.currentTick++;
+            this.cascade();
+
+            final ArrayDeque<Timer<T>> slot = this.levels.get(0).get((int) (this.currentTick & MASK));
+
+            while (!slot.isEmpty()) {
+                expired.accept(slot.poll().value());
+            }
+        }
+    }
+
+    private void cascade() {
+        if ((this.currentTick & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0) {
+            final List<Timer<T>> pending = new ArrayList<>(this.overflow);
+            this.overflow.clear();
+            pending.forEach(this::insert);
+        }
+
+        // Higher levels go first so their timers can drop through every level below
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((this.currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                continue;
+            }
+
+            final ArrayDeque<Timer<T>> slot = this.levels.get(level).get((int) ((this.currentTick >>> (SLOT_BITS * level)) & MASK));
+
+            while (!slot.isEmpty()) {
+                this.insert(slot.poll());
+            }
+        }
+    }
+
+    private void insert(final Timer<T> timer) {
+        final long delta = timer.deadlineTick() - this.currentTick;
+
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                final int slot = (int) ((timer.deadlineTick() >>> (SLOT_BITS * level)) & MASK);
+                this.levels.get(level).get(slot).add(timer);
+                return;
+            }
+        }
+
+        this.overflow.add(timer);
+    }
+
+    private record Timer<T>(T value, long deadlineTick) {
+
+    }
+
+}
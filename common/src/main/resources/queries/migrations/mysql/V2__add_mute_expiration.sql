@@ -0,0 +1 @@
+ALTER TABLE carbon_users ADD COLUMN muteexpiration BIGINT NOT NULL DEFAULT -1;
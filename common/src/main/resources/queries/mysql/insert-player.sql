@@ -7,5 +7,6 @@ INSERT INTO carbon_users VALUES (
     :displayname,
     UNHEX(REPLACE(:lastwhispertarget, '-', '')),
     UNHEX(REPLACE(:whisperreplytarget, '-', '')),
-    :spying
+    :spying,
+    :muteexpiration
 );
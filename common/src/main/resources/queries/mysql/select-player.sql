@@ -7,6 +7,7 @@ SELECT
       RIGHT(HEX(id), 12)
     )) AS id,
     muted,
+    muteexpiration,
     deafened,
     selectedchannel,
     username,
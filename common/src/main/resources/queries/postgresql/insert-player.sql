@@ -7,5 +7,6 @@ INSERT INTO carbon_users VALUES (
     :displayname,
     :lastwhispertarget,
     :whisperreplytarget,
-    :spying
+    :spying,
+    :muteexpiration
 );
@@ -2,6 +2,7 @@ UPDATE carbon_users
 SET
     id = :id,
     muted = :muted,
+    muteexpiration = :muteexpiration,
     deafened = :deafened,
     selectedchannel = :selectedchannel,
     username= :username,
@@ -35,6 +35,7 @@ import net.draycia.carbon.api.CarbonChatProvider;
 import net.draycia.carbon.api.CarbonServer;
 import net.draycia.carbon.api.channels.ChannelRegistry;
 import net.draycia.carbon.api.events.CarbonEventHandler;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
 import net.draycia.carbon.api.users.UserManager;
 import net.draycia.carbon.api.util.RenderedMessage;
 import net.draycia.carbon.common.channels.CarbonChannelRegistry;
@@ -158,13 +159,16 @@ public final class CarbonChatFabric implements ModInitializer, CarbonChat {
 
     private void registerChatListener() {
         ChatCallback.setup();
-        ChatCallback.INSTANCE.registerListener(new FabricChatListener(this, this.channelRegistry));
+        ChatCallback.INSTANCE.registerListener(this.injector.getInstance(FabricChatListener.class));
         ServerMessageDecoratorEvent.EVENT.register(ServerMessageDecoratorEvent.CONTENT_PHASE, this.injector.getInstance(FabricChatPreviewListener.class));
     }
 
     private void registerServerLifecycleListeners() {
         ServerLifecycleEvents.SERVER_STARTING.register(server -> this.minecraftServer = server);
-        ServerLifecycleEvents.SERVER_STOPPING.register($ -> PlayerUtils.saveLoggedInPlayers(this.carbonServerFabric, this.userManager).forEach(CompletableFuture::join));
+        ServerLifecycleEvents.SERVER_STOPPING.register($ -> {
+            PlayerUtils.saveLoggedInPlayers(this.carbonServerFabric, this.userManager).forEach(CompletableFuture::join);
+            this.eventHandler().emit(new CarbonShutdownEvent());
+        });
         ServerLifecycleEvents.SERVER_STOPPED.register(server -> this.minecraftServer = null);
     }
 
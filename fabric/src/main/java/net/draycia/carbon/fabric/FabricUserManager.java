@@ -86,9 +86,9 @@ public class FabricUserManager implements UserManager<CarbonPlayerFabric>, SaveO
     }
 
     @Override
-    public int saveMuted(final UUID id, final boolean muted) {
+    public int saveMuted(final UUID id, final boolean muted, final long muteExpiration) {
         if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
-            return saveOnChange.saveMuted(id, muted);
+            return saveOnChange.saveMuted(id, muted, muteExpiration);
         }
 
         return -1;
@@ -23,47 +23,45 @@ import com.google.inject.Inject;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Pattern;
-import net.draycia.carbon.api.channels.ChannelRegistry;
 import net.draycia.carbon.api.events.CarbonChatEvent;
 import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.api.util.KeyedRenderer;
 import net.draycia.carbon.api.util.RenderedMessage;
+import net.draycia.carbon.common.channels.ChatPreviewCache;
+import net.draycia.carbon.common.channels.MessagePreprocessor;
+import net.draycia.carbon.common.channels.ProcessedMessage;
 import net.draycia.carbon.common.config.ConfigFactory;
 import net.draycia.carbon.fabric.CarbonChatFabric;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.platform.fabric.FabricAudiences;
-import net.kyori.adventure.text.TextReplacementConfig;
-import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.minecraft.network.chat.ChatDecorator;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import org.jetbrains.annotations.Nullable;
 
-import static java.util.Objects.requireNonNullElse;
 import static net.draycia.carbon.api.util.KeyedRenderer.keyedRenderer;
 import static net.kyori.adventure.key.Key.key;
 import static net.kyori.adventure.text.Component.empty;
-import static net.kyori.adventure.text.Component.text;
 
 public class FabricChatPreviewListener implements ChatDecorator {
 
-    private static final Pattern DEFAULT_URL_PATTERN = Pattern.compile("(?:(https?)://)?([-\\w_.]+\\.\\w{2,})(/\\S*)?");
-
     private final ConfigFactory configFactory;
     private final CarbonChatFabric carbonChat;
-    private final ChannelRegistry channelRegistry;
+    private final ChatPreviewCache previewCache;
+    private final MessagePreprocessor preprocessor;
 
     @Inject
     public FabricChatPreviewListener(
         final ConfigFactory configFactory,
         final CarbonChatFabric carbonChat,
-        final ChannelRegistry channelRegistry
+        final ChatPreviewCache previewCache,
+        final MessagePreprocessor preprocessor
     ) {
         this.configFactory = configFactory;
         this.carbonChat = carbonChat;
-        this.channelRegistry = channelRegistry;
+        this.previewCache = previewCache;
+        this.preprocessor = preprocessor;
     }
 
     @Override
@@ -79,43 +77,21 @@ public class FabricChatPreviewListener implements ChatDecorator {
             return CompletableFuture.completedFuture(component);
         }
 
-        var channel = requireNonNullElse(sender.selectedChannel(), this.channelRegistry.defaultValue());
-
-        String content = component.getString();
-
-        for (final Map.Entry<String, String> placeholder : this.configFactory.primaryConfig().chatPlaceholders().entrySet()) {
-            content = content.replace(placeholder.getKey(), placeholder.getValue());
-        }
-
-        net.kyori.adventure.text.Component message = MiniMessage.miniMessage().deserialize(content);
+        // The decorator runs for both the preview and the signed message, only process the message once
+        final String rawContent = component.getString();
+        final ProcessedMessage processed = this.previewCache.processed(sender, rawContent, () -> this.process(sender, rawContent));
 
-        if (sender.hasPermission("carbon.chatlinks")) {
-            message = message.replaceText(TextReplacementConfig.builder()
-                .match(DEFAULT_URL_PATTERN)
-                .replacement(builder -> builder.clickEvent(ClickEvent.clickEvent(ClickEvent.Action.OPEN_URL, builder.content())))
-                .build());
+        // Blocked messages are cancelled by the chat listener
+        if (processed.blocked()) {
+            return CompletableFuture.completedFuture(component);
         }
 
-        for (final var chatChannel : this.channelRegistry) {
-            if (chatChannel.quickPrefix() == null) {
-                continue;
-            }
-
-            if (content.startsWith(chatChannel.quickPrefix()) && chatChannel.speechPermitted(sender).permitted()) {
-                channel = chatChannel;
-                message = message.replaceText(TextReplacementConfig.builder()
-                    .once()
-                    .matchLiteral(channel.quickPrefix())
-                    .replacement(text())
-                    .build());
-                break;
-            }
-        }
+        final var channel = processed.channel();
 
         final var renderers = new ArrayList<KeyedRenderer>();
         renderers.add(keyedRenderer(key("carbon", "default"), channel));
 
-        final var chatEvent = new CarbonChatEvent(sender, message, this.carbonChat.server().players(), renderers, channel, true);
+        final var chatEvent = new CarbonChatEvent(sender, processed.message(), this.carbonChat.server().players(), renderers, channel, true);
         final var result = this.carbonChat.eventHandler().emit(chatEvent);
 
         if (!result.wasSuccessful()) {
@@ -142,4 +118,16 @@ public class FabricChatPreviewListener implements ChatDecorator {
         // TODO: per-player formatting?
     }
 
+    private ProcessedMessage process(final CarbonPlayer sender, final String rawContent) {
+        return this.preprocessor.process(sender, rawContent, content -> {
+            String replaced = content;
+
+            for (final Map.Entry<String, String> placeholder : this.configFactory.primaryConfig().chatPlaceholders().entrySet()) {
+                replaced = replaced.replace(placeholder.getKey(), placeholder.getValue());
+            }
+
+            return MiniMessage.miniMessage().deserialize(replaced);
+        });
+    }
+
 }
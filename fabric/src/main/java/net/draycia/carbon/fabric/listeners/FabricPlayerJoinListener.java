@@ -21,7 +21,10 @@ package net.draycia.carbon.fabric.listeners;
 
 import com.google.inject.Inject;
 import java.util.List;
+import net.draycia.carbon.api.CarbonChat;
+import net.draycia.carbon.common.channels.ChatHistory;
 import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.users.MuteExpirations;
 import net.fabricmc.fabric.api.networking.v1.PacketSender;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.network.protocol.game.ClientboundCustomChatCompletionsPacket;
@@ -35,14 +38,32 @@ import org.checkerframework.framework.qual.DefaultQualifier;
 public class FabricPlayerJoinListener implements ServerPlayConnectionEvents.Join {
 
     private ConfigFactory configFactory;
+    private final CarbonChat carbonChat;
+    private final ChatHistory chatHistory;
+    private final MuteExpirations muteExpirations;
 
     @Inject
-    public FabricPlayerJoinListener(final ConfigFactory configFactory) {
+    public FabricPlayerJoinListener(
+        final ConfigFactory configFactory,
+        final CarbonChat carbonChat,
+        final ChatHistory chatHistory,
+        final MuteExpirations muteExpirations
+    ) {
         this.configFactory = configFactory;
+        this.carbonChat = carbonChat;
+        this.chatHistory = chatHistory;
+        this.muteExpirations = muteExpirations;
     }
 
     @Override
     public void onPlayReady(final ServerGamePacketListenerImpl handler, final PacketSender sender, final MinecraftServer server) {
+        this.carbonChat.server().userManager().carbonPlayer(handler.getPlayer().getUUID()).thenAccept(result -> {
+            if (result.player() != null) {
+                this.muteExpirations.loaded(result.player());
+                this.chatHistory.replay(result.player());
+            }
+        });
+
         final @Nullable List<String> suggestions = this.configFactory.primaryConfig().customChatSuggestions();
 
         if (suggestions == null || suggestions.isEmpty()) {
@@ -61,6 +61,12 @@ bukkit {
     register("carbon.debug") {
       description = "Allows the sender to quickly check what carbon think's the player's primary and non-primary groups are."
     }
+    register("carbon.debug.metrics") {
+      description = "Shows Carbon's chat, storage, cache and messaging metrics."
+    }
+    register("carbon.debug.traces") {
+      description = "Shows the stage timings of recently traced chat messages."
+    }
     register("carbon.help") {
       description = "Shows Carbon's help menu, detailing each part of Carbon's commands."
     }
@@ -34,6 +34,7 @@ import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.CarbonChatProvider;
 import net.draycia.carbon.api.channels.ChannelRegistry;
 import net.draycia.carbon.api.events.CarbonEventHandler;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
 import net.draycia.carbon.api.users.UserManager;
 import net.draycia.carbon.api.util.RenderedMessage;
 import net.draycia.carbon.common.channels.CarbonChannelRegistry;
@@ -43,7 +44,9 @@ import net.draycia.carbon.common.messaging.MessagingManager;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
 import net.draycia.carbon.common.util.CloudUtils;
 import net.draycia.carbon.common.util.ListenerUtils;
+import net.draycia.carbon.common.util.MessageTagParsers;
 import net.draycia.carbon.common.util.PlayerUtils;
+import net.draycia.carbon.common.util.StartupTimer;
 import net.draycia.carbon.paper.listeners.DiscordMessageListener;
 import net.draycia.carbon.paper.listeners.PaperChatListener;
 import net.draycia.carbon.paper.listeners.PaperPlayerJoinListener;
@@ -99,18 +102,31 @@ public final class CarbonChatPaper extends JavaPlugin implements CarbonChat {
 
         CarbonChatProvider.register(this);
 
+        final StartupTimer startup = new StartupTimer();
         this.injector = Guice.createInjector(new CarbonChatPaperModule(this, this.dataDirectory()));
         this.logger = LogManager.getLogger("CarbonChat");
+        startup.mark("injector");
+
+        // Connecting to and migrating the database doesn't depend on the rest, so it happens meanwhile
+        final CompletableFuture<UserManager<CarbonPlayerCommon>> userManager = startup.background("storage", () ->
+            this.injector.getInstance(com.google.inject.Key.get(new TypeLiteral<UserManager<CarbonPlayerCommon>>() {})));
+
         this.carbonMessages = this.injector.getInstance(CarbonMessages.class);
+        startup.mark("messages");
         this.channelRegistry = this.injector.getInstance(ChannelRegistry.class);
         this.carbonServerPaper = this.injector.getInstance(CarbonServerPaper.class);
-        this.userManager = this.injector.getInstance(com.google.inject.Key.get(new TypeLiteral<UserManager<CarbonPlayerCommon>>() {}));
+        startup.mark("server");
+        this.userManager = userManager.join();
+        startup.mark("waiting for storage");
 
         this.packetService();
+        startup.mark("messaging");
+        startup.report(this.logger, "Loaded");
     }
 
     @Override
     public void onEnable() {
+        final StartupTimer startup = new StartupTimer();
         final Metrics metrics = new Metrics(this, BSTATS_PLUGIN_ID);
 
         for (final Class<? extends Listener> listenerClass : LISTENER_CLASSES) {
@@ -123,12 +139,14 @@ public final class CarbonChatPaper extends JavaPlugin implements CarbonChat {
         // Listeners
         ListenerUtils.registerCommonListeners(this.injector);
         this.injector.getInstance(RadiusListener.class);
+        startup.mark("listeners");
 
         // Commands
         // This is a bit awkward looking
         CloudUtils.loadCommands(this.injector);
         final var commandSettings = CloudUtils.loadCommandSettings(this.injector);
         CloudUtils.registerCommands(commandSettings);
+        startup.mark("commands");
 
         // Player data saving
         final long saveDelay = 5 * 60 * 20;
@@ -138,8 +156,10 @@ public final class CarbonChatPaper extends JavaPlugin implements CarbonChat {
 
         // Load channels
         ((CarbonChannelRegistry) this.channelRegistry()).loadConfigChannels(this.carbonMessages);
+        startup.mark("channels");
 
         this.discoverDiscordHooks();
+        startup.report(this.logger, "Enabled");
     }
 
     private void discoverDiscordHooks() {
@@ -151,13 +171,14 @@ public final class CarbonChatPaper extends JavaPlugin implements CarbonChat {
 
         if (Bukkit.getPluginManager().isPluginEnabled("DiscordSRV")) {
             this.logger.info("DiscordSRV found! Enabling hook.");
-            DiscordSRV.getPlugin().getPluginHooks().add(new DSRVChatHook());
+            DiscordSRV.getPlugin().getPluginHooks().add(new DSRVChatHook(this.injector.getInstance(MessageTagParsers.class)));
         }
     }
 
     @Override
     public void onDisable() {
         PlayerUtils.saveLoggedInPlayers(this.carbonServerPaper, this.userManager).forEach(CompletableFuture::join);
+        this.eventHandler().emit(new CarbonShutdownEvent());
     }
 
     @Override
@@ -21,7 +21,6 @@ package net.draycia.carbon.paper;
 
 import cloud.commandframework.CommandManager;
 import cloud.commandframework.brigadier.CloudBrigadierManager;
-import cloud.commandframework.bukkit.parsers.PlayerArgument;
 import cloud.commandframework.execution.AsynchronousCommandExecutionCoordinator;
 import cloud.commandframework.paper.PaperCommandManager;
 import com.google.inject.AbstractModule;
@@ -36,6 +35,7 @@ import net.draycia.carbon.api.util.SourcedAudience;
 import net.draycia.carbon.common.CarbonCommonModule;
 import net.draycia.carbon.common.ForCarbon;
 import net.draycia.carbon.common.command.Commander;
+import net.draycia.carbon.common.command.argument.OnlinePlayerSuggestions;
 import net.draycia.carbon.common.command.argument.PlayerSuggestions;
 import net.draycia.carbon.common.util.CloudUtils;
 import net.draycia.carbon.paper.command.PaperCommander;
@@ -46,6 +46,7 @@ import net.kyori.adventure.text.Component;
 import net.kyori.moonshine.message.IMessageRenderer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -74,7 +75,7 @@ public final class CarbonChatPaperModule extends AbstractModule {
         try {
             commandManager = new PaperCommandManager<>(
                 this.carbonChat,
-                AsynchronousCommandExecutionCoordinator.<Commander>newBuilder().build(),
+                AsynchronousCommandExecutionCoordinator.<Commander>newBuilder().withAsynchronousParsing().build(),
                 commandSender -> {
                     if (commandSender instanceof Player player) {
                         return new PaperPlayerCommander(this.carbonChat, player);
@@ -102,6 +103,22 @@ public final class CarbonChatPaperModule extends AbstractModule {
         return commandManager;
     }
 
+    @Provides
+    @Singleton
+    public PlayerSuggestions playerSuggestions(final OnlinePlayerSuggestions onlinePlayers) {
+        return (context, input) -> {
+            if (!(context.getSender() instanceof PaperPlayerCommander commander)) {
+                return onlinePlayers.apply(context, input);
+            }
+
+            // Vanished players stay hidden from those who can't see them
+            return onlinePlayers.suggestions(input, name -> {
+                final @Nullable Player player = Bukkit.getPlayerExact(name);
+                return player != null && commander.player().canSee(player);
+            });
+        };
+    }
+
     @Provides
     @Singleton
     public IMessageRenderer<Audience, String, RenderedMessage, Component> messageRenderer(final Injector injector) {
@@ -123,7 +140,6 @@ public final class CarbonChatPaperModule extends AbstractModule {
         this.bind(Logger.class).toInstance(this.logger);
         this.bind(Path.class).annotatedWith(ForCarbon.class).toInstance(this.dataDirectory);
         this.bind(CarbonServer.class).to(CarbonServerPaper.class);
-        this.bind(PlayerSuggestions.class).toInstance(new PlayerArgument.PlayerParser<Commander>()::suggestions);
     }
 
 }
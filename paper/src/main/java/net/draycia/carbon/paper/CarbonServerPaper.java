@@ -20,6 +20,7 @@
 package net.draycia.carbon.paper;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +31,8 @@ import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.api.users.UserManager;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
+import net.draycia.carbon.common.users.profiles.ProfileCache;
+import net.draycia.carbon.common.util.IoExecutor;
 import net.draycia.carbon.paper.users.CarbonPlayerPaper;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
@@ -44,12 +47,21 @@ import org.checkerframework.framework.qual.DefaultQualifier;
 public final class CarbonServerPaper implements CarbonServer, ForwardingAudience.Single {
 
     private final CarbonChatPaper carbonChatPaper;
-    private final UserManager<CarbonPlayerPaper> userManager;
+    private final PaperUserManager userManager;
+    private final ProfileCache profileCache;
+    private final IoExecutor executor;
 
     @Inject
-    private CarbonServerPaper(final CarbonChatPaper carbonChatPaper, final UserManager<CarbonPlayerCommon> userManager) {
+    private CarbonServerPaper(
+        final CarbonChatPaper carbonChatPaper,
+        final Provider<UserManager<CarbonPlayerCommon>> userManager,
+        final ProfileCache profileCache,
+        final IoExecutor executor
+    ) {
         this.carbonChatPaper = carbonChatPaper;
         this.userManager = new PaperUserManager(userManager);
+        this.profileCache = profileCache;
+        this.executor = executor;
     }
 
     @Override
@@ -67,6 +79,13 @@ public final class CarbonServerPaper implements CarbonServer, ForwardingAudience
         final var players = new ArrayList<CarbonPlayer>();
 
         for (final var player : this.carbonChatPaper.getServer().getOnlinePlayers()) {
+            final @Nullable CarbonPlayerPaper onlinePlayer = this.userManager.onlinePlayer(player.getUniqueId());
+
+            if (onlinePlayer != null) {
+                players.add(onlinePlayer);
+                continue;
+            }
+
             final ComponentPlayerResult<CarbonPlayerPaper> result = this.userManager.carbonPlayer(player.getUniqueId()).join();
 
             if (result.player() != null) {
@@ -78,28 +97,43 @@ public final class CarbonServerPaper implements CarbonServer, ForwardingAudience
     }
 
     @Override
-    public UserManager<CarbonPlayerPaper> userManager() {
+    public PaperUserManager userManager() {
         return this.userManager;
     }
 
     @Override
     public CompletableFuture<@Nullable UUID> resolveUUID(final String username) {
-        // TODO: user cache?
-        return CompletableFuture.supplyAsync(() -> {
-            final OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(username);
+        // Mojang's UUIDs don't match the ones offline mode servers use, the server derives them from the name
+        if (!Bukkit.getOnlineMode()) {
+            return CompletableFuture.supplyAsync(() -> {
+                final OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(username);
 
-            if (!offlinePlayer.hasPlayedBefore()) {
-                return null;
-            }
+                if (!offlinePlayer.hasPlayedBefore()) {
+                    return null;
+                }
 
-            return offlinePlayer.getUniqueId();
-        });
+                return offlinePlayer.getUniqueId();
+            }, this.executor);
+        }
+
+        final @Nullable OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayerIfCached(username);
+
+        if (offlinePlayer != null && offlinePlayer.hasPlayedBefore()) {
+            return CompletableFuture.completedFuture(offlinePlayer.getUniqueId());
+        }
+
+        return this.profileCache.uuid(username);
     }
 
     @Override
     public CompletableFuture<@Nullable String> resolveName(final UUID uuid) {
-        // TODO: user cache?
-        return CompletableFuture.supplyAsync(() -> Bukkit.getOfflinePlayer(uuid).getName());
+        return CompletableFuture.supplyAsync(() -> Bukkit.getOfflinePlayer(uuid).getName(), this.executor).thenCompose(name -> {
+            if (name != null || !Bukkit.getOnlineMode()) {
+                return CompletableFuture.completedFuture(name);
+            }
+
+            return this.profileCache.name(uuid);
+        });
     }
 
 }
@@ -19,8 +19,12 @@
  */
 package net.draycia.carbon.paper;
 
+import com.google.inject.Provider;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.api.users.UserManager;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
@@ -35,15 +39,75 @@ import org.checkerframework.framework.qual.DefaultQualifier;
 @DefaultQualifier(NonNull.class)
 public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnChange {
 
-    protected final UserManager<CarbonPlayerCommon> proxiedUserManager;
+    // Looked up when first used, so the server can be created while storage is still being set up
+    protected final Provider<UserManager<CarbonPlayerCommon>> proxiedUserManager;
 
-    public PaperUserManager(final UserManager<CarbonPlayerCommon> proxiedUserManager) {
+    // Players that are online and fully loaded, lets chat handlers avoid blocking on storage
+    private final Map<UUID, CarbonPlayerPaper> onlinePlayers = new ConcurrentHashMap<>();
+
+    // The current connection of each online player, so data loaded for a connection that has since quit is dropped
+    private final Map<UUID, Long> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextSession = new AtomicLong();
+
+    public PaperUserManager(final Provider<UserManager<CarbonPlayerCommon>> proxiedUserManager) {
         this.proxiedUserManager = proxiedUserManager;
     }
 
+    public @Nullable CarbonPlayerPaper onlinePlayer(final UUID uuid) {
+        return this.onlinePlayers.get(uuid);
+    }
+
+    /**
+     * Starts a connection for the player, before their data is loaded.
+     *
+     * @param uuid the player's UUID
+     * @return the connection, to pass to {@link #playerJoined} once their data is loaded
+     */
+    public long playerConnected(final UUID uuid) {
+        final long session = this.nextSession.incrementAndGet();
+        this.sessions.put(uuid, session);
+        return session;
+    }
+
+    /**
+     * Caches the loaded player, unless the connection their data was loaded for has already quit.
+     *
+     * @param session the connection, from {@link #playerConnected}
+     * @param player the loaded player
+     * @return whether the player is still connected and was cached
+     */
+    public boolean playerJoined(final long session, final CarbonPlayerPaper player) {
+        final boolean[] joined = {false};
+
+        // Runs under the same lock as playerLeft for this UUID, so a quit can't slip in between
+        this.sessions.computeIfPresent(player.uuid(), (uuid, current) -> {
+            if (current == session) {
+                this.onlinePlayers.put(uuid, player);
+                joined[0] = true;
+            }
+
+            return current;
+        });
+
+        return joined[0];
+    }
+
+    public void playerLeft(final UUID uuid) {
+        this.sessions.compute(uuid, (key, current) -> {
+            this.onlinePlayers.remove(key);
+            return null;
+        });
+    }
+
     @Override
     public CompletableFuture<ComponentPlayerResult<CarbonPlayerPaper>> carbonPlayer(final UUID uuid) {
-        return this.proxiedUserManager.carbonPlayer(uuid).thenApply(result -> {
+        final @Nullable CarbonPlayerPaper onlinePlayer = this.onlinePlayers.get(uuid);
+
+        if (onlinePlayer != null) {
+            return CompletableFuture.completedFuture(new ComponentPlayerResult<>(onlinePlayer, Component.empty()));
+        }
+
+        return this.proxiedUserManager.get().carbonPlayer(uuid).thenApply(result -> {
             if (result.player() == null) {
                 return new ComponentPlayerResult<>(null, result.reason());
             }
@@ -54,7 +118,7 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
 
     @Override
     public CompletableFuture<ComponentPlayerResult<CarbonPlayerPaper>> savePlayer(final CarbonPlayerPaper player) {
-        return this.proxiedUserManager.savePlayer(player.carbonPlayerCommon()).thenApply(result -> {
+        return this.proxiedUserManager.get().savePlayer(player.carbonPlayerCommon()).thenApply(result -> {
             if (result.player() == null) {
                 return new ComponentPlayerResult<>(null, result.reason());
             }
@@ -65,7 +129,7 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
 
     @Override
     public CompletableFuture<ComponentPlayerResult<CarbonPlayerPaper>> saveAndInvalidatePlayer(final CarbonPlayerPaper player) {
-        return this.proxiedUserManager.saveAndInvalidatePlayer(player.carbonPlayerCommon()).thenApply(result -> {
+        return this.proxiedUserManager.get().saveAndInvalidatePlayer(player.carbonPlayerCommon()).thenApply(result -> {
             if (result.player() == null) {
                 return new ComponentPlayerResult<>(null, result.reason());
             }
@@ -76,7 +140,7 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
 
     @Override
     public int saveDisplayName(final UUID id, final @Nullable Component component) {
-        if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
+        if (this.proxiedUserManager.get() instanceof SaveOnChange saveOnChange) {
             return saveOnChange.saveDisplayName(id, component);
         }
 
@@ -84,9 +148,9 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
     }
 
     @Override
-    public int saveMuted(final UUID id, final boolean muted) {
-        if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
-            return saveOnChange.saveMuted(id, muted);
+    public int saveMuted(final UUID id, final boolean muted, final long muteExpiration) {
+        if (this.proxiedUserManager.get() instanceof SaveOnChange saveOnChange) {
+            return saveOnChange.saveMuted(id, muted, muteExpiration);
         }
 
         return -1;
@@ -94,7 +158,7 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
 
     @Override
     public int saveDeafened(final UUID id, final boolean deafened) {
-        if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
+        if (this.proxiedUserManager.get() instanceof SaveOnChange saveOnChange) {
             return saveOnChange.saveDeafened(id, deafened);
         }
 
@@ -103,7 +167,7 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
 
     @Override
     public int saveSpying(final UUID id, final boolean spying) {
-        if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
+        if (this.proxiedUserManager.get() instanceof SaveOnChange saveOnChange) {
             return saveOnChange.saveSpying(id, spying);
         }
 
@@ -112,7 +176,7 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
 
     @Override
     public int saveSelectedChannel(final UUID id, final @Nullable Key selectedChannel) {
-        if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
+        if (this.proxiedUserManager.get() instanceof SaveOnChange saveOnChange) {
             return saveOnChange.saveSelectedChannel(id, selectedChannel);
         }
 
@@ -121,7 +185,7 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
 
     @Override
     public int saveLastWhisperTarget(final UUID id, final @Nullable UUID lastWhisperTarget) {
-        if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
+        if (this.proxiedUserManager.get() instanceof SaveOnChange saveOnChange) {
             return saveOnChange.saveLastWhisperTarget(id, lastWhisperTarget);
         }
 
@@ -130,7 +194,7 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
 
     @Override
     public int saveWhisperReplyTarget(final UUID id, final @Nullable UUID whisperReplyTarget) {
-        if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
+        if (this.proxiedUserManager.get() instanceof SaveOnChange saveOnChange) {
             return saveOnChange.saveWhisperReplyTarget(id, whisperReplyTarget);
         }
 
@@ -139,7 +203,7 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
 
     @Override
     public int addIgnore(final UUID id, final UUID ignoredPlayer) {
-        if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
+        if (this.proxiedUserManager.get() instanceof SaveOnChange saveOnChange) {
             return saveOnChange.addIgnore(id, ignoredPlayer);
         }
 
@@ -148,7 +212,7 @@ public class PaperUserManager implements UserManager<CarbonPlayerPaper>, SaveOnC
 
     @Override
     public int removeIgnore(final UUID id, final UUID ignoredPlayer) {
-        if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
+        if (this.proxiedUserManager.get() instanceof SaveOnChange saveOnChange) {
             return saveOnChange.removeIgnore(id, ignoredPlayer);
         }
 
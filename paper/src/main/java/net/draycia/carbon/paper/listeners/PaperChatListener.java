@@ -24,19 +24,28 @@ import io.papermc.paper.event.player.AsyncChatDecorateEvent;
 import io.papermc.paper.event.player.AsyncChatEvent;
 import java.util.ArrayList;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.UUID;
 import net.draycia.carbon.api.CarbonChat;
-import net.draycia.carbon.api.channels.ChannelRegistry;
+import net.draycia.carbon.api.channels.ChatChannel;
 import net.draycia.carbon.api.events.CarbonChatEvent;
 import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.api.util.KeyedRenderer;
 import net.draycia.carbon.api.util.RenderedMessage;
-import net.draycia.carbon.common.channels.ConfigChatChannel;
+import net.draycia.carbon.common.channels.CarbonChannelRegistry;
+import net.draycia.carbon.common.channels.ChatPreviewCache;
+import net.draycia.carbon.common.channels.MessagePreprocessor;
+import net.draycia.carbon.common.channels.ProcessedMessage;
+import net.draycia.carbon.common.channels.SpamFilter;
+import net.draycia.carbon.common.config.ConfigFactory;
+import net.draycia.carbon.common.config.PrimaryConfig;
+import net.draycia.carbon.common.jfr.ChatMessageEvent;
+import net.draycia.carbon.common.messages.CarbonMessages;
+import net.draycia.carbon.common.metrics.ChatTrace;
+import net.draycia.carbon.common.metrics.ChatTracer;
+import net.draycia.carbon.common.util.ChatExecutor;
+import net.draycia.carbon.common.util.MessageTagParsers;
 import net.draycia.carbon.paper.CarbonChatPaper;
 import net.kyori.adventure.audience.MessageType;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.TextReplacementConfig;
-import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import net.kyori.event.EventSubscriber;
 import org.bukkit.event.EventHandler;
@@ -48,23 +57,46 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
 
-import static java.util.Objects.requireNonNullElse;
 import static net.draycia.carbon.api.util.KeyedRenderer.keyedRenderer;
 import static net.kyori.adventure.key.Key.key;
-import static net.kyori.adventure.text.Component.text;
 
 @DefaultQualifier(NonNull.class)
 public final class PaperChatListener implements Listener {
 
     private final CarbonChatPaper carbonChat;
-    private final ChannelRegistry registry;
-
-    private static final Pattern DEFAULT_URL_PATTERN = Pattern.compile("(?:(https?)://)?([-\\w_.]+\\.\\w{2,})(/\\S*)?");
+    private final CarbonChannelRegistry registry;
+    private final ChatExecutor chatExecutor;
+    private final ChatPreviewCache previewCache;
+    private final MessagePreprocessor preprocessor;
+    private final MessageTagParsers messageTagParsers;
+    private final ChatTracer tracer;
+    private final SpamFilter spamFilter;
+    private final CarbonMessages carbonMessages;
+    private final ConfigFactory configFactory;
 
     @Inject
-    public PaperChatListener(final CarbonChat carbonChat, final ChannelRegistry registry) {
+    public PaperChatListener(
+        final CarbonChat carbonChat,
+        final CarbonChannelRegistry registry,
+        final ChatExecutor chatExecutor,
+        final ChatPreviewCache previewCache,
+        final MessagePreprocessor preprocessor,
+        final MessageTagParsers messageTagParsers,
+        final ChatTracer tracer,
+        final SpamFilter spamFilter,
+        final CarbonMessages carbonMessages,
+        final ConfigFactory configFactory
+    ) {
         this.carbonChat = (CarbonChatPaper) carbonChat;
         this.registry = registry;
+        this.chatExecutor = chatExecutor;
+        this.previewCache = previewCache;
+        this.preprocessor = preprocessor;
+        this.messageTagParsers = messageTagParsers;
+        this.tracer = tracer;
+        this.spamFilter = spamFilter;
+        this.carbonMessages = carbonMessages;
+        this.configFactory = configFactory;
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
@@ -79,103 +111,135 @@ public final class PaperChatListener implements Listener {
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onPaperChat(final @NonNull AsyncChatEvent event) {
-        final var playerResult = this.carbonChat.server().userManager().carbonPlayer(event.getPlayer().getUniqueId()).join();
-        final @Nullable CarbonPlayer sender = playerResult.player();
+        final UUID uuid = event.getPlayer().getUniqueId();
+        final ChatTrace trace = this.tracer.start(event.getPlayer().getName(), "paper");
+        @Nullable CarbonPlayer sender = this.carbonChat.server().userManager().onlinePlayer(uuid);
 
-        if (sender == null) {
-            return;
+        // Keeps the message in Paper's chat event, for other plugins and signed chat, at the cost of the chat thread
+        if (sender == null && !this.deferChatWhileLoading()) {
+            sender = this.carbonChat.server().userManager().carbonPlayer(uuid).join().player();
+
+            if (sender == null) {
+                this.tracer.finish(trace);
+                return;
+            }
         }
 
-        var channel = requireNonNullElse(sender.selectedChannel(), this.registry.defaultValue());
         final var messageContents = PlainTextComponentSerializer.plainText().serialize(event.message());
-        Component eventMessage = ConfigChatChannel.parseMessageTags(sender, messageContents);
 
-        if (sender.hasPermission("carbon.chatlinks")) {
-            eventMessage = eventMessage.replaceText(TextReplacementConfig.builder()
-                .match(DEFAULT_URL_PATTERN)
-                .replacement(builder -> builder.clickEvent(ClickEvent.clickEvent(ClickEvent.Action.OPEN_URL, builder.content())))
-                .build());
+        // Spam is dropped before any work is done for it, players that are still loading are checked once loaded
+        if (sender != null && !this.spamFilter.allow(sender, messageContents)) {
+            event.setCancelled(true);
+            this.tracer.finish(trace);
+            return;
         }
 
-        for (final var chatChannel : this.registry) {
-            if (chatChannel.quickPrefix() == null) {
-                continue;
-            }
+        // When enabled, players that are still loading (or still have messages being processed)
+        // are handled on the chat executor, in the order they were sent
+        if (sender == null || this.chatExecutor.busy(uuid)) {
+            event.setCancelled(true);
+            this.sendLater(uuid, messageContents, trace, sender == null);
+            return;
+        }
+
+        trace.mark(ChatTrace.Stage.USER_LOOKUP);
 
-            if (messageContents.startsWith(chatChannel.quickPrefix()) && chatChannel.speechPermitted(sender).permitted()) {
-                channel = chatChannel;
-                eventMessage = eventMessage.replaceText(TextReplacementConfig.builder()
-                    .once()
-                    .matchLiteral(channel.quickPrefix())
-                    .replacement(text())
-                    .build());
-                break;
+        final ChatMessageEvent messageEvent = new ChatMessageEvent();
+        messageEvent.begin();
+        // Only turned into event fields if the event is recorded
+        @Nullable ChatChannel eventChannel = null;
+        int recipientCount = 0;
+
+        try {
+            // Reuses the work done while previewing the message, if the client requested a preview
+            final ProcessedMessage processed = this.process(sender, messageContents);
+            final var channel = processed.channel();
+            trace.mark(ChatTrace.Stage.PARSE);
+
+            if (processed.blocked()) {
+                event.setCancelled(true);
+                this.carbonMessages.filterBlocked(sender);
+                return;
             }
-        }
 
-        final var renderers = new ArrayList<KeyedRenderer>();
-        renderers.add(keyedRenderer(key("carbon", "default"), channel));
+            final var renderers = new ArrayList<KeyedRenderer>();
+            renderers.add(keyedRenderer(key("carbon", "default"), channel));
 
-        final var recipients = channel.recipients(sender);
-        final var chatEvent = new CarbonChatEvent(sender, eventMessage, recipients, renderers, channel, false);
-        final var result = this.carbonChat.eventHandler().emit(chatEvent);
+            final var recipients = channel.recipients(sender);
+            trace.mark(ChatTrace.Stage.RECIPIENTS);
+            eventChannel = channel;
+            recipientCount = recipients.size();
 
-        if (!result.wasSuccessful()) {
-            for (final Map.Entry<EventSubscriber<?>, Throwable> entry : result.exceptions().entrySet()) {
-                this.carbonChat.logger().error(entry.getValue());
+            final var chatEvent = new CarbonChatEvent(sender, processed.message(), recipients, renderers, channel, false);
+            final var result = this.carbonChat.eventHandler().emit(chatEvent);
+            trace.mark(ChatTrace.Stage.EVENT);
+            messageEvent.cancelled = chatEvent.result().cancelled();
+
+            if (!result.wasSuccessful()) {
+                for (final Map.Entry<EventSubscriber<?>, Throwable> entry : result.exceptions().entrySet()) {
+                    this.carbonChat.logger().error(entry.getValue());
+                }
             }
-        }
 
-        try {
-            event.viewers().clear();
-            event.viewers().addAll(recipients);
-        } catch (final UnsupportedOperationException ignored) {
+            // The renderers were applied while decorating, Paper sends the decorated message to each viewer
+            trace.mark(ChatTrace.Stage.RENDER);
 
+            try {
+                event.viewers().clear();
+                event.viewers().addAll(recipients);
+            } catch (final UnsupportedOperationException ignored) {
+
+            }
+
+            trace.mark(ChatTrace.Stage.SEND);
+        } finally {
+            this.tracer.finish(trace);
+            messageEvent.end();
+
+            if (messageEvent.shouldCommit()) {
+                messageEvent.sender = sender.username();
+                messageEvent.channel = eventChannel == null ? "" : eventChannel.key().asString();
+                messageEvent.recipients = recipientCount;
+                messageEvent.messageLength = messageContents.length();
+                messageEvent.commit();
+            }
         }
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onChatPreview(final @NonNull AsyncChatDecorateEvent event) {
-        final var playerResult = this.carbonChat.server().userManager().carbonPlayer(event.player().getUniqueId()).join();
-        final @Nullable CarbonPlayer sender = playerResult.player();
+        if (event.player() == null) {
+            return;
+        }
+
+        final UUID uuid = event.player().getUniqueId();
+        final @Nullable CarbonPlayer sender = this.carbonChat.server().userManager().onlinePlayer(uuid);
 
-        if (sender == null) {
+        // Messages that will be sent from the chat executor are decorated there instead
+        if (sender == null || this.chatExecutor.busy(uuid)) {
             return;
         }
 
-        var channel = requireNonNullElse(sender.selectedChannel(), this.registry.defaultValue());
-        final var messageContents = PlainTextComponentSerializer.plainText().serialize(event.result());
-        var eventMessage = ConfigChatChannel.parseMessageTags(sender, messageContents);
+        final var messageContents = PlainTextComponentSerializer.plainText().serialize(event.originalMessage());
 
-        if (sender.hasPermission("carbon.chatlinks")) {
-            eventMessage = eventMessage.replaceText(TextReplacementConfig.builder()
-                    .match(DEFAULT_URL_PATTERN)
-                    .replacement(builder -> builder.clickEvent(ClickEvent.clickEvent(ClickEvent.Action.OPEN_URL, builder.content())))
-                .build());
+        // Decorating runs before the chat event, don't do the work for spam that the chat event will drop
+        if (!this.spamFilter.wouldAllow(sender, messageContents)) {
+            return;
         }
 
-        for (final var chatChannel : this.registry) {
-            if (chatChannel.quickPrefix() == null) {
-                continue;
-            }
+        final ProcessedMessage processed = this.process(sender, messageContents);
 
-            if (messageContents.startsWith(chatChannel.quickPrefix()) && chatChannel.speechPermitted(sender).permitted()) {
-                channel = chatChannel;
-                eventMessage = eventMessage.replaceText(TextReplacementConfig.builder()
-                    .once()
-                    .matchLiteral(channel.quickPrefix())
-                    .replacement(text())
-                    .build());
-                break;
-            }
+        if (processed.blocked()) {
+            return;
         }
 
+        final var channel = processed.channel();
         final var recipients = new ArrayList<>(channel.recipients(sender));
 
         final var renderers = new ArrayList<KeyedRenderer>();
         renderers.add(keyedRenderer(key("carbon", "default"), channel));
 
-        final var chatEvent = new CarbonChatEvent(sender, eventMessage, recipients, renderers, channel, true);
+        final var chatEvent = new CarbonChatEvent(sender, processed.message(), recipients, renderers, channel, true);
         final var result = this.carbonChat.eventHandler().emit(chatEvent);
 
         if (!result.wasSuccessful()) {
@@ -194,4 +258,52 @@ public final class PaperChatListener implements Listener {
         event.result(renderedMessage.component());
     }
 
+    private boolean deferChatWhileLoading() {
+        final @Nullable PrimaryConfig primaryConfig = this.configFactory.primaryConfig();
+
+        return primaryConfig != null && primaryConfig.concurrencySettings().deferChatWhileLoading();
+    }
+
+    private void sendLater(final UUID uuid, final String messageContents, final ChatTrace trace, final boolean checkSpam) {
+        this.chatExecutor.submit(uuid, () -> {
+            trace.mark(ChatTrace.Stage.QUEUE);
+
+            return this.carbonChat.server().userManager().carbonPlayer(uuid).thenAccept(result -> {
+                try {
+                    trace.mark(ChatTrace.Stage.USER_LOOKUP);
+
+                    final @Nullable CarbonPlayer sender = result.player();
+
+                    if (sender == null || checkSpam && !this.spamFilter.allow(sender, messageContents)) {
+                        return;
+                    }
+
+                    final ProcessedMessage processed = this.process(sender, messageContents);
+                    trace.mark(ChatTrace.Stage.PARSE);
+
+                    if (processed.blocked()) {
+                        this.carbonMessages.filterBlocked(sender);
+                        return;
+                    }
+
+                    this.registry.sendMessageInChannel(sender, processed.channel(), processed.message(), messageContents, trace);
+                } finally {
+                    this.tracer.finish(trace);
+                }
+            });
+        }).exceptionally(throwable -> {
+            this.tracer.finish(trace);
+            this.carbonChat.logger().error("Failed to process chat message", throwable);
+            return null;
+        });
+    }
+
+    private ProcessedMessage process(final CarbonPlayer sender, final String messageContents) {
+        return this.previewCache.processed(sender, messageContents, () -> this.processUncached(sender, messageContents));
+    }
+
+    private ProcessedMessage processUncached(final CarbonPlayer sender, final String messageContents) {
+        return this.preprocessor.process(sender, messageContents, content -> this.messageTagParsers.parse(sender, content));
+    }
+
 }
@@ -23,9 +23,16 @@ import com.google.inject.Inject;
 import java.util.Optional;
 import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.users.UserManager;
+import net.draycia.carbon.common.channels.ChatHistory;
+import net.draycia.carbon.common.channels.ChatPreviewCache;
+import net.draycia.carbon.common.command.argument.OnlinePlayerSuggestions;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
+import net.draycia.carbon.common.users.MuteExpirations;
+import net.draycia.carbon.common.users.profiles.ProfileCache;
 import net.draycia.carbon.common.util.PlayerUtils;
+import net.draycia.carbon.paper.CarbonChatPaper;
 import net.draycia.carbon.paper.users.CarbonPlayerPaper;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -38,25 +45,58 @@ import org.checkerframework.framework.qual.DefaultQualifier;
 @DefaultQualifier(NonNull.class)
 public class PaperPlayerJoinListener implements Listener {
 
-    private final CarbonChat carbonChat;
+    private final CarbonChatPaper carbonChat;
     private final UserManager<CarbonPlayerCommon> userManager;
+    private final ChatPreviewCache previewCache;
+    private final OnlinePlayerSuggestions onlinePlayers;
+    private final ChatHistory chatHistory;
+    private final ProfileCache profileCache;
+    private final MuteExpirations muteExpirations;
 
     @Inject
     public PaperPlayerJoinListener(
         final CarbonChat carbonChat,
-        final UserManager<CarbonPlayerCommon> userManager
+        final UserManager<CarbonPlayerCommon> userManager,
+        final ChatPreviewCache previewCache,
+        final OnlinePlayerSuggestions onlinePlayers,
+        final ChatHistory chatHistory,
+        final ProfileCache profileCache,
+        final MuteExpirations muteExpirations
     ) {
-        this.carbonChat = carbonChat;
+        this.carbonChat = (CarbonChatPaper) carbonChat;
         this.userManager = userManager;
+        this.previewCache = previewCache;
+        this.onlinePlayers = onlinePlayers;
+        this.chatHistory = chatHistory;
+        this.profileCache = profileCache;
+        this.muteExpirations = muteExpirations;
+
+        // Players already online when the plugin is enabled never fire a join event
+        for (final Player player : Bukkit.getOnlinePlayers()) {
+            onlinePlayers.playerJoined(player.getName());
+        }
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onJoin(final PlayerJoinEvent event) {
+        this.onlinePlayers.playerJoined(event.getPlayer().getName());
+
+        // Offline mode UUIDs don't belong to the Mojang profile with the same name
+        if (Bukkit.getOnlineMode()) {
+            this.profileCache.remember(event.getPlayer().getUniqueId(), event.getPlayer().getName());
+        }
+
+        final long session = this.carbonChat.server().userManager().playerConnected(event.getPlayer().getUniqueId());
+
         this.carbonChat.server().userManager().carbonPlayer(event.getPlayer().getUniqueId()).thenAccept(result -> {
-            if (result.player() == null) {
+            // The player may have quit while their data was loading
+            if (result.player() == null || !this.carbonChat.server().userManager().playerJoined(session, result.player())) {
                 return;
             }
 
+            this.muteExpirations.loaded(result.player());
+            this.chatHistory.replay(result.player());
+
             Optional.ofNullable(result.player().displayName()).ifPresent(displayName -> {
                 final Player player = event.getPlayer();
                 player.displayName(displayName);
@@ -67,6 +107,10 @@ public class PaperPlayerJoinListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onQuit(final PlayerQuitEvent event) {
+        this.onlinePlayers.playerLeft(event.getPlayer().getName());
+        this.carbonChat.server().userManager().playerLeft(event.getPlayer().getUniqueId());
+        this.previewCache.invalidate(event.getPlayer().getUniqueId());
+
         this.carbonChat.server().userManager().carbonPlayer(event.getPlayer().getUniqueId()).thenAccept(result -> {
             if (result.player() == null) {
                 return;
@@ -34,9 +34,9 @@ import net.draycia.carbon.api.channels.ChatChannel;
 import net.draycia.carbon.api.events.CarbonChatEvent;
 import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.api.util.RenderedMessage;
-import net.draycia.carbon.common.channels.ConfigChatChannel;
 import net.draycia.carbon.common.util.ChannelUtils;
 import net.draycia.carbon.common.util.DiscordRecipient;
+import net.draycia.carbon.common.util.MessageTagParsers;
 import net.draycia.carbon.paper.users.CarbonPlayerPaper;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.text.Component;
@@ -54,7 +54,7 @@ import static net.kyori.adventure.key.Key.key;
 
 public class DSRVChatHook implements ChatHook {
 
-    public DSRVChatHook() {
+    public DSRVChatHook(final MessageTagParsers messageTagParsers) {
         final Cache<ImmutablePair<CarbonPlayer, ChatChannel>, Component> awaitingEvent = Caffeine.newBuilder()
             .expireAfterWrite(Duration.ofMillis(25))
             .build();
@@ -85,7 +85,7 @@ public class DSRVChatHook implements ChatHook {
             }
 
             final var messageContents = PlainTextComponentSerializer.plainText().serialize(renderedMessage.component());
-            Component eventMessage = ConfigChatChannel.parseMessageTags(carbonPlayer, messageContents);
+            Component eventMessage = messageTagParsers.parse(carbonPlayer, messageContents);
 
             if (carbonPlayer.hasPermission("carbon.chatlinks")) {
                 eventMessage = eventMessage.replaceText(TextReplacementConfig.builder()
@@ -79,7 +79,8 @@ sequenceOf(
   "paper",
   "sponge",
   "fabric",
-  "velocity"
+  "velocity",
+  "benchmarks"
 ).forEach {
   include("carbonchat-$it")
   project(":carbonchat-$it").projectDir = file(it)
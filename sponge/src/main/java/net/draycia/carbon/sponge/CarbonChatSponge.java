@@ -31,6 +31,7 @@ import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.CarbonChatProvider;
 import net.draycia.carbon.api.channels.ChannelRegistry;
 import net.draycia.carbon.api.events.CarbonEventHandler;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
 import net.draycia.carbon.api.users.UserManager;
 import net.draycia.carbon.api.util.RenderedMessage;
 import net.draycia.carbon.common.channels.CarbonChannelRegistry;
@@ -254,6 +255,7 @@ public final class CarbonChatSponge implements CarbonChat {
     @Listener
     public void onDisable(final StoppingEngineEvent<Server> event) {
         PlayerUtils.saveLoggedInPlayers(this.carbonServerSponge, this.userManager).forEach(CompletableFuture::join);
+        this.eventHandler().emit(new CarbonShutdownEvent());
     }
 
     @Override
@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import net.draycia.carbon.api.CarbonServer;
 import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.api.users.UserManager;
@@ -38,6 +39,7 @@ import org.checkerframework.framework.qual.DefaultQualifier;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.ProfileNotFoundException;
 
 @Singleton
@@ -83,26 +85,31 @@ public final class CarbonServerSponge implements CarbonServer, ForwardingAudienc
         return this.userManager;
     }
 
+    // Sponge already looks profiles up asynchronously, waiting on its futures would only hold another thread
     @Override
     public CompletableFuture<@Nullable UUID> resolveUUID(final String username) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return Sponge.server().gameProfileManager().basicProfile(username).join().uuid();
-            } catch (final ProfileNotFoundException exception) {
-                return null;
-            }
-        });
+        return Sponge.server().gameProfileManager().basicProfile(username)
+            .<@Nullable UUID>thenApply(GameProfile::uuid)
+            .exceptionally(CarbonServerSponge::profileNotFound);
     }
 
     @Override
     public CompletableFuture<@Nullable String> resolveName(final UUID uuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return Sponge.server().gameProfileManager().basicProfile(uuid).join().name().orElse(null);
-            } catch (final ProfileNotFoundException exception) {
-                return null;
-            }
-        });
+        return Sponge.server().gameProfileManager().basicProfile(uuid)
+            .<@Nullable String>thenApply(profile -> profile.name().orElse(null))
+            .exceptionally(CarbonServerSponge::profileNotFound);
+    }
+
+    private static <T> @Nullable T profileNotFound(final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause()
+            : throwable;
+
+        if (cause instanceof ProfileNotFoundException) {
+            return null;
+        }
+
+        throw throwable instanceof CompletionException completion ? completion : new CompletionException(cause);
     }
 
 }
@@ -84,9 +84,9 @@ public class SpongeUserManager implements UserManager<CarbonPlayerSponge>, SaveO
     }
 
     @Override
-    public int saveMuted(final UUID id, final boolean muted) {
+    public int saveMuted(final UUID id, final boolean muted, final long muteExpiration) {
         if (this.proxiedUserManager instanceof SaveOnChange saveOnChange) {
-            return saveOnChange.saveMuted(id, muted);
+            return saveOnChange.saveMuted(id, muted, muteExpiration);
         }
 
         return -1;
@@ -23,22 +23,22 @@ import com.google.inject.Inject;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Pattern;
 import net.draycia.carbon.api.CarbonChat;
-import net.draycia.carbon.api.channels.ChannelRegistry;
 import net.draycia.carbon.api.events.CarbonChatEvent;
 import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.api.util.KeyedRenderer;
 import net.draycia.carbon.api.util.RenderedMessage;
+import net.draycia.carbon.common.channels.MessagePreprocessor;
+import net.draycia.carbon.common.channels.ProcessedMessage;
+import net.draycia.carbon.common.channels.SpamFilter;
+import net.draycia.carbon.common.messages.CarbonMessages;
 import net.draycia.carbon.sponge.CarbonChatSponge;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.TextReplacementConfig;
-import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -51,27 +51,29 @@ import org.spongepowered.api.event.filter.cause.First;
 import org.spongepowered.api.event.message.PlayerChatEvent;
 import org.spongepowered.api.util.Tristate;
 
-import static java.util.Objects.requireNonNullElse;
 import static net.draycia.carbon.api.util.KeyedRenderer.keyedRenderer;
 import static net.kyori.adventure.key.Key.key;
 import static net.kyori.adventure.text.Component.empty;
-import static net.kyori.adventure.text.Component.text;
 
 @DefaultQualifier(NonNull.class)
 public final class SpongeChatListener {
 
     private final CarbonChatSponge carbonChat;
-    private final ChannelRegistry registry;
-
-    private static final Pattern DEFAULT_URL_PATTERN = Pattern.compile("(?:(https?)://)?([-\\w_.]+\\.\\w{2,})(/\\S*)?");
+    private final MessagePreprocessor preprocessor;
+    private final SpamFilter spamFilter;
+    private final CarbonMessages carbonMessages;
 
     @Inject
     private SpongeChatListener(
         final CarbonChat carbonChat,
-        final ChannelRegistry registry
+        final MessagePreprocessor preprocessor,
+        final SpamFilter spamFilter,
+        final CarbonMessages carbonMessages
     ) {
         this.carbonChat = (CarbonChatSponge) carbonChat;
-        this.registry = registry;
+        this.preprocessor = preprocessor;
+        this.spamFilter = spamFilter;
+        this.carbonMessages = carbonMessages;
     }
 
     @Listener
@@ -84,34 +86,23 @@ public final class SpongeChatListener {
             return;
         }
 
-        var channel = requireNonNullElse(sender.selectedChannel(), this.registry.defaultValue());
-
-        final var messageContents = PlainTextComponentSerializer.plainText().serialize(event.originalMessage());
-        var eventMessage = event.message();
+        final var messageContents = PlainTextComponentSerializer.plainText().serialize(event.message());
 
-        if (sender.hasPermission("carbon.chatlinks")) {
-            eventMessage = eventMessage.replaceText(TextReplacementConfig.builder()
-                .match(DEFAULT_URL_PATTERN)
-                .replacement(builder -> builder.clickEvent(ClickEvent.clickEvent(ClickEvent.Action.OPEN_URL, builder.content())))
-                .build());
+        if (!this.spamFilter.allow(sender, messageContents)) {
+            event.setCancelled(true);
+            return;
         }
 
-        for (final var chatChannel : this.registry) {
-            if (chatChannel.quickPrefix() == null) {
-                continue;
-            }
+        final ProcessedMessage processed = this.preprocessor.process(sender, event.message());
 
-            if (messageContents.startsWith(chatChannel.quickPrefix()) && chatChannel.speechPermitted(sender).permitted()) {
-                channel = chatChannel;
-                eventMessage = eventMessage.replaceText(TextReplacementConfig.builder()
-                    .once()
-                    .matchLiteral(channel.quickPrefix())
-                        .replacement(text())
-                    .build());
-                break;
-            }
+        if (processed.blocked()) {
+            event.setCancelled(true);
+            this.carbonMessages.filterBlocked(sender);
+            return;
         }
 
+        final var channel = processed.channel();
+
         final List<Audience> recipients;
 
         if (event.audience().isPresent()) {
@@ -131,7 +122,7 @@ public final class SpongeChatListener {
         final var renderers = new ArrayList<KeyedRenderer>();
         renderers.add(keyedRenderer(key("carbon", "default"), channel));
 
-        final var chatEvent = new CarbonChatEvent(sender, eventMessage, recipients, renderers, channel, false);
+        final var chatEvent = new CarbonChatEvent(sender, processed.message(), recipients, renderers, channel, false);
         final var result = this.carbonChat.eventHandler().emit(chatEvent);
 
         if (!result.wasSuccessful()) {
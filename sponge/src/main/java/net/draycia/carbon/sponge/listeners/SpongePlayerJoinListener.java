@@ -22,7 +22,9 @@ package net.draycia.carbon.sponge.listeners;
 import com.google.inject.Inject;
 import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.users.UserManager;
+import net.draycia.carbon.common.channels.ChatHistory;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
+import net.draycia.carbon.common.users.MuteExpirations;
 import net.draycia.carbon.common.util.PlayerUtils;
 import net.draycia.carbon.sponge.users.CarbonPlayerSponge;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -35,14 +37,30 @@ public class SpongePlayerJoinListener {
 
     private final CarbonChat carbonChat;
     private final UserManager<CarbonPlayerCommon> userManager;
+    private final ChatHistory chatHistory;
+    private final MuteExpirations muteExpirations;
 
     @Inject
     public SpongePlayerJoinListener(
         final CarbonChat carbonChat,
-        final UserManager<CarbonPlayerCommon> userManager
+        final UserManager<CarbonPlayerCommon> userManager,
+        final ChatHistory chatHistory,
+        final MuteExpirations muteExpirations
     ) {
         this.carbonChat = carbonChat;
         this.userManager = userManager;
+        this.chatHistory = chatHistory;
+        this.muteExpirations = muteExpirations;
+    }
+
+    @Listener
+    public void onPlayerJoin(final ServerSideConnectionEvent.Join event) {
+        this.carbonChat.server().userManager().carbonPlayer(event.player().uniqueId()).thenAccept(result -> {
+            if (result.player() != null) {
+                this.muteExpirations.loaded(result.player());
+                this.chatHistory.replay(result.player());
+            }
+        });
     }
 
     @Listener
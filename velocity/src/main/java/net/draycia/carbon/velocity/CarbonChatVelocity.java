@@ -23,6 +23,7 @@ import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.proxy.ProxyInitializeEvent;
+import com.velocitypowered.api.event.proxy.ProxyShutdownEvent;
 import com.velocitypowered.api.plugin.Dependency;
 import com.velocitypowered.api.plugin.Plugin;
 import com.velocitypowered.api.plugin.PluginContainer;
@@ -35,6 +36,7 @@ import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.CarbonChatProvider;
 import net.draycia.carbon.api.channels.ChannelRegistry;
 import net.draycia.carbon.api.events.CarbonEventHandler;
+import net.draycia.carbon.api.events.CarbonShutdownEvent;
 import net.draycia.carbon.api.util.RenderedMessage;
 import net.draycia.carbon.common.channels.CarbonChannelRegistry;
 import net.draycia.carbon.common.messages.CarbonMessages;
@@ -127,6 +129,11 @@ public class CarbonChatVelocity implements CarbonChat {
         CloudUtils.registerCommands(commandSettings);
     }
 
+    @Subscribe
+    public void onProxyShutdown(final ProxyShutdownEvent event) {
+        this.eventHandler().emit(new CarbonShutdownEvent());
+    }
+
     @Override
     public UUID serverId() {
         return this.serverId;
@@ -22,7 +22,6 @@ package net.draycia.carbon.velocity;
 import cloud.commandframework.CommandManager;
 import cloud.commandframework.execution.AsynchronousCommandExecutionCoordinator;
 import cloud.commandframework.velocity.VelocityCommandManager;
-import cloud.commandframework.velocity.arguments.PlayerArgument;
 import com.google.inject.AbstractModule;
 import com.google.inject.Injector;
 import com.google.inject.Provides;
@@ -38,6 +37,7 @@ import net.draycia.carbon.api.util.SourcedAudience;
 import net.draycia.carbon.common.CarbonCommonModule;
 import net.draycia.carbon.common.ForCarbon;
 import net.draycia.carbon.common.command.Commander;
+import net.draycia.carbon.common.command.argument.OnlinePlayerSuggestions;
 import net.draycia.carbon.common.command.argument.PlayerSuggestions;
 import net.draycia.carbon.velocity.command.VelocityCommander;
 import net.draycia.carbon.velocity.command.VelocityPlayerCommander;
@@ -77,7 +77,7 @@ public final class CarbonChatVelocityModule extends AbstractModule {
         final VelocityCommandManager<Commander> commandManager = new VelocityCommandManager<>(
             this.pluginContainer,
             this.proxyServer,
-            AsynchronousCommandExecutionCoordinator.<Commander>newBuilder().build(),
+            AsynchronousCommandExecutionCoordinator.<Commander>newBuilder().withAsynchronousParsing().build(),
             commandSender -> {
                 if (commandSender instanceof Player player) {
                     return new VelocityPlayerCommander(this.carbonChatVelocity, player);
@@ -114,7 +114,7 @@ public final class CarbonChatVelocityModule extends AbstractModule {
         this.bind(Logger.class).toInstance(this.logger);
         this.bind(Path.class).annotatedWith(ForCarbon.class).toInstance(this.dataDirectory);
         this.bind(CarbonServer.class).to(CarbonServerVelocity.class);
-        this.bind(PlayerSuggestions.class).toInstance(new PlayerArgument.PlayerParser<Commander>()::suggestions);
+        this.bind(PlayerSuggestions.class).to(OnlinePlayerSuggestions.class);
     }
 
 }
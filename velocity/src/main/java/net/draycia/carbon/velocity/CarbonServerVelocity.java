@@ -19,17 +19,8 @@
  */
 package net.draycia.carbon.velocity;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.google.inject.Inject;
 import com.velocitypowered.api.proxy.ProxyServer;
-import com.velocitypowered.api.util.UuidUtils;
-import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -38,7 +29,7 @@ import net.draycia.carbon.api.CarbonServer;
 import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.api.users.UserManager;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
-import net.draycia.carbon.common.util.FastUuidSansHyphens;
+import net.draycia.carbon.common.users.profiles.ProfileCache;
 import net.draycia.carbon.velocity.users.CarbonPlayerVelocity;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
@@ -53,13 +44,17 @@ public final class CarbonServerVelocity implements CarbonServer, ForwardingAudie
     private final ProxyServer server;
     private final UserManager<CarbonPlayerVelocity> userManager;
 
-    private final HttpClient client = HttpClient.newHttpClient();
-    private final Gson gson = new Gson();
+    private final ProfileCache profileCache;
 
     @Inject
-    private CarbonServerVelocity(final ProxyServer server, final UserManager<CarbonPlayerCommon> userManager) {
+    private CarbonServerVelocity(
+        final ProxyServer server,
+        final UserManager<CarbonPlayerCommon> userManager,
+        final ProfileCache profileCache
+    ) {
         this.server = server;
         this.userManager = new VelocityUserManager(userManager, server);
+        this.profileCache = profileCache;
     }
 
     @Override
@@ -94,62 +89,24 @@ public final class CarbonServerVelocity implements CarbonServer, ForwardingAudie
 
     @Override
     public CompletableFuture<@Nullable UUID> resolveUUID(final String username) {
-        return CompletableFuture.supplyAsync(() -> {
-            final var serverPlayer = this.server.getPlayer(username);
+        final var serverPlayer = this.server.getPlayer(username);
 
-            if (serverPlayer.isPresent()) {
-                return serverPlayer.get().getUniqueId();
-            }
-
-            try {
-                final @Nullable JsonObject json = this.queryMojang(new URI("https://api.mojang.com/users/profiles/minecraft/" + username));
-
-                return FastUuidSansHyphens.parseUuid(json.get("id").getAsString());
-            } catch (final URISyntaxException exception) {
-                exception.printStackTrace();
-            }
+        if (serverPlayer.isPresent()) {
+            return CompletableFuture.completedFuture(serverPlayer.get().getUniqueId());
+        }
 
-            return null;
-        });
+        return this.profileCache.uuid(username);
     }
 
     @Override
     public CompletableFuture<@Nullable String> resolveName(final UUID uuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            final var serverPlayer = this.server.getPlayer(uuid);
-
-            if (serverPlayer.isPresent()) {
-                return serverPlayer.get().getUsername();
-            }
+        final var serverPlayer = this.server.getPlayer(uuid);
 
-            try {
-                final @Nullable JsonObject json = this.queryMojang(new URI("https://sessionserver.mojang.com/session/minecraft/profile/" + UuidUtils.toUndashed(uuid)));
-
-                return json.get("name").getAsString();
-            } catch (final URISyntaxException exception) {
-                exception.printStackTrace();
-            }
-
-            return null;
-        });
-    }
-
-    private @Nullable JsonObject queryMojang(final URI uri) {
-        final HttpRequest request = HttpRequest
-            .newBuilder(uri)
-            .GET()
-            .build();
-
-        try {
-            final HttpResponse<String> response =
-                this.client.send(request, HttpResponse.BodyHandlers.ofString());
-            final String mojangResponse = response.body();
-
-            return this.gson.fromJson(mojangResponse, JsonObject.class);
-        } catch (IOException | InterruptedException e) {
-            e.printStackTrace();
-            return null;
+        if (serverPlayer.isPresent()) {
+            return CompletableFuture.completedFuture(serverPlayer.get().getUsername());
         }
+
+        return this.profileCache.name(uuid);
     }
 
 }
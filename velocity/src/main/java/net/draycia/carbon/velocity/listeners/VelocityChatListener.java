@@ -23,42 +23,46 @@ import com.google.inject.Inject;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.player.PlayerChatEvent;
 import java.util.ArrayList;
-import java.util.regex.Pattern;
 import net.draycia.carbon.api.CarbonChat;
-import net.draycia.carbon.api.channels.ChannelRegistry;
 import net.draycia.carbon.api.events.CarbonChatEvent;
 import net.draycia.carbon.api.users.CarbonPlayer;
 import net.draycia.carbon.api.users.ComponentPlayerResult;
 import net.draycia.carbon.api.util.KeyedRenderer;
 import net.draycia.carbon.api.util.RenderedMessage;
+import net.draycia.carbon.common.channels.MessagePreprocessor;
+import net.draycia.carbon.common.channels.ProcessedMessage;
+import net.draycia.carbon.common.channels.SpamFilter;
+import net.draycia.carbon.common.messages.CarbonMessages;
 import net.draycia.carbon.velocity.CarbonChatVelocity;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.identity.Identity;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.TextReplacementConfig;
-import net.kyori.adventure.text.event.ClickEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
 
-import static java.util.Objects.requireNonNullElse;
 import static net.draycia.carbon.api.util.KeyedRenderer.keyedRenderer;
 import static net.kyori.adventure.key.Key.key;
 import static net.kyori.adventure.text.Component.empty;
-import static net.kyori.adventure.text.Component.text;
 
 @DefaultQualifier(NonNull.class)
 public final class VelocityChatListener {
 
     private final CarbonChatVelocity carbonChat;
-    private final ChannelRegistry registry;
-
-    private static final Pattern DEFAULT_URL_PATTERN = Pattern.compile("(?:(https?)://)?([-\\w_.]+\\.\\w{2,})(/\\S*)?");
+    private final MessagePreprocessor preprocessor;
+    private final SpamFilter spamFilter;
+    private final CarbonMessages carbonMessages;
 
     @Inject
-    private VelocityChatListener(final CarbonChat carbonChat, final ChannelRegistry registry) {
+    private VelocityChatListener(
+        final CarbonChat carbonChat,
+        final MessagePreprocessor preprocessor,
+        final SpamFilter spamFilter,
+        final CarbonMessages carbonMessages
+    ) {
         this.carbonChat = (CarbonChatVelocity) carbonChat;
-        this.registry = registry;
+        this.preprocessor = preprocessor;
+        this.spamFilter = spamFilter;
+        this.carbonMessages = carbonMessages;
     }
 
     @Subscribe
@@ -76,40 +80,27 @@ public final class VelocityChatListener {
             return;
         }
 
-        var channel = requireNonNullElse(sender.selectedChannel(), this.registry.defaultValue());
-
         final var originalMessage = event.getResult().getMessage().orElse(event.getMessage());
-        Component eventMessage = text(originalMessage);
 
-        if (sender.hasPermission("carbon.chatlinks")) {
-            eventMessage = eventMessage.replaceText(TextReplacementConfig.builder()
-                .match(DEFAULT_URL_PATTERN)
-                .replacement(builder -> builder.clickEvent(ClickEvent.clickEvent(ClickEvent.Action.OPEN_URL, builder.content())))
-                .build());
+        if (!this.spamFilter.allow(sender, originalMessage)) {
+            return;
         }
 
-        for (final var chatChannel : this.registry) {
-            if (chatChannel.quickPrefix() == null) {
-                continue;
-            }
+        final ProcessedMessage processed = this.preprocessor.process(sender, originalMessage);
 
-            if (originalMessage.startsWith(chatChannel.quickPrefix()) && chatChannel.speechPermitted(sender).permitted()) {
-                channel = chatChannel;
-                eventMessage = eventMessage.replaceText(TextReplacementConfig.builder()
-                    .once()
-                    .matchLiteral(channel.quickPrefix())
-                    .replacement(text())
-                    .build());
-                break;
-            }
+        if (processed.blocked()) {
+            this.carbonMessages.filterBlocked(sender);
+            return;
         }
 
+        final var channel = processed.channel();
+
         final var recipients = channel.recipients(sender);
 
         final var renderers = new ArrayList<KeyedRenderer>();
         renderers.add(keyedRenderer(key("carbon", "default"), channel));
 
-        final var chatEvent = new CarbonChatEvent(sender, eventMessage, recipients, renderers, channel, false);
+        final var chatEvent = new CarbonChatEvent(sender, processed.message(), recipients, renderers, channel, false);
         final var result = this.carbonChat.eventHandler().emit(chatEvent);
 
         if (!result.wasSuccessful()) {
@@ -22,9 +22,15 @@ package net.draycia.carbon.velocity.listeners;
 import com.google.inject.Inject;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.connection.PostLoginEvent;
+import com.velocitypowered.api.event.player.ServerPostConnectEvent;
 import net.draycia.carbon.api.CarbonChat;
 import net.draycia.carbon.api.users.UserManager;
+import net.draycia.carbon.common.channels.ChatHistory;
+import net.draycia.carbon.common.command.argument.OnlinePlayerSuggestions;
 import net.draycia.carbon.common.users.CarbonPlayerCommon;
+import net.draycia.carbon.common.users.MuteExpirations;
+import net.draycia.carbon.common.users.profiles.ProfileCache;
 import net.draycia.carbon.common.util.PlayerUtils;
 import net.draycia.carbon.velocity.users.CarbonPlayerVelocity;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -35,18 +41,57 @@ public class VelocityPlayerJoinListener {
 
     private final CarbonChat carbonChat;
     private final UserManager<CarbonPlayerCommon> userManager;
+    private final OnlinePlayerSuggestions onlinePlayers;
+    private final ChatHistory chatHistory;
+    private final ProfileCache profileCache;
+    private final MuteExpirations muteExpirations;
 
     @Inject
     public VelocityPlayerJoinListener(
         final CarbonChat carbonChat,
-        final UserManager<CarbonPlayerCommon> userManager
+        final UserManager<CarbonPlayerCommon> userManager,
+        final OnlinePlayerSuggestions onlinePlayers,
+        final ChatHistory chatHistory,
+        final ProfileCache profileCache,
+        final MuteExpirations muteExpirations
     ) {
         this.carbonChat = carbonChat;
         this.userManager = userManager;
+        this.onlinePlayers = onlinePlayers;
+        this.chatHistory = chatHistory;
+        this.profileCache = profileCache;
+        this.muteExpirations = muteExpirations;
+    }
+
+    @Subscribe
+    public void onPlayerJoin(final PostLoginEvent event) {
+        this.onlinePlayers.playerJoined(event.getPlayer().getUsername());
+
+        // Offline mode UUIDs don't belong to the Mojang profile with the same name
+        if (event.getPlayer().isOnlineMode()) {
+            this.profileCache.remember(event.getPlayer().getUniqueId(), event.getPlayer().getUsername());
+        }
+    }
+
+    @Subscribe
+    public void onServerConnected(final ServerPostConnectEvent event) {
+        // Only on joining, the client keeps its chat when switching backend servers
+        if (event.getPreviousServer() != null) {
+            return;
+        }
+
+        this.carbonChat.server().userManager().carbonPlayer(event.getPlayer().getUniqueId()).thenAccept(result -> {
+            if (result.player() != null) {
+                this.muteExpirations.loaded(result.player());
+                this.chatHistory.replay(result.player());
+            }
+        });
     }
 
     @Subscribe
     public void onPlayerLeave(final DisconnectEvent event) {
+        this.onlinePlayers.playerLeft(event.getPlayer().getUsername());
+
         this.carbonChat.server().userManager().carbonPlayer(event.getPlayer().getUniqueId()).thenAccept(result -> {
             if (result.player() == null) {
                 return;